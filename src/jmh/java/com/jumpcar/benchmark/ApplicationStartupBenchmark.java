@@ -0,0 +1,102 @@
+package com.jumpcar.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start of the packaged application: time from process launch until {@code /health}
+ * answers, and resident memory (Linux {@code VmRSS}) at that point, printed per start. Each
+ * {@code mode} runs an artifact copied to {@code target/startup} beforehand (see README
+ * "Native image and AOT"): the plain jar, the AOT-optimized jar and the native executable.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ApplicationStartupBenchmark {
+
+    private static final int PORT = 18080;
+    private static final Duration START_TIMEOUT = Duration.ofSeconds(60);
+    private static final String IN_MEMORY_DB = "jdbc:h2:mem:startup;DB_CLOSE_DELAY=-1";
+
+    @Param({"jvm", "aot", "native"})
+    String mode;
+
+    private HttpClient httpClient;
+    private HttpRequest healthRequest;
+    private List<String> command;
+    private Process process;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var directory = Path.of("target", "startup");
+        this.command = switch (this.mode) {
+            case "jvm" -> List.of("java", "-jar", directory.resolve("jvm.jar").toString());
+            case "aot" -> List.of("java", "-jar", directory.resolve("aot.jar").toString());
+            case "native" -> List.of(directory.resolve("jumpcar").toString());
+            default -> throw new IllegalArgumentException("Unknown mode: " + this.mode);
+        };
+        if (!Files.exists(Path.of(this.command.get(this.command.size() - 1)))) {
+            throw new IllegalStateException("Missing artifact for " + this.mode + ": " + this.command);
+        }
+        this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(100)).build();
+        this.healthRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + PORT + "/api/jump-car/v1/health")).build();
+    }
+
+    @Benchmark
+    public int startUntilHealthy() throws IOException, InterruptedException {
+        var builder = new ProcessBuilder(this.command).redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        builder.environment().put("MICRONAUT_SERVER_PORT", String.valueOf(PORT));
+        builder.environment().put("DATASOURCES_DEFAULT_URL", IN_MEMORY_DB);
+        builder.environment().put("DATASOURCES_REPLICA_URL", IN_MEMORY_DB);
+        this.process = builder.start();
+
+        long deadline = System.nanoTime() + START_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!this.process.isAlive()) {
+                throw new IllegalStateException(this.mode + " exited with " + this.process.exitValue());
+            }
+            try {
+                var response = this.httpClient.send(this.healthRequest, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return response.statusCode();
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException(this.mode + " not healthy after " + START_TIMEOUT);
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() throws IOException, InterruptedException {
+        if (this.process == null) {
+            return;
+        }
+        var status = Path.of("/proc", String.valueOf(this.process.pid()), "status");
+        if (Files.exists(status)) {
+            Files.readAllLines(status).stream()
+                    .filter(line -> line.startsWith("VmRSS:"))
+                    .findFirst()
+                    .ifPresent(line -> System.out.printf("%n%s %s%n", this.mode, line.replaceAll("\\s+", " ")));
+        }
+        this.process.destroy();
+        if (!this.process.waitFor(10, TimeUnit.SECONDS)) {
+            this.process.destroyForcibly().waitFor();
+        }
+        this.process = null;
+    }
+}
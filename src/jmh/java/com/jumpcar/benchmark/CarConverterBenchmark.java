@@ -0,0 +1,49 @@
+package com.jumpcar.benchmark;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.entity.Car;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.jumpcar.workflow.converter.CarConverter.INSTANCE;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CarConverterBenchmark {
+
+    @Param({"1000", "100000"})
+    int rows;
+
+    private List<Car> cars;
+    private Car car;
+    private CarDTO carDTO;
+
+    @Setup
+    public void setUp() {
+        this.cars = CarFixtures.cars(this.rows);
+        this.car = CarFixtures.car(1);
+        this.carDTO = CarFixtures.carDTO(1);
+    }
+
+    @Benchmark
+    public CarDTO toCarDTO() {
+        return INSTANCE.toCarDTO(this.car);
+    }
+
+    @Benchmark
+    public Car toCar() {
+        return INSTANCE.toCar(this.carDTO);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<CarDTO> toCarDTOList() {
+        return INSTANCE.toCarDTO(this.cars);
+    }
+}
@@ -0,0 +1,64 @@
+package com.jumpcar.benchmark;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.entity.Car;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class CarFixtures {
+
+    private static final String[] MANUFACTURERS = {"FIAT", "TOYOTA", "HONDA", "VOLKSWAGEN", "CHEVROLET", "FORD"};
+    private static final String[] MODELS = {"UNO", "COROLLA", "CIVIC", "GOL", "ONIX", "KA", "PALIO", "HB20"};
+    private static final String[] COLORS = {"RED", "BLACK", "WHITE", "SILVER", "BLUE"};
+    private static final String[] ENGINES = {"1.0", "1.4", "1.6", "2.0"};
+
+    private CarFixtures() {
+    }
+
+    static String chassis(long i) {
+        return String.format("9BW%014d", i);
+    }
+
+    static CarDTO carDTO(long i) {
+        return CarDTO.builder()
+                .id(i)
+                .manufacturer(MANUFACTURERS[(int) (i % MANUFACTURERS.length)])
+                .model(MODELS[(int) (i % MODELS.length)])
+                .color(COLORS[(int) (i % COLORS.length)])
+                .engine(ENGINES[(int) (i % ENGINES.length)])
+                .chassis(chassis(i))
+                .build();
+    }
+
+    static Car car(long i) {
+        var now = LocalDateTime.now();
+        return Car.builder()
+                .id(i)
+                .manufacturer(MANUFACTURERS[(int) (i % MANUFACTURERS.length)])
+                .model(MODELS[(int) (i % MODELS.length)])
+                .color(COLORS[(int) (i % COLORS.length)])
+                .engine(ENGINES[(int) (i % ENGINES.length)])
+                .chassis(chassis(i))
+                .dateCreated(now)
+                .dateUpdated(now)
+                .build();
+    }
+
+    static List<CarDTO> carDTOs(int rows) {
+        var cars = new ArrayList<CarDTO>(rows);
+        for (long i = 1; i <= rows; i++) {
+            cars.add(carDTO(i));
+        }
+        return cars;
+    }
+
+    static List<Car> cars(int rows) {
+        var cars = new ArrayList<Car>(rows);
+        for (long i = 1; i <= rows; i++) {
+            cars.add(car(i));
+        }
+        return cars;
+    }
+}
@@ -0,0 +1,100 @@
+package com.jumpcar.benchmark;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.workflow.snapshot.CarFleetSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Heap per million cars and scan cost of {@link CarFleetSnapshot} against the {@code List<CarDTO>}
+ * the services keep today. Retained heap of each structure is measured once per trial, as used heap
+ * after a full GC with and without it, and printed in bytes per car. The DTOs get their own copy
+ * of every string, as they do when read through JDBC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class CarFleetSnapshotBenchmark {
+
+    @Param({"1000000"})
+    int rows;
+
+    private List<CarDTO> cars;
+    private CarFleetSnapshot snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long baseline = usedHeapAfterGc();
+        this.cars = new ArrayList<>(this.rows);
+        for (long i = 1; i <= this.rows; i++) {
+            this.cars.add(copyStrings(CarFixtures.carDTO(i)));
+        }
+        long withList = usedHeapAfterGc();
+
+        var builder = CarFleetSnapshot.builder(this.rows);
+        this.cars.forEach(builder::add);
+        this.snapshot = builder.build();
+        long withBoth = usedHeapAfterGc();
+
+        System.out.printf("%nList<CarDTO>: %d bytes/car, CarFleetSnapshot: %d bytes/car (%d cars)%n",
+                (withList - baseline) / this.rows, (withBoth - withList) / this.rows, this.rows);
+    }
+
+    @Benchmark
+    public Map<String, Long> countByManufacturerList() {
+        return this.cars.stream().collect(Collectors.groupingBy(CarDTO::getManufacturer, Collectors.counting()));
+    }
+
+    @Benchmark
+    public Map<String, Long> countByManufacturerSnapshot() {
+        return this.snapshot.countBy(CarFleetSnapshot.Attribute.MANUFACTURER);
+    }
+
+    @Benchmark
+    public long filterByColorList() {
+        return this.cars.stream().filter(car -> "RED".equalsIgnoreCase(car.getColor())).count();
+    }
+
+    @Benchmark
+    public int filterByColorSnapshot() {
+        BitSet rows = this.snapshot.rowsWhere(CarFleetSnapshot.Attribute.COLOR, "red");
+        return rows.cardinality();
+    }
+
+    @Benchmark
+    public long searchChassisList() {
+        return this.cars.stream().filter(car -> car.getChassis().contains("99999")).count();
+    }
+
+    @Benchmark
+    public int searchChassisSnapshot() {
+        return this.snapshot.rowsWithChassisContaining("99999").cardinality();
+    }
+
+    private static CarDTO copyStrings(CarDTO car) {
+        return car.toBuilder()
+                .model(new String(car.getModel()))
+                .manufacturer(new String(car.getManufacturer()))
+                .color(new String(car.getColor()))
+                .engine(new String(car.getEngine()))
+                .build();
+    }
+
+    private static long usedHeapAfterGc() {
+        var memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
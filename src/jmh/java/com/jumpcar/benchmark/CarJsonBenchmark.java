@@ -0,0 +1,77 @@
+package com.jumpcar.benchmark;
+
+import com.github.luben.zstd.Zstd;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.workflow.codec.CborMessageBodyWriter;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.MediaType;
+import io.micronaut.serde.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static com.jumpcar.AppConstants.APPLICATION_CBOR;
+
+/**
+ * Serde encoding of {@link CarDTO} lists, i.e. the cost of a fully materialized list response:
+ * plain JSON, JSON compressed the way the server negotiates it (gzip level 6, zstd level 3) and
+ * CBOR. Payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CarJsonBenchmark {
+
+    private static final Argument<List<CarDTO>> CAR_LIST = Argument.listOf(CarDTO.class);
+
+    @Param({"1000", "100000", "1000000"})
+    int rows;
+
+    private ObjectMapper objectMapper;
+    private CborMessageBodyWriter cborWriter;
+    private List<CarDTO> cars;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.objectMapper = ObjectMapper.getDefault();
+        this.cborWriter = new CborMessageBodyWriter(this.objectMapper);
+        this.cars = CarFixtures.carDTOs(this.rows);
+        System.out.printf("%nrows=%d bytes: json=%d json+gzip=%d json+zstd=%d cbor=%d%n", this.rows,
+                this.encodeList().length, this.encodeListGzip().length,
+                this.encodeListZstd().length, this.encodeListCbor().length);
+    }
+
+    @Benchmark
+    public byte[] encodeList() throws IOException {
+        return this.objectMapper.writeValueAsBytes(CAR_LIST, this.cars);
+    }
+
+    @Benchmark
+    public byte[] encodeListGzip() throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(out) {{ this.def.setLevel(6); }}) {
+            gzip.write(this.encodeList());
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encodeListZstd() throws IOException {
+        return Zstd.compress(this.encodeList(), 3);
+    }
+
+    @Benchmark
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public byte[] encodeListCbor() {
+        var out = new ByteArrayOutputStream();
+        this.cborWriter.writeTo((Argument) CAR_LIST, MediaType.of(APPLICATION_CBOR), this.cars, null, out);
+        return out.toByteArray();
+    }
+}
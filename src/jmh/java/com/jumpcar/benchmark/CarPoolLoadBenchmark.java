@@ -0,0 +1,74 @@
+package com.jumpcar.benchmark;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.service.CarBatchService;
+import com.jumpcar.domain.service.CarService;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of database-bound {@link CarService} reads with 256 concurrent callers, comparing
+ * Hikari and H2 defaults ({@code baseline}) with the pool settings from {@code application.yml}
+ * and {@code application-prod.yml} ({@code tuned}). {@code /pool/stats} on a running instance
+ * shows the same waiting-connection and acquisition-latency numbers this load produces.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(256)
+@Fork(1)
+public class CarPoolLoadBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"baseline", "tuned"})
+    String pool;
+
+    private ApplicationContext context;
+    private CarService carService;
+
+    @Setup
+    public void setUp() {
+        var properties = new HashMap<String, Object>(Map.of(
+                "jpa.default.properties.hibernate.hbm2ddl.auto", "create-drop",
+                "car.cache.maximum-size", 0,
+                "car.concurrency.acquire-timeout", "60s"));
+        if ("tuned".equals(this.pool)) {
+            properties.put("datasources.default.url", "jdbc:h2:mem:jmh-pool;DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=64");
+            properties.put("datasources.default.maximum-pool-size", 20);
+            properties.put("datasources.default.minimum-idle", 20);
+        } else {
+            properties.put("datasources.default.url", "jdbc:h2:mem:jmh-pool;DB_CLOSE_DELAY=-1");
+            properties.put("datasources.default.maximum-pool-size", 10);
+            properties.put("datasources.default.minimum-idle", 1);
+            properties.put("datasources.default.connection-timeout", 30000);
+        }
+        this.context = ApplicationContext.run(properties);
+        this.carService = this.context.getBean(CarService.class);
+        this.context.getBean(CarBatchService.class).newCarBatch(CarFixtures.carDTOs(ROWS));
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public CarDTO getCarByChassis() {
+        return this.carService.getCarByChassis(CarFixtures.chassis(ThreadLocalRandom.current().nextInt(1, ROWS + 1)));
+    }
+
+    @Benchmark
+    public List<CarDTO> searchCarByChassis() {
+        return this.carService.searchCarByChassis(String.valueOf(ThreadLocalRandom.current().nextInt(100, 1000)), 0, PAGE_SIZE);
+    }
+}
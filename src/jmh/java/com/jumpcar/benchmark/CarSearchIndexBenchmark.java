@@ -0,0 +1,50 @@
+package com.jumpcar.benchmark;
+
+import com.jumpcar.domain.model.dto.CarSearchCriteriaDTO;
+import com.jumpcar.domain.model.dto.CarSearchResultDTO;
+import com.jumpcar.workflow.search.CarSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CarSearchIndex} queries over a fully loaded index; the target is under 10 ms at one
+ * million cars, facets included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class CarSearchIndexBenchmark {
+
+    @Param({"100000", "1000000"})
+    int rows;
+
+    private CarSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        this.index = new CarSearchIndex();
+        for (long i = 1; i <= this.rows; i++) {
+            this.index.put(CarFixtures.carDTO(i));
+        }
+    }
+
+    @Benchmark
+    public CarSearchResultDTO multiFieldFilter() {
+        return this.index.search(CarSearchCriteriaDTO.builder()
+                .manufacturer("fiat").color("red").engine("1.0").page(0).size(20).build());
+    }
+
+    @Benchmark
+    public CarSearchResultDTO prefixFreeText() {
+        return this.index.search(CarSearchCriteriaDTO.builder().q("vol bl").page(0).size(20).build());
+    }
+
+    @Benchmark
+    public CarSearchResultDTO facetsOnly() {
+        return this.index.search(CarSearchCriteriaDTO.builder().page(0).size(20).build());
+    }
+}
@@ -0,0 +1,77 @@
+package com.jumpcar.benchmark;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.dto.CarScrollDTO;
+import com.jumpcar.domain.service.CarBatchService;
+import com.jumpcar.domain.service.CarService;
+import com.jumpcar.workflow.converter.CursorConverter;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.data.model.Page;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link CarService} against an in-memory H2, with the chassis cache disabled so lookups
+ * measure the database path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CarServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "100000"})
+    int rows;
+
+    private ApplicationContext context;
+    private CarService carService;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        this.context = ApplicationContext.run(Map.of(
+                "datasources.default.url", "jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+                "jpa.default.properties.hibernate.hbm2ddl.auto", "create-drop",
+                "car.cache.maximum-size", 0));
+        this.carService = this.context.getBean(CarService.class);
+        this.context.getBean(CarBatchService.class).newCarBatch(CarFixtures.carDTOs(this.rows));
+        this.sequence.set(this.rows);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public CarDTO getCarByChassis() {
+        return this.carService.getCarByChassis(CarFixtures.chassis(this.randomRow()));
+    }
+
+    @Benchmark
+    public CarDTO newCar() {
+        return this.carService.newCar(CarFixtures.carDTO(this.sequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public Page<CarDTO> listAllCarWithPagination() {
+        return this.carService.listAllCarWithPagination(this.randomRow() / PAGE_SIZE, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CarScrollDTO scrollCar() {
+        return this.carService.scrollCar(CursorConverter.encode(this.randomRow()), PAGE_SIZE);
+    }
+
+    private int randomRow() {
+        return ThreadLocalRandom.current().nextInt(1, this.rows + 1);
+    }
+}
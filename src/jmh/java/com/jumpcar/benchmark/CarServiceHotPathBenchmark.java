@@ -0,0 +1,87 @@
+package com.jumpcar.benchmark;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.service.CarBatchService;
+import com.jumpcar.domain.service.CarService;
+import com.jumpcar.workflow.cache.CarCache;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.data.model.Page;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-request overhead of the {@link CarService} paths that used to log at INFO: {@code newCar},
+ * a chassis lookup that misses the cache, and a pagination page. Run it on two revisions with
+ * {@code -prof gc} and compare {@code gc.alloc.rate.norm}, which shows what the request path
+ * itself allocates: logging, timing, normalization and exception messages. The warm-cache lookup
+ * is kept as a baseline. The cache-miss case invalidates the entry first, which is included in
+ * its score.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CarServiceHotPathBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final int PAGE_SIZE = 20;
+
+    private ApplicationContext context;
+    private CarService carService;
+    private CarCache carCache;
+    private String[] chassis;
+    private final AtomicLong sequence = new AtomicLong(ROWS);
+
+    @Setup
+    public void setUp() {
+        this.context = ApplicationContext.run(Map.of(
+                "datasources.default.url", "jdbc:h2:mem:jmh-hot;DB_CLOSE_DELAY=-1",
+                "jpa.default.properties.hibernate.hbm2ddl.auto", "create-drop"));
+        this.carService = this.context.getBean(CarService.class);
+        this.carCache = this.context.getBean(CarCache.class);
+        this.context.getBean(CarBatchService.class).newCarBatch(CarFixtures.carDTOs(ROWS));
+
+        this.chassis = new String[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            this.chassis[i] = CarFixtures.chassis(i + 1);
+            this.carService.getCarByChassis(this.chassis[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public CarDTO getCarByChassisCacheHit() {
+        return this.carService.getCarByChassis(this.randomChassis());
+    }
+
+    @Benchmark
+    public CarDTO getCarByChassisCacheMiss() {
+        var chassis = this.randomChassis();
+        this.carCache.invalidate(chassis);
+        return this.carService.getCarByChassis(chassis);
+    }
+
+    @Benchmark
+    public CarDTO newCar() {
+        return this.carService.newCar(CarFixtures.carDTO(this.sequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public Page<CarDTO> listAllCarWithPagination() {
+        return this.carService.listAllCarWithPagination(ThreadLocalRandom.current().nextInt(ROWS / PAGE_SIZE), PAGE_SIZE);
+    }
+
+    private String randomChassis() {
+        return this.chassis[ThreadLocalRandom.current().nextInt(ROWS)];
+    }
+}
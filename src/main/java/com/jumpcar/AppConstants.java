@@ -2,4 +2,9 @@ package com.jumpcar;
 
 public class AppConstants {
     public static final String UNKNOWN_ERROR_DATA = "Unknown error when processing data";
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final String EXCEPTION_METRIC = "car.exceptions";
+    public static final String READ_CONSISTENCY_HEADER = "X-Read-Consistency";
+    public static final String READ_CONSISTENCY_STRONG = "strong";
 }
@@ -0,0 +1,31 @@
+package com.jumpcar.controller;
+
+import com.jumpcar.domain.model.dto.CacheStatsDTO;
+import com.jumpcar.workflow.cache.CarCache;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.inject.Inject;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "Cache")
+@Controller(value = "cache")
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+public class CacheController {
+
+    private final CarCache carCache;
+
+    @Get(value = "/car/stats", produces = "application/json")
+    @Operation(summary = "Car cache statistics", description = "Hit, miss and eviction counters of the chassis lookup cache")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cache statistics"),
+            @ApiResponse(responseCode = "500", description = "Cache - Internal Server Error")
+    })
+    HttpResponse<CacheStatsDTO> getCarCacheStats() {
+        return HttpResponse.ok(this.carCache.stats());
+    }
+}
@@ -1,10 +1,32 @@
 package com.jumpcar.controller;
 
+import com.jumpcar.domain.model.dto.CarBatchResultDTO;
+import com.jumpcar.domain.model.dto.CarBatchSummaryDTO;
+import com.jumpcar.domain.model.dto.CarChangeDTO;
+import com.jumpcar.domain.model.dto.CarChangeFeedDTO;
 import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.dto.CarScrollDTO;
+import com.jumpcar.domain.model.dto.CarSearchCriteriaDTO;
+import com.jumpcar.domain.model.dto.CarSearchResultDTO;
+import com.jumpcar.domain.model.dto.CarStatsDTO;
+import com.jumpcar.domain.service.CarBatchService;
+import com.jumpcar.domain.service.CarChangeService;
+import com.jumpcar.domain.service.CarExportService;
+import com.jumpcar.domain.service.CarProjectionService;
+import com.jumpcar.domain.service.CarSearchService;
 import com.jumpcar.domain.service.CarService;
+import com.jumpcar.domain.service.CarStatsService;
+import com.jumpcar.workflow.converter.CursorConverter;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.model.Page;
+import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.*;
+import io.micronaut.http.sse.Event;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,15 +34,31 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.inject.Inject;
 import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import static com.jumpcar.AppConstants.APPLICATION_CBOR;
+import static com.jumpcar.AppConstants.APPLICATION_NDJSON;
+import static com.jumpcar.workflow.conditional.ConditionalRequests.*;
 
 @Tag(name = "Car")
 @Controller(value = "car")
+@ExecuteOn(TaskExecutors.VIRTUAL)
+@Requires(property = "car.blocking.enabled", notEquals = "false")
 @RequiredArgsConstructor(onConstructor = @__(@Inject))
 public class CarController {
 
     private final CarService carService;
+    private final CarExportService carExportService;
+    private final CarBatchService carBatchService;
+    private final CarSearchService carSearchService;
+    private final CarChangeService carChangeService;
+    private final CarStatsService carStatsService;
+    private final CarProjectionService carProjectionService;
 
     @Post(produces = "application/json")
     @Operation(summary = "New Car", description = "New Car")
@@ -32,37 +70,207 @@ public class CarController {
         return HttpResponse.created(this.carService.newCar(carDTO));
     }
 
-    @Get(produces = "application/json")
-    @Operation(summary = "Get all Car", description = "Get all Car - no pagination")
+    @Post(value = "/batch", consumes = MediaType.APPLICATION_JSON, produces = MediaType.APPLICATION_JSON)
+    @Operation(summary = "New Car batch", description = "New Car batch - JSON array, inserted in chunks with one result per item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Car batch processed, check each item status"),
+            @ApiResponse(responseCode = "400", description = "Invalid car batch"),
+            @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
+    })
+    HttpResponse<List<CarBatchResultDTO>> newCarBatch(@RequestBody @Body List<CarDTO> cars) {
+        return HttpResponse.ok(this.carBatchService.newCarBatch(cars));
+    }
+
+    @Post(value = "/batch", consumes = APPLICATION_NDJSON, produces = APPLICATION_NDJSON)
+    @Operation(summary = "New Car batch stream", description = "New Car batch - NDJSON stream, inserted in chunks with one result line per item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Car batch processed, check each item status"),
+            @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
+    })
+    HttpResponse<Publisher<CarBatchResultDTO>> newCarBatchStream(@RequestBody @Body Publisher<CarDTO> cars) {
+        return HttpResponse.ok(this.carBatchService.newCarBatchStream(cars));
+    }
+
+    @Put(value = "/batch", consumes = MediaType.APPLICATION_JSON, produces = MediaType.APPLICATION_JSON)
+    @Operation(summary = "Upsert Car batch", description = "Upsert Car batch by chassis - inserts new cars and replaces existing ones, in chunks")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Car batch processed, check counts and failures"),
+            @ApiResponse(responseCode = "400", description = "Invalid car batch"),
+            @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
+    })
+    HttpResponse<CarBatchSummaryDTO> upsertCarBatch(@RequestBody @Body List<CarDTO> cars) {
+        return HttpResponse.ok(this.carBatchService.upsertCarBatch(cars));
+    }
+
+    @Delete(value = "/batch", consumes = MediaType.APPLICATION_JSON, produces = MediaType.APPLICATION_JSON)
+    @Operation(summary = "Delete Car batch", description = "Delete Car batch - JSON array of chassis, deleted in chunks; the chassis of a chunk that failed are listed in failures")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Car batch deleted, check counts and failures"),
+            @ApiResponse(responseCode = "400", description = "Invalid chassis batch"),
+            @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
+    })
+    HttpResponse<CarBatchSummaryDTO> deleteCarBatch(@RequestBody @Body List<String> chassis) {
+        return HttpResponse.ok(this.carBatchService.deleteCarBatch(chassis));
+    }
+
+    @Get(produces = {MediaType.APPLICATION_JSON, APPLICATION_NDJSON})
+    @Operation(summary = "Get all Car", description = "Get all Car - no pagination, streamed as a chunked JSON array or NDJSON; fields=chassis,model returns only those fields")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Car search successfully"),
+            @ApiResponse(responseCode = "304", description = "Car list not modified since the given weak ETag"),
+            @ApiResponse(responseCode = "400", description = "Unknown field"),
             @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
     })
-    HttpResponse<List<CarDTO>> getAllCars() {
-        return HttpResponse.ok(this.carService.listAllCar());
+    HttpResponse<Publisher<CarDTO>> getAllCars(@Nullable @QueryValue String fields, HttpRequest<?> request) {
+        // tagged from the same database the body is read from
+        var state = isBlank(fields) ? this.carService.getCarListState() : this.carProjectionService.getCarListState();
+        var opaque = state.getCount() + "-" + state.getMaxId() + "-" + state.getVersionSum();
+        var etag = weakETag(isBlank(fields) ? opaque : opaque + "-" + fields);
+        if (isNotModified(request, etag, null)) {
+            return withValidators(HttpResponse.notModified(), etag, null);
+        }
+        var cars = isBlank(fields) ? this.carExportService.exportAllCar() : this.carProjectionService.exportAllCar(fields);
+        return withValidators(HttpResponse.ok(cars), etag, null);
     }
 
-    @Get(value = "/pagination", produces = "application/json")
-    @Operation(summary = "Get all Car", description = "Get all Car - with pagination")
+    @Get(value = "/pagination", produces = {MediaType.APPLICATION_JSON, APPLICATION_CBOR})
+    @Operation(summary = "Get all Car", description = "Get all Car - with pagination; fields=chassis,model returns only those fields")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Car search successfully"),
+            @ApiResponse(responseCode = "304", description = "Car page not modified since the given weak ETag"),
+            @ApiResponse(responseCode = "400", description = "Unknown field"),
             @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
     })
     HttpResponse<Page<CarDTO>> getAllCarsWithPagination(
+            @QueryValue(defaultValue = "0") int page,
+            @QueryValue(defaultValue = "10") int size,
+            @Nullable @QueryValue String fields,
+            HttpRequest<?> request) {
+        var carPage = isBlank(fields)
+                ? this.carService.listAllCarWithPagination(page, size)
+                : this.carProjectionService.listAllCarWithPagination(page, size, fields);
+        // a projection may leave out id and version, so its tag also covers the selected values
+        var etag = isBlank(fields)
+                ? weakETag(carPage.getContent(), page, size, carPage.getTotalSize())
+                : weakETag(carPage.getContent(), page, size, carPage.getTotalSize(), fields, carPage.getContent().hashCode());
+        if (isNotModified(request, etag, null)) {
+            return withValidators(HttpResponse.notModified(), etag, null);
+        }
+        return withValidators(HttpResponse.ok(carPage), etag, null);
+    }
+
+    @Get(value = "/scroll", produces = {MediaType.APPLICATION_JSON, APPLICATION_CBOR})
+    @Operation(summary = "Scroll all Car", description = "Get all Car - keyset pagination by id, without total count")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Car search successfully"),
+            @ApiResponse(responseCode = "304", description = "Car scroll page not modified since the given weak ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or size"),
+            @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
+    })
+    HttpResponse<CarScrollDTO> scrollCars(
+            @Nullable @QueryValue String after,
+            @QueryValue(defaultValue = "10") int size,
+            HttpRequest<?> request) {
+        var scroll = this.carService.scrollCar(after, size);
+        var etag = weakETag(scroll.getContent(), after, size, scroll.getNextCursor());
+        if (isNotModified(request, etag, null)) {
+            return withValidators(HttpResponse.notModified(), etag, null);
+        }
+        return withValidators(HttpResponse.ok(scroll), etag, null);
+    }
+
+    @Get(value = "/changes", produces = "application/json")
+    @Operation(summary = "Car changes", description = "Inserts, updates and deletes after the given token, in commit order - without a token returns the current head token")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Car changes listed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid token or size"),
+            @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
+    })
+    HttpResponse<CarChangeFeedDTO> listCarChanges(
+            @Nullable @QueryValue String since,
+            @QueryValue(defaultValue = "100") int size) {
+        return HttpResponse.ok(this.carChangeService.listChanges(since, size));
+    }
+
+    @Get(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM)
+    @Operation(summary = "Stream Car changes", description = "Server-Sent Events of inserts, updates and deletes as they commit - best effort, each event id is the /car/changes token to resync from")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Car change stream opened")
+    })
+    Publisher<Event<CarChangeDTO>> streamCarChanges() {
+        return Flux.from(this.carChangeService.streamChanges())
+                .map(change -> {
+                    var event = Event.of(change).name(change.getType().name().toLowerCase(Locale.ROOT));
+                    return Objects.isNull(change.getSequence()) ? event : event.id(CursorConverter.encodeChange(change.getSequence()));
+                });
+    }
+
+    @Get(value = "/search", produces = {MediaType.APPLICATION_JSON, APPLICATION_CBOR})
+    @Operation(summary = "Search Car", description = "Search Car by model, manufacturer, color, engine and free text, with prefix matching and manufacturer/color facet counts")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Car search successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page or size"),
+            @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
+    })
+    HttpResponse<CarSearchResultDTO> searchCar(
+            @Nullable @QueryValue String q,
+            @Nullable @QueryValue String model,
+            @Nullable @QueryValue String manufacturer,
+            @Nullable @QueryValue String color,
+            @Nullable @QueryValue String engine,
             @QueryValue(defaultValue = "0") int page,
             @QueryValue(defaultValue = "10") int size) {
-        return HttpResponse.ok(this.carService.listAllCarWithPagination(page, size));
+        return HttpResponse.ok(this.carSearchService.searchCar(CarSearchCriteriaDTO.builder()
+                .q(q)
+                .model(model)
+                .manufacturer(manufacturer)
+                .color(color)
+                .engine(engine)
+                .page(page)
+                .size(size)
+                .build()));
+    }
+
+    @Get(value = "/search/chassis", produces = "application/json")
+    @Operation(summary = "Search Car by Chassis term", description = "Search Car whose chassis contains the term - with pagination")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Car search successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid chassis term"),
+            @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
+    })
+    HttpResponse<List<CarDTO>> searchCarByChassis(
+            @QueryValue String term,
+            @QueryValue(defaultValue = "0") int page,
+            @QueryValue(defaultValue = "10") int size) {
+        return HttpResponse.ok(this.carService.searchCarByChassis(term, page, size));
+    }
+
+    @Get(value = "/stats/{dimension}", produces = "application/json")
+    @Operation(summary = "Car stats", description = "Count Car by manufacturer, color, engine or month of creation - from a database GROUP BY, the in-memory snapshot or incremental counters")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Car stats computed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid dimension or source"),
+            @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
+    })
+    HttpResponse<CarStatsDTO> getCarStats(String dimension, @Nullable @QueryValue String source) {
+        return HttpResponse.ok(this.carStatsService.getStats(dimension, source));
     }
 
     @Get(value = "/chassis/{chassis}", produces = "application/json")
     @Operation(summary = "Get Car by Chassis", description = "Get Car by Chassis")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Car search successfully"),
+            @ApiResponse(responseCode = "304", description = "Car not modified since the given ETag or date"),
             @ApiResponse(responseCode = "404", description = "Car not found"),
             @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
     })
-    HttpResponse<CarDTO> getCarByChassis(String chassis) {
-        return HttpResponse.ok(this.carService.getCarByChassis(chassis));
+    HttpResponse<CarDTO> getCarByChassis(String chassis, HttpRequest<?> request) {
+        var carDTO = this.carService.getCarByChassis(chassis);
+        var etag = strongETag(carDTO);
+        if (isNotModified(request, etag, carDTO.getDateUpdated())) {
+            return withValidators(HttpResponse.notModified(), etag, carDTO.getDateUpdated());
+        }
+        return withValidators(HttpResponse.ok(carDTO), etag, carDTO.getDateUpdated());
     }
 
     @Delete(value = "/chassis/{chassis}", produces = "application/json")
@@ -70,21 +278,39 @@ public class CarController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Car deleted successfully"),
             @ApiResponse(responseCode = "404", description = "Car not found"),
+            @ApiResponse(responseCode = "412", description = "Car does not match If-Match"),
             @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
     })
-    HttpResponse<Void> deleteCarByChassis(String chassis) {
+    HttpResponse<Void> deleteCarByChassis(String chassis, HttpRequest<?> request) {
+        // If-Match is checked by the delete statement itself, not against a possibly stale read
+        var ifMatchVersion = ifMatchVersion(request);
+        if (Objects.nonNull(ifMatchVersion)) {
+            this.carService.deleteCarByChassis(chassis, ifMatchVersion);
+            return HttpResponse.noContent();
+        }
         this.carService.deleteCarByChassis(chassis);
         return HttpResponse.noContent();
     }
 
     @Patch(value = "/chassis/{chassis}", produces = "application/json")
-    @Operation(summary = "Update Car by Chassis", description = "Update Car by Chassis")
+    @Operation(summary = "Update Car by Chassis", description = "Update Car by Chassis - only the fields sent are changed; send version for optimistic locking")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Car updated successfully"),
             @ApiResponse(responseCode = "404", description = "Car not found"),
+            @ApiResponse(responseCode = "409", description = "Car was modified concurrently, version mismatch"),
+            @ApiResponse(responseCode = "412", description = "Car does not match If-Match"),
             @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
     })
-    HttpResponse<CarDTO> updateCarByChassis(String chassis, @RequestBody @Body CarDTO carDTO) {
-        return HttpResponse.ok(this.carService.updateCarByChassis(chassis, carDTO));
+    HttpResponse<CarDTO> updateCarByChassis(String chassis, @RequestBody @Body CarDTO carDTO, HttpRequest<?> request) {
+        // If-Match is checked by the update statement itself, not against a possibly stale read
+        var ifMatchVersion = ifMatchVersion(request);
+        var updated = Objects.isNull(ifMatchVersion)
+                ? this.carService.updateCarByChassis(chassis, carDTO)
+                : this.carService.updateCarByChassis(chassis, carDTO, ifMatchVersion);
+        return withValidators(HttpResponse.ok(updated), strongETag(updated), updated.getDateUpdated());
+    }
+
+    private static boolean isBlank(@Nullable String value) {
+        return Objects.isNull(value) || value.isBlank();
     }
 }
@@ -0,0 +1,99 @@
+package com.jumpcar.controller;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.service.CarReactiveService;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.model.Page;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.*;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.inject.Inject;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.jumpcar.AppConstants.APPLICATION_NDJSON;
+
+/**
+ * Non-blocking variant of {@link CarController}. Handlers run on the Netty event loop, so there
+ * is no {@code @ExecuteOn}.
+ */
+@Tag(name = "Car - Reactive")
+@Controller(value = "reactive/car")
+@Requires(property = "car.reactive.enabled", value = "true")
+@Requires(property = "car.store.mode", notEquals = "memory")
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+public class CarReactiveController {
+
+    private final CarReactiveService carReactiveService;
+
+    @Post(produces = "application/json")
+    @Operation(summary = "New Car", description = "New Car - reactive")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Car created successfully"),
+            @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
+    })
+    Mono<HttpResponse<CarDTO>> newCar(@RequestBody @Body CarDTO carDTO) {
+        return this.carReactiveService.newCar(carDTO).map(HttpResponse::created);
+    }
+
+    @Get(produces = {MediaType.APPLICATION_JSON, APPLICATION_NDJSON})
+    @Operation(summary = "Get all Car", description = "Get all Car - reactive, streamed with backpressure as a chunked JSON array or NDJSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Car search successfully"),
+            @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
+    })
+    Flux<CarDTO> getAllCars() {
+        return this.carReactiveService.listAllCar();
+    }
+
+    @Get(value = "/pagination", produces = "application/json")
+    @Operation(summary = "Get all Car", description = "Get all Car - reactive, with pagination")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Car search successfully"),
+            @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
+    })
+    Mono<Page<CarDTO>> getAllCarsWithPagination(
+            @QueryValue(defaultValue = "0") int page,
+            @QueryValue(defaultValue = "10") int size) {
+        return this.carReactiveService.listAllCarWithPagination(page, size);
+    }
+
+    @Get(value = "/chassis/{chassis}", produces = "application/json")
+    @Operation(summary = "Get Car by Chassis", description = "Get Car by Chassis - reactive")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Car search successfully"),
+            @ApiResponse(responseCode = "404", description = "Car not found"),
+            @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
+    })
+    Mono<CarDTO> getCarByChassis(String chassis) {
+        return this.carReactiveService.getCarByChassis(chassis);
+    }
+
+    @Delete(value = "/chassis/{chassis}", produces = "application/json")
+    @Operation(summary = "Delete Car by Chassis", description = "Delete Car by Chassis - reactive")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Car deleted successfully"),
+            @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
+    })
+    Mono<HttpResponse<Void>> deleteCarByChassis(String chassis) {
+        return this.carReactiveService.deleteCarByChassis(chassis)
+                .thenReturn(HttpResponse.noContent());
+    }
+
+    @Patch(value = "/chassis/{chassis}", produces = "application/json")
+    @Operation(summary = "Update Car by Chassis", description = "Update Car by Chassis - reactive")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Car updated successfully"),
+            @ApiResponse(responseCode = "404", description = "Car not found"),
+            @ApiResponse(responseCode = "500", description = "Car - Internal Server Error")
+    })
+    Mono<CarDTO> updateCarByChassis(String chassis, @RequestBody @Body CarDTO carDTO) {
+        return this.carReactiveService.updateCarByChassis(chassis, carDTO);
+    }
+}
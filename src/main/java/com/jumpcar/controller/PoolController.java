@@ -0,0 +1,33 @@
+package com.jumpcar.controller;
+
+import com.jumpcar.domain.model.dto.PoolStatsDTO;
+import com.jumpcar.workflow.pool.PoolDiagnostics;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.inject.Inject;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Tag(name = "Pool")
+@Controller(value = "pool")
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+public class PoolController {
+
+    private final PoolDiagnostics poolDiagnostics;
+
+    @Get(value = "/stats", produces = "application/json")
+    @Operation(summary = "Connection pool statistics", description = "Active, idle and waiting connections and acquisition latency of each database pool")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Pool statistics"),
+            @ApiResponse(responseCode = "500", description = "Pool - Internal Server Error")
+    })
+    HttpResponse<List<PoolStatsDTO>> getPoolStats() {
+        return HttpResponse.ok(this.poolDiagnostics.stats());
+    }
+}
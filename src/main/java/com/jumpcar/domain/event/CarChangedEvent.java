@@ -0,0 +1,48 @@
+package com.jumpcar.domain.event;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.enums.ChangeType;
+import io.micronaut.core.annotation.Nullable;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Published by the service layer inside the write transaction. Listeners that must only see
+ * committed data use {@code @TransactionalEventListener}.
+ */
+@Data
+@Builder
+public class CarChangedEvent {
+
+    private ChangeType type;
+
+    /**
+     * Normalized chassis of the car after the change (before it, for deletes).
+     */
+    private String chassis;
+
+    /**
+     * Normalized chassis before an update, when the update renamed it.
+     */
+    @Nullable
+    private String previousChassis;
+
+    /**
+     * State after the change; {@code null} for deletes.
+     */
+    @Nullable
+    private CarDTO car;
+
+    /**
+     * Position of the change in the change feed, set by {@code CarChangeRecorder} when it records
+     * the change in the write transaction.
+     */
+    @Nullable
+    private Long sequence;
+
+    /**
+     * Set when the change is the hot store persisting a write it already applied in memory.
+     */
+    private boolean writeBehind;
+
+}
@@ -0,0 +1,36 @@
+package com.jumpcar.domain.exception;
+
+import com.jumpcar.domain.model.dto.ErrorDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.server.exceptions.ExceptionHandler;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+import static com.jumpcar.AppConstants.EXCEPTION_METRIC;
+import static com.jumpcar.AppConstants.UNKNOWN_ERROR_DATA;
+
+@Produces
+@Singleton
+@Requires(classes = {ConflictException.class, ExceptionHandler.class})
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+public class ConflictExceptionHandler implements ExceptionHandler<ConflictException, HttpResponse<ErrorDTO>> {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public HttpResponse<ErrorDTO> handle(HttpRequest request, ConflictException exception) {
+        this.meterRegistry.counter(EXCEPTION_METRIC, "type", "conflict").increment();
+        var error = ErrorDTO.builder()
+                .title(UNKNOWN_ERROR_DATA)
+                .message(exception.getMessage())
+                .build();
+        return HttpResponse.status(HttpStatus.CONFLICT).body(error);
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.jumpcar.domain.model.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Serdeable
+@Builder
+public class CacheStatsDTO {
+
+    private long size;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    private double hitRate;
+
+}
@@ -0,0 +1,27 @@
+package com.jumpcar.domain.model.dto;
+
+import com.jumpcar.domain.model.enums.BatchItemStatus;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Serdeable
+@Builder
+public class CarBatchResultDTO {
+
+    private long index;
+
+    @Nullable
+    private Long id;
+
+    @Nullable
+    private String chassis;
+
+    private BatchItemStatus status;
+
+    @Nullable
+    private String message;
+
+}
@@ -0,0 +1,26 @@
+package com.jumpcar.domain.model.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Serdeable
+@Builder
+public class CarBatchSummaryDTO {
+
+    private long received;
+
+    private long inserted;
+
+    private long updated;
+
+    private long deleted;
+
+    private long failed;
+
+    private List<CarBatchResultDTO> failures;
+
+}
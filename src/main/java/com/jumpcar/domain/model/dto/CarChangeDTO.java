@@ -0,0 +1,40 @@
+package com.jumpcar.domain.model.dto;
+
+import com.jumpcar.domain.model.enums.ChangeType;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Serdeable
+@Builder
+public class CarChangeDTO {
+
+    /**
+     * Position in the change feed, on listed and pushed changes alike.
+     */
+    @Nullable
+    private Long sequence;
+
+    private ChangeType type;
+
+    private String chassis;
+
+    /**
+     * Chassis the car had before this change, when the change renamed it.
+     */
+    @Nullable
+    private String previousChassis;
+
+    private LocalDateTime dateChanged;
+
+    /**
+     * Current state of the car; {@code null} when it no longer exists (tombstone).
+     */
+    @Nullable
+    private CarDTO car;
+
+}
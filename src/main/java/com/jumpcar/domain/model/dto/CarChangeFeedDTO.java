@@ -0,0 +1,23 @@
+package com.jumpcar.domain.model.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Serdeable
+@Builder
+public class CarChangeFeedDTO {
+
+    private List<CarChangeDTO> changes;
+
+    /**
+     * Pass as {@code since} on the next call; unchanged when there was nothing new.
+     */
+    private String nextToken;
+
+    private boolean hasMore;
+
+}
@@ -0,0 +1,25 @@
+package com.jumpcar.domain.model.dto;
+
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One {@code GROUP BY} row: a value and how many cars have it.
+ */
+@Data
+@Builder
+@Introspected
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarCountDTO {
+
+    @Nullable
+    private String name;
+
+    private long total;
+
+}
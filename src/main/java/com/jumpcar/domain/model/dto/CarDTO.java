@@ -5,9 +5,11 @@ import io.micronaut.serde.annotation.Serdeable;
 import lombok.Builder;
 import lombok.Data;
 
+import java.time.LocalDateTime;
+
 @Data
 @Serdeable
-@Builder
+@Builder(toBuilder = true)
 public class CarDTO {
 
     @Nullable
@@ -28,4 +30,13 @@ public class CarDTO {
     @Nullable
     private String chassis;
 
+    @Nullable
+    private Long version;
+
+    @Nullable
+    private LocalDateTime dateCreated;
+
+    @Nullable
+    private LocalDateTime dateUpdated;
+
 }
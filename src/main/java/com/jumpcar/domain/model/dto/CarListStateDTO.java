@@ -0,0 +1,25 @@
+package com.jumpcar.domain.model.dto;
+
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@Introspected
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarListStateDTO {
+
+    private long count;
+
+    @Nullable
+    private Long maxId;
+
+    @Nullable
+    private Long versionSum;
+
+}
@@ -0,0 +1,28 @@
+package com.jumpcar.domain.model.dto;
+
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One {@code GROUP BY} row of cars per creation month.
+ */
+@Data
+@Builder
+@Introspected
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarMonthCountDTO {
+
+    @Nullable
+    private Integer createdYear;
+
+    @Nullable
+    private Integer createdMonth;
+
+    private long total;
+
+}
@@ -0,0 +1,22 @@
+package com.jumpcar.domain.model.dto;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Serdeable
+@Builder
+public class CarScrollDTO {
+
+    private List<CarDTO> content;
+
+    private int size;
+
+    @Nullable
+    private String nextCursor;
+
+}
@@ -0,0 +1,36 @@
+package com.jumpcar.domain.model.dto;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Search filters. Every field is optional; each word of a field must prefix-match a word of
+ * that field of the car, and each word of {@code q} must prefix-match a word of any field.
+ */
+@Data
+@Serdeable
+@Builder
+public class CarSearchCriteriaDTO {
+
+    @Nullable
+    private String q;
+
+    @Nullable
+    private String model;
+
+    @Nullable
+    private String manufacturer;
+
+    @Nullable
+    private String color;
+
+    @Nullable
+    private String engine;
+
+    private int page;
+
+    private int size;
+
+}
@@ -0,0 +1,33 @@
+package com.jumpcar.domain.model.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Serdeable
+@Builder
+public class CarSearchResultDTO {
+
+    private long total;
+
+    private int page;
+
+    private int size;
+
+    private List<CarDTO> content;
+
+    /**
+     * Hits per manufacturer across the whole result, not just the page.
+     */
+    private Map<String, Long> manufacturerFacets;
+
+    /**
+     * Hits per color across the whole result, not just the page.
+     */
+    private Map<String, Long> colorFacets;
+
+}
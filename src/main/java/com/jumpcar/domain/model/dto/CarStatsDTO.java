@@ -0,0 +1,30 @@
+package com.jumpcar.domain.model.dto;
+
+import com.jumpcar.domain.model.enums.StatsDimension;
+import com.jumpcar.domain.model.enums.StatsSource;
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Serdeable
+@Builder
+public class CarStatsDTO {
+
+    private StatsDimension dimension;
+
+    private StatsSource source;
+
+    /**
+     * All cars, including those without a value for the dimension.
+     */
+    private long total;
+
+    /**
+     * Cars per value, most frequent first. Months are {@code yyyy-MM} of {@code dateCreated}.
+     */
+    private Map<String, Long> counts;
+
+}
@@ -0,0 +1,32 @@
+package com.jumpcar.domain.model.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Serdeable
+@Builder
+public class PoolStatsDTO {
+
+    private String name;
+
+    private int maximumPoolSize;
+
+    private int active;
+
+    private int idle;
+
+    private int total;
+
+    private int waiting;
+
+    private long acquireCount;
+
+    private double acquireMeanMillis;
+
+    private double acquireMaxMillis;
+
+    private long timeoutCount;
+
+}
@@ -1,5 +1,6 @@
 package com.jumpcar.domain.model.entity;
 
+import com.jumpcar.workflow.normalizer.ChassisNormalizer;
 import io.micronaut.data.annotation.DateCreated;
 import io.micronaut.data.annotation.DateUpdated;
 import jakarta.persistence.*;
@@ -15,17 +16,28 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "car", schema = "")
+@Table(name = "car", schema = "", indexes = {
+        @Index(name = "uk_car_chassis", columnList = "chassis", unique = true),
+        @Index(name = "idx_car_manufacturer", columnList = "manufacturer"),
+        @Index(name = "idx_car_color", columnList = "color"),
+        @Index(name = "idx_car_engine", columnList = "engine"),
+        @Index(name = "idx_car_date_created", columnList = "date_created")
+})
 public class Car {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "car_seq")
+    @SequenceGenerator(name = "car_seq", sequenceName = "car_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     private String model;
     private String manufacturer;
     private String color;
     private String engine;
+
+    @Column(name = "chassis", nullable = false, length = 50)
     private String chassis;
 
     @DateCreated
@@ -35,4 +47,14 @@ public class Car {
     @DateUpdated
     @Column(name = "date_updated")
     private LocalDateTime dateUpdated;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    @PrePersist
+    @PreUpdate
+    void normalizeChassis() {
+        this.chassis = ChassisNormalizer.normalize(this.chassis);
+    }
 }
@@ -0,0 +1,44 @@
+package com.jumpcar.domain.model.entity;
+
+import com.jumpcar.domain.model.enums.ChangeType;
+import io.micronaut.data.annotation.DateCreated;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row of the change feed, written in the same transaction as the car change it records.
+ * The id is the feed position, taken from {@code car_change_position} in that transaction.
+ * Deletes are kept as tombstones.
+ */
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "car_change", schema = "", indexes = {
+        @Index(name = "idx_car_change_date_changed", columnList = "date_changed")
+})
+public class CarChange {
+
+    @Id
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 10)
+    private ChangeType type;
+
+    @Column(name = "chassis", nullable = false, length = 50)
+    private String chassis;
+
+    @Column(name = "previous_chassis", length = 50)
+    private String previousChassis;
+
+    @DateCreated
+    @Column(name = "date_changed", nullable = false, updatable = false)
+    private LocalDateTime dateChanged;
+}
@@ -0,0 +1,6 @@
+package com.jumpcar.domain.model.enums;
+
+public enum BatchItemStatus {
+    CREATED,
+    FAILED
+}
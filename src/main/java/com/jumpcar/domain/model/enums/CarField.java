@@ -0,0 +1,26 @@
+package com.jumpcar.domain.model.enums;
+
+/**
+ * Fields of a car that a list request can select with {@code fields=}, by JSON property name.
+ */
+public enum CarField {
+    ID("id"),
+    MODEL("model"),
+    MANUFACTURER("manufacturer"),
+    COLOR("color"),
+    ENGINE("engine"),
+    CHASSIS("chassis"),
+    VERSION("version"),
+    DATE_CREATED("dateCreated"),
+    DATE_UPDATED("dateUpdated");
+
+    private final String property;
+
+    CarField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return this.property;
+    }
+}
@@ -0,0 +1,7 @@
+package com.jumpcar.domain.model.enums;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,8 @@
+package com.jumpcar.domain.model.enums;
+
+public enum StatsDimension {
+    MANUFACTURER,
+    COLOR,
+    ENGINE,
+    MONTH
+}
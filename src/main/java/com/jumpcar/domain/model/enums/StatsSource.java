@@ -0,0 +1,7 @@
+package com.jumpcar.domain.model.enums;
+
+public enum StatsSource {
+    DATABASE,
+    MEMORY,
+    COUNTERS
+}
@@ -0,0 +1,32 @@
+package com.jumpcar.domain.repository;
+
+import com.jumpcar.domain.model.entity.CarChange;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.jpa.repository.JpaRepository;
+import io.micronaut.data.model.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CarChangeRepository extends JpaRepository<CarChange, Long> {
+
+    List<CarChange> findByIdGreaterThan(Long id, Pageable pageable);
+
+    @Nullable
+    @Query("SELECT MAX(c.id) FROM CarChange c")
+    Long findMaxId();
+
+    /**
+     * Next feed position. The counter row stays locked until the calling transaction ends, so
+     * concurrent writers get their positions one after another, in commit order.
+     */
+    @Query(value = "SELECT position FROM FINAL TABLE (UPDATE car_change_position SET position = position + 1 WHERE id = 1)",
+            nativeQuery = true)
+    long nextPosition();
+
+    int deleteByDateChangedLessThan(LocalDateTime cutoff);
+
+}
@@ -0,0 +1,26 @@
+package com.jumpcar.domain.repository;
+
+import com.jumpcar.domain.model.entity.Car;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository;
+import io.micronaut.data.repository.GenericRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking reads of the cars table over R2DBC ({@code r2dbc.datasources.default}).
+ */
+@Requires(property = "car.reactive.enabled", value = "true")
+@R2dbcRepository(dialect = Dialect.H2)
+public interface CarReactiveRepository extends GenericRepository<Car, Long> {
+
+    Mono<Car> findByChassis(String chassis);
+
+    Flux<Car> findAll();
+
+    Mono<Page<Car>> findAll(Pageable pageable);
+
+}
@@ -0,0 +1,52 @@
+package com.jumpcar.domain.repository;
+
+import com.jumpcar.domain.model.dto.CarCountDTO;
+import com.jumpcar.domain.model.dto.CarListStateDTO;
+import com.jumpcar.domain.model.dto.CarMonthCountDTO;
+import com.jumpcar.domain.model.entity.Car;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read queries served by both the primary ({@link CarRepository}) and the read replica
+ * ({@link CarReplicaRepository}), so callers can be routed to either one.
+ */
+public interface CarReadRepository {
+
+    Optional<Car> findByChassis(String chassis);
+
+    List<Car> findAll();
+
+    Page<Car> findAll(Pageable pageable);
+
+    /**
+     * Cheap fingerprint of the whole table for list ETags: any insert, update or delete changes
+     * at least one of the count, the highest id or the version sum.
+     */
+    @Query("SELECT COUNT(c.id) AS count, MAX(c.id) AS maxId, SUM(c.version) AS versionSum FROM Car c")
+    CarListStateDTO findListState();
+
+    /**
+     * Cars per manufacturer for {@code /car/stats}. The grouped columns of these counts are
+     * indexed on {@link Car}, so the database can answer them from the index alone.
+     */
+    @Query("SELECT c.manufacturer AS name, COUNT(c.id) AS total FROM Car c GROUP BY c.manufacturer")
+    List<CarCountDTO> countByManufacturer();
+
+    @Query("SELECT c.color AS name, COUNT(c.id) AS total FROM Car c GROUP BY c.color")
+    List<CarCountDTO> countByColor();
+
+    @Query("SELECT c.engine AS name, COUNT(c.id) AS total FROM Car c GROUP BY c.engine")
+    List<CarCountDTO> countByEngine();
+
+    @Query("""
+            SELECT YEAR(c.dateCreated) AS createdYear, MONTH(c.dateCreated) AS createdMonth, COUNT(c.id) AS total
+            FROM Car c
+            GROUP BY YEAR(c.dateCreated), MONTH(c.dateCreated)""")
+    List<CarMonthCountDTO> countByCreatedMonth();
+
+}
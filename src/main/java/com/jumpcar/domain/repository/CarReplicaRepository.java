@@ -0,0 +1,19 @@
+package com.jumpcar.domain.repository;
+
+import com.jumpcar.domain.model.entity.Car;
+import io.micrometer.core.annotation.Timed;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.repository.GenericRepository;
+import io.micronaut.transaction.annotation.Transactional;
+
+/**
+ * Read-only view of the cars table on {@code datasources.replica}. Only created with
+ * {@code car.replica.enabled}; the datasource itself is configured in {@code application-replica.yml}.
+ */
+@Repository("replica")
+@Requires(property = "car.replica.enabled", value = "true")
+@Transactional(value = "replica", readOnly = true)
+@Timed(value = "car.repository.replica", histogram = true, percentiles = {0.5, 0.95, 0.99})
+public interface CarReplicaRepository extends GenericRepository<Car, Long>, CarReadRepository {
+}
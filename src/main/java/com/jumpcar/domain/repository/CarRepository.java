@@ -1,20 +1,72 @@
 package com.jumpcar.domain.repository;
 
 import com.jumpcar.domain.model.entity.Car;
+import io.micrometer.core.annotation.Timed;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.annotation.Query;
 import io.micronaut.data.annotation.Repository;
 import io.micronaut.data.jpa.repository.JpaRepository;
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CarRepository extends JpaRepository<Car, Long> {
+@Timed(value = "car.repository", histogram = true, percentiles = {0.5, 0.95, 0.99})
+public interface CarRepository extends JpaRepository<Car, Long>, CarReadRepository {
 
-    Optional<Car> findByChassisContainsIgnoreCase(String chassis);
+    Optional<Car> findByChassis(String chassis);
 
-    void deleteByChassisContainsIgnoreCase(String chassis);
+    boolean existsByChassis(String chassis);
+
+    int deleteByChassis(String chassis);
+
+    /**
+     * Deletes the car only while it is still at {@code version}; returns the rows deleted, so 0
+     * means the car is missing or was changed concurrently.
+     */
+    @Query("DELETE FROM Car c WHERE c.chassis = :chassis AND COALESCE(c.version, 0) = :version")
+    int deleteByChassisAndVersion(String chassis, long version);
+
+    List<String> findChassisByChassisIn(Collection<String> chassis);
+
+    List<Car> findByChassisIn(Collection<String> chassis);
+
+    int deleteByChassisIn(Collection<String> chassis);
+
+    List<Car> findByChassisContains(String chassis, Pageable pageable);
 
     Page<Car> findAll(Pageable pageable);
 
+    List<Car> findByIdGreaterThan(Long id, Pageable pageable);
+
+    /**
+     * Partial update in one round trip: null arguments keep the stored value, the version is
+     * bumped, and H2's {@code FINAL TABLE} returns the row as written. When {@code version} is
+     * given the row only matches if it is still at that version; an empty result means the car
+     * is missing or was changed concurrently.
+     */
+    @Query(value = """
+            SELECT * FROM FINAL TABLE (
+                UPDATE car SET
+                    model = COALESCE(:model, model),
+                    manufacturer = COALESCE(:manufacturer, manufacturer),
+                    color = COALESCE(:color, color),
+                    engine = COALESCE(:engine, engine),
+                    chassis = COALESCE(:newChassis, chassis),
+                    date_updated = LOCALTIMESTAMP,
+                    version = COALESCE(version, 0) + 1
+                WHERE chassis = :chassis
+                  AND (CAST(:version AS BIGINT) IS NULL OR version = :version)
+            )""", nativeQuery = true)
+    Optional<Car> findAndPatchByChassis(String chassis,
+                                        @Nullable String model,
+                                        @Nullable String manufacturer,
+                                        @Nullable String color,
+                                        @Nullable String engine,
+                                        @Nullable String newChassis,
+                                        @Nullable Long version);
+
 }
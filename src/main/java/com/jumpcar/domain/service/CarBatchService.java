@@ -0,0 +1,19 @@
+package com.jumpcar.domain.service;
+
+import com.jumpcar.domain.model.dto.CarBatchResultDTO;
+import com.jumpcar.domain.model.dto.CarBatchSummaryDTO;
+import com.jumpcar.domain.model.dto.CarDTO;
+import org.reactivestreams.Publisher;
+
+import java.util.List;
+
+public interface CarBatchService {
+
+    List<CarBatchResultDTO> newCarBatch(List<CarDTO> cars);
+
+    Publisher<CarBatchResultDTO> newCarBatchStream(Publisher<CarDTO> cars);
+
+    CarBatchSummaryDTO upsertCarBatch(List<CarDTO> cars);
+
+    CarBatchSummaryDTO deleteCarBatch(List<String> chassis);
+}
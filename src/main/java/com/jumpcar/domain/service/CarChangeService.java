@@ -0,0 +1,12 @@
+package com.jumpcar.domain.service;
+
+import com.jumpcar.domain.model.dto.CarChangeDTO;
+import com.jumpcar.domain.model.dto.CarChangeFeedDTO;
+import org.reactivestreams.Publisher;
+
+public interface CarChangeService {
+
+    CarChangeFeedDTO listChanges(String since, int size);
+
+    Publisher<CarChangeDTO> streamChanges();
+}
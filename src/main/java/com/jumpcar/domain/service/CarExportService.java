@@ -0,0 +1,9 @@
+package com.jumpcar.domain.service;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import org.reactivestreams.Publisher;
+
+public interface CarExportService {
+
+    Publisher<CarDTO> exportAllCar();
+}
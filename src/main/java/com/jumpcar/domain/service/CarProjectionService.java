@@ -0,0 +1,15 @@
+package com.jumpcar.domain.service;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.dto.CarListStateDTO;
+import io.micronaut.data.model.Page;
+import org.reactivestreams.Publisher;
+
+public interface CarProjectionService {
+
+    Publisher<CarDTO> exportAllCar(String fields);
+
+    Page<CarDTO> listAllCarWithPagination(int page, int size, String fields);
+
+    CarListStateDTO getCarListState();
+}
@@ -0,0 +1,21 @@
+package com.jumpcar.domain.service;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import io.micronaut.data.model.Page;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface CarReactiveService {
+
+    Mono<CarDTO> newCar(CarDTO carDTO);
+
+    Flux<CarDTO> listAllCar();
+
+    Mono<CarDTO> getCarByChassis(String chassis);
+
+    Mono<Void> deleteCarByChassis(String chassis);
+
+    Mono<CarDTO> updateCarByChassis(String chassis, CarDTO carDTO);
+
+    Mono<Page<CarDTO>> listAllCarWithPagination(int page, int size);
+}
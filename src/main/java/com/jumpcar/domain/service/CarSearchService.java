@@ -0,0 +1,9 @@
+package com.jumpcar.domain.service;
+
+import com.jumpcar.domain.model.dto.CarSearchCriteriaDTO;
+import com.jumpcar.domain.model.dto.CarSearchResultDTO;
+
+public interface CarSearchService {
+
+    CarSearchResultDTO searchCar(CarSearchCriteriaDTO criteria);
+}
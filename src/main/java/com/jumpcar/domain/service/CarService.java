@@ -1,6 +1,8 @@
 package com.jumpcar.domain.service;
 
 import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.dto.CarListStateDTO;
+import com.jumpcar.domain.model.dto.CarScrollDTO;
 import io.micronaut.data.model.Page;
 
 import java.util.List;
@@ -9,13 +11,21 @@ public interface CarService {
 
     CarDTO newCar(CarDTO carDTO);
 
-    List<CarDTO> listAllCar();
-
     CarDTO getCarByChassis(String chassis);
 
     void deleteCarByChassis(String chassis);
 
+    void deleteCarByChassis(String chassis, long version);
+
     CarDTO updateCarByChassis(String chassis, CarDTO carDTO);
 
+    CarDTO updateCarByChassis(String chassis, CarDTO carDTO, long version);
+
     Page<CarDTO> listAllCarWithPagination(int page, int size);
+
+    List<CarDTO> searchCarByChassis(String term, int page, int size);
+
+    CarScrollDTO scrollCar(String after, int size);
+
+    CarListStateDTO getCarListState();
 }
@@ -0,0 +1,8 @@
+package com.jumpcar.domain.service;
+
+import com.jumpcar.domain.model.dto.CarStatsDTO;
+
+public interface CarStatsService {
+
+    CarStatsDTO getStats(String dimension, String source);
+}
@@ -0,0 +1,245 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.exception.BusinessException;
+import com.jumpcar.domain.model.dto.CarBatchResultDTO;
+import com.jumpcar.domain.model.dto.CarBatchSummaryDTO;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.entity.Car;
+import com.jumpcar.domain.model.enums.BatchItemStatus;
+import com.jumpcar.domain.service.CarBatchService;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.jumpcar.workflow.converter.CarConverter.INSTANCE;
+import static com.jumpcar.workflow.normalizer.ChassisNormalizer.normalize;
+
+@Slf4j
+@Singleton
+public class CarBatchServiceImpl implements CarBatchService {
+
+    private final CarBatchWriter carBatchWriter;
+    private final int chunkSize;
+
+    @Inject
+    public CarBatchServiceImpl(CarBatchWriter carBatchWriter,
+                               @Value("${car.batch.chunk-size:500}") int chunkSize) {
+        this.carBatchWriter = carBatchWriter;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public List<CarBatchResultDTO> newCarBatch(List<CarDTO> cars) {
+        if (Objects.isNull(cars)) {
+            log.error("Car batch is null");
+            throw new BusinessException("Car batch cannot be null");
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Starting car batch save flow: {} cars, chunk size <{}>", cars.size(), this.chunkSize);
+        }
+        var results = new ArrayList<CarBatchResultDTO>(cars.size());
+        for (int from = 0; from < cars.size(); from += this.chunkSize) {
+            var chunk = cars.subList(from, Math.min(from + this.chunkSize, cars.size()));
+            results.addAll(this.insertChunk(chunk, from));
+        }
+        log.debug("Finish car batch save flow");
+        return results;
+    }
+
+    @Override
+    public Publisher<CarBatchResultDTO> newCarBatchStream(Publisher<CarDTO> cars) {
+        var offset = new AtomicLong();
+        return Flux.from(cars)
+                .buffer(this.chunkSize)
+                .concatMap(chunk -> Mono.fromCallable(() -> this.insertChunk(chunk, offset.getAndAdd(chunk.size())))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .flatMapIterable(results -> results);
+    }
+
+    @Override
+    public CarBatchSummaryDTO upsertCarBatch(List<CarDTO> cars) {
+        if (Objects.isNull(cars)) {
+            log.error("Car batch is null");
+            throw new BusinessException("Car batch cannot be null");
+        }
+
+        var failures = new ArrayList<CarBatchResultDTO>();
+        var candidates = new LinkedHashMap<String, Integer>();
+        for (int i = 0; i < cars.size(); i++) {
+            var carDTO = cars.get(i);
+            var chassis = Objects.isNull(carDTO) ? null : normalize(carDTO.getChassis());
+            if (Objects.isNull(chassis) || chassis.isBlank()) {
+                failures.add(failed(i, chassis, "Chassis cannot be null or blank"));
+            } else if (candidates.putIfAbsent(chassis, i) != null) {
+                failures.add(failed(i, chassis, "Chassis duplicated in batch: " + chassis));
+            }
+        }
+
+        long inserted = 0;
+        long updated = 0;
+        var entries = new ArrayList<>(candidates.entrySet());
+        for (int from = 0; from < entries.size(); from += this.chunkSize) {
+            var chunk = entries.subList(from, Math.min(from + this.chunkSize, entries.size()));
+            var chunkCars = chunk.stream().map(entry -> this.toNormalizedCar(cars.get(entry.getValue()), entry.getKey())).toList();
+            try {
+                int existing = this.carBatchWriter.upsertAll(chunkCars).size();
+                updated += existing;
+                inserted += chunk.size() - existing;
+            } catch (Exception e) {
+                // isolate the offending rows: retry one by one, each in its own transaction
+                log.error("Error upserting car batch chunk, retrying row by row: {}", e.getMessage());
+                for (int j = 0; j < chunk.size(); j++) {
+                    var entry = chunk.get(j);
+                    try {
+                        if (this.carBatchWriter.upsertAll(List.of(chunkCars.get(j))).isEmpty()) {
+                            inserted++;
+                        } else {
+                            updated++;
+                        }
+                    } catch (Exception rowError) {
+                        failures.add(failed(entry.getValue(), entry.getKey(), rowError.getMessage()));
+                    }
+                }
+            }
+        }
+
+        failures.sort(Comparator.comparingLong(CarBatchResultDTO::getIndex));
+        return summary(cars.size(), inserted, updated, 0, failures);
+    }
+
+    @Override
+    public CarBatchSummaryDTO deleteCarBatch(List<String> chassis) {
+        if (Objects.isNull(chassis)) {
+            log.error("Chassis batch is null");
+            throw new BusinessException("Chassis batch cannot be null");
+        }
+
+        var failures = new ArrayList<CarBatchResultDTO>();
+        var candidates = new LinkedHashMap<String, Integer>();
+        for (int i = 0; i < chassis.size(); i++) {
+            var normalizedChassis = normalize(chassis.get(i));
+            if (Objects.isNull(normalizedChassis) || normalizedChassis.isBlank()) {
+                failures.add(failed(i, normalizedChassis, "Chassis cannot be null or blank"));
+            } else {
+                candidates.putIfAbsent(normalizedChassis, i);
+            }
+        }
+
+        long deleted = 0;
+        var entries = new ArrayList<>(candidates.entrySet());
+        for (int from = 0; from < entries.size(); from += this.chunkSize) {
+            var chunk = entries.subList(from, Math.min(from + this.chunkSize, entries.size()));
+            try {
+                deleted += this.carBatchWriter.deleteAll(chunk.stream().map(Map.Entry::getKey).toList());
+            } catch (Exception e) {
+                // the chunk rolled back as a whole: report each of its chassis, keep going with the next chunk
+                log.error("Error deleting car batch chunk: {}", e.getMessage());
+                chunk.forEach(entry -> failures.add(failed(entry.getValue(), entry.getKey(), e.getMessage())));
+            }
+        }
+
+        failures.sort(Comparator.comparingLong(CarBatchResultDTO::getIndex));
+        return summary(chassis.size(), 0, 0, deleted, failures);
+    }
+
+    private Car toNormalizedCar(CarDTO carDTO, String chassis) {
+        var car = INSTANCE.toCar(carDTO);
+        car.setChassis(chassis);
+        return car;
+    }
+
+    private List<CarBatchResultDTO> insertChunk(List<CarDTO> chunk, long baseIndex) {
+        var results = new CarBatchResultDTO[chunk.size()];
+        var candidates = new LinkedHashMap<String, Integer>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            var carDTO = chunk.get(i);
+            var chassis = Objects.isNull(carDTO) ? null : normalize(carDTO.getChassis());
+            if (Objects.isNull(chassis) || chassis.isBlank()) {
+                results[i] = failed(baseIndex + i, chassis, "Chassis cannot be null or blank");
+            } else if (candidates.putIfAbsent(chassis, i) != null) {
+                results[i] = failed(baseIndex + i, chassis, "Chassis duplicated in batch: " + chassis);
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            var existing = this.carBatchWriter.findExistingChassis(candidates.keySet());
+            existing.forEach(chassis -> {
+                int i = candidates.remove(chassis);
+                results[i] = failed(baseIndex + i, chassis, "Car already exists for chassis: " + chassis);
+            });
+        }
+
+        if (!candidates.isEmpty()) {
+            this.insertCandidates(chunk, candidates, results, baseIndex);
+        }
+        return Arrays.asList(results);
+    }
+
+    private void insertCandidates(List<CarDTO> chunk, Map<String, Integer> candidates,
+                                  CarBatchResultDTO[] results, long baseIndex) {
+        var keys = new ArrayList<>(candidates.keySet());
+        var indexes = new ArrayList<>(candidates.values());
+        var cars = new ArrayList<Car>(indexes.size());
+        indexes.forEach(i -> cars.add(INSTANCE.toCar(chunk.get(i))));
+
+        try {
+            var saved = this.carBatchWriter.insertAll(cars);
+            for (int j = 0; j < indexes.size(); j++) {
+                int i = indexes.get(j);
+                results[i] = this.created(baseIndex + i, saved.get(j));
+            }
+        } catch (Exception e) {
+            // isolate the offending rows: retry one by one, each in its own transaction
+            log.error("Error saving car batch chunk, retrying row by row: {}", e.getMessage());
+            for (int j = 0; j < indexes.size(); j++) {
+                int i = indexes.get(j);
+                try {
+                    var saved = this.carBatchWriter.insertAll(List.of(INSTANCE.toCar(chunk.get(i))));
+                    results[i] = this.created(baseIndex + i, saved.get(0));
+                } catch (Exception rowError) {
+                    results[i] = failed(baseIndex + i, keys.get(j), rowError.getMessage());
+                }
+            }
+        }
+    }
+
+    private CarBatchResultDTO created(long index, Car car) {
+        return CarBatchResultDTO.builder()
+                .index(index)
+                .id(car.getId())
+                .chassis(car.getChassis())
+                .status(BatchItemStatus.CREATED)
+                .build();
+    }
+
+    static CarBatchSummaryDTO summary(long received, long inserted, long updated, long deleted,
+                                       List<CarBatchResultDTO> failures) {
+        return CarBatchSummaryDTO.builder()
+                .received(received)
+                .inserted(inserted)
+                .updated(updated)
+                .deleted(deleted)
+                .failed(failures.size())
+                .failures(failures)
+                .build();
+    }
+
+    static CarBatchResultDTO failed(long index, String chassis, String message) {
+        return CarBatchResultDTO.builder()
+                .index(index)
+                .chassis(chassis)
+                .status(BatchItemStatus.FAILED)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.event.CarChangedEvent;
+import com.jumpcar.domain.model.entity.Car;
+import com.jumpcar.domain.model.enums.ChangeType;
+import com.jumpcar.domain.repository.CarRepository;
+import com.jumpcar.workflow.concurrency.ConcurrencyLimited;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.transaction.annotation.ReadOnly;
+import io.micronaut.transaction.annotation.Transactional;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.hibernate.SessionFactory;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.jumpcar.workflow.converter.CarConverter.INSTANCE;
+
+/**
+ * Transactional unit of work for {@link CarBatchServiceImpl}: every call is its own transaction,
+ * so a failing chunk never rolls back the chunks written before it.
+ */
+@Singleton
+@ConcurrencyLimited
+public class CarBatchWriter {
+
+    /**
+     * Upsert keyed by chassis. New rows draw their id straight from {@code car_seq}; since the
+     * sequence steps by the entity's allocation size, such an id never falls inside a block
+     * Hibernate has handed out, it only leaves a gap.
+     */
+    static final String MERGE_SQL = """
+            MERGE INTO car c
+            USING (VALUES (CAST(? AS VARCHAR(50)), CAST(? AS VARCHAR(100)), CAST(? AS VARCHAR(100)),
+                           CAST(? AS VARCHAR(50)), CAST(? AS VARCHAR(50))))
+                AS s(chassis, model, manufacturer, color, engine)
+            ON c.chassis = s.chassis
+            WHEN MATCHED THEN UPDATE SET
+                model = s.model, manufacturer = s.manufacturer, color = s.color, engine = s.engine,
+                date_updated = LOCALTIMESTAMP, version = COALESCE(c.version, 0) + 1
+            WHEN NOT MATCHED THEN INSERT (id, chassis, model, manufacturer, color, engine, date_created, version)
+                VALUES (NEXT VALUE FOR car_seq, s.chassis, s.model, s.manufacturer, s.color, s.engine, LOCALTIMESTAMP, 0)""";
+
+    private final CarRepository carRepository;
+    private final SessionFactory sessionFactory;
+    private final ApplicationEventPublisher<CarChangedEvent> carChangedEventPublisher;
+
+    @Inject
+    public CarBatchWriter(CarRepository carRepository,
+                          @Named("default") SessionFactory sessionFactory,
+                          ApplicationEventPublisher<CarChangedEvent> carChangedEventPublisher) {
+        this.carRepository = carRepository;
+        this.sessionFactory = sessionFactory;
+        this.carChangedEventPublisher = carChangedEventPublisher;
+    }
+
+    @Transactional
+    public List<Car> insertAll(List<Car> cars) {
+        var saved = this.carRepository.saveAll(cars);
+        this.carRepository.flush();
+        saved.forEach(car -> this.publish(ChangeType.CREATED, car.getChassis(), car));
+        return saved;
+    }
+
+    /**
+     * Upserts the chunk with one JDBC-batched {@code MERGE} and returns the chassis that already
+     * existed, i.e. were updated rather than inserted. Chassis must be normalized and unique.
+     */
+    @Transactional
+    public Set<String> upsertAll(List<Car> cars) {
+        var chassis = cars.stream().map(Car::getChassis).toList();
+        var existing = new HashSet<>(this.carRepository.findChassisByChassisIn(chassis));
+
+        this.sessionFactory.getCurrentSession().doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(MERGE_SQL)) {
+                for (var car : cars) {
+                    statement.setString(1, car.getChassis());
+                    statement.setString(2, car.getModel());
+                    statement.setString(3, car.getManufacturer());
+                    statement.setString(4, car.getColor());
+                    statement.setString(5, car.getEngine());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+
+        this.carRepository.findByChassisIn(chassis).forEach(car -> this.publish(
+                existing.contains(car.getChassis()) ? ChangeType.UPDATED : ChangeType.CREATED, car.getChassis(), car));
+        return existing;
+    }
+
+    /**
+     * Deletes the chunk with a single {@code DELETE ... WHERE chassis IN (...)} and returns the
+     * number of rows removed. Chassis must be normalized.
+     */
+    @Transactional
+    public int deleteAll(Collection<String> chassis) {
+        var existing = this.carRepository.findChassisByChassisIn(chassis);
+        if (existing.isEmpty()) {
+            return 0;
+        }
+        int deleted = this.carRepository.deleteByChassisIn(existing);
+        existing.forEach(item -> this.publish(ChangeType.DELETED, item, null));
+        return deleted;
+    }
+
+    @ReadOnly
+    public Set<String> findExistingChassis(Collection<String> chassis) {
+        return new HashSet<>(this.carRepository.findChassisByChassisIn(chassis));
+    }
+
+    private void publish(ChangeType type, String chassis, Car car) {
+        this.carChangedEventPublisher.publishEvent(CarChangedEvent.builder()
+                .type(type)
+                .chassis(chassis)
+                .car(Objects.isNull(car) ? null : INSTANCE.toCarDTO(car))
+                .build());
+    }
+}
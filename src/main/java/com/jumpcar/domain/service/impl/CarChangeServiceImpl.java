@@ -0,0 +1,120 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.exception.BusinessException;
+import com.jumpcar.domain.model.dto.CarChangeDTO;
+import com.jumpcar.domain.model.dto.CarChangeFeedDTO;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.entity.Car;
+import com.jumpcar.domain.model.entity.CarChange;
+import com.jumpcar.domain.repository.CarChangeRepository;
+import com.jumpcar.domain.repository.CarRepository;
+import com.jumpcar.domain.service.CarChangeService;
+import com.jumpcar.workflow.converter.CursorConverter;
+import com.jumpcar.workflow.push.CarChangeBroadcaster;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import io.micronaut.http.server.exceptions.InternalServerException;
+import io.micronaut.transaction.annotation.ReadOnly;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static com.jumpcar.workflow.converter.CarConverter.INSTANCE;
+
+/**
+ * Reads the change-feed outbox in position order. Positions are handed out in commit order (see
+ * {@link com.jumpcar.workflow.changes.CarChangeRecorder}), so every committed change is served as
+ * soon as it is visible. Each change carries the car's current state, so a consumer that applies
+ * changes in order ends up with the current table.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+public class CarChangeServiceImpl implements CarChangeService {
+
+    static final int MAX_CHANGES_SIZE = 1000;
+
+    private final CarChangeRepository carChangeRepository;
+    private final CarRepository carRepository;
+    private final CarChangeBroadcaster carChangeBroadcaster;
+
+    /**
+     * Without {@code since}, returns no changes and the token of the current head, so a new
+     * consumer can take the token, export the full table, then follow the feed from there.
+     */
+    @Override
+    @ReadOnly
+    public CarChangeFeedDTO listChanges(String since, int size) {
+        try {
+            if (size < 1 || size > MAX_CHANGES_SIZE) {
+                log.error("Invalid change feed size: {}", size);
+                throw new BusinessException("Size must be between 1 and " + MAX_CHANGES_SIZE);
+            }
+
+            if (Objects.isNull(since) || since.isBlank()) {
+                var head = this.carChangeRepository.findMaxId();
+                return CarChangeFeedDTO.builder()
+                        .changes(List.of())
+                        .nextToken(CursorConverter.encodeChange(Objects.requireNonNullElse(head, 0L)))
+                        .hasMore(false)
+                        .build();
+            }
+
+            long after = CursorConverter.decodeChange(since);
+            Pageable pageable = Pageable.from(0, size + 1, Sort.of(Sort.Order.asc("id")));
+            var changes = this.carChangeRepository.findByIdGreaterThan(after, pageable);
+
+            var hasMore = changes.size() > size;
+            List<CarChange> page = hasMore ? changes.subList(0, size) : changes;
+            var cars = this.currentCars(page);
+
+            var content = new ArrayList<CarChangeDTO>(page.size());
+            page.forEach(change -> content.add(CarChangeDTO.builder()
+                    .sequence(change.getId())
+                    .type(change.getType())
+                    .chassis(change.getChassis())
+                    .previousChassis(change.getPreviousChassis())
+                    .dateChanged(change.getDateChanged())
+                    .car(cars.get(change.getChassis()))
+                    .build()));
+
+            var nextToken = page.isEmpty() ? since : CursorConverter.encodeChange(page.get(page.size() - 1).getId());
+            return CarChangeFeedDTO.builder()
+                    .changes(content)
+                    .nextToken(nextToken)
+                    .hasMore(hasMore)
+                    .build();
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error listing car changes: {}", e.getMessage(), e);
+            throw new InternalServerException("Error listing car changes", e);
+        }
+    }
+
+    /**
+     * Changes committed from now on, as they happen. Best effort: a slow subscriber may miss
+     * changes or be disconnected, and should resync through {@link #listChanges}.
+     */
+    @Override
+    public Publisher<CarChangeDTO> streamChanges() {
+        return this.carChangeBroadcaster.stream();
+    }
+
+    private Map<String, CarDTO> currentCars(List<CarChange> changes) {
+        if (changes.isEmpty()) {
+            return Map.of();
+        }
+        var chassis = changes.stream().map(CarChange::getChassis).distinct().toList();
+        return this.carRepository.findByChassisIn(chassis).stream()
+                .collect(Collectors.toMap(Car::getChassis, INSTANCE::toCarDTO, (a, b) -> a));
+    }
+}
@@ -0,0 +1,81 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.entity.Car;
+import com.jumpcar.domain.service.CarExportService;
+import com.jumpcar.workflow.routing.CarReadRouter;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.server.exceptions.InternalServerException;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Objects;
+
+import static com.jumpcar.workflow.converter.CarConverter.INSTANCE;
+
+/**
+ * Streams the whole car table without materializing it: rows are read from a forward-only
+ * cursor on a {@link StatelessSession} (no persistence context) and mapped one by one, so
+ * heap use depends on the fetch size only. The session, and its connection, is held until
+ * the subscriber completes or cancels. {@link CarReadRouter} picks the primary or the replica
+ * like for the other list reads.
+ */
+@Slf4j
+@Singleton
+public class CarExportServiceImpl implements CarExportService {
+
+    static final String EXPORT_QUERY = "from Car c order by c.id";
+
+    private final SessionFactory sessionFactory;
+    @Nullable
+    private final SessionFactory replicaSessionFactory;
+    private final CarReadRouter carReadRouter;
+    private final int fetchSize;
+
+    @Inject
+    public CarExportServiceImpl(@Named("default") SessionFactory sessionFactory,
+                                @Nullable @Named("replica") SessionFactory replicaSessionFactory,
+                                CarReadRouter carReadRouter,
+                                @Value("${car.export.fetch-size:500}") int fetchSize) {
+        this.sessionFactory = sessionFactory;
+        this.replicaSessionFactory = replicaSessionFactory;
+        this.carReadRouter = carReadRouter;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Publisher<CarDTO> exportAllCar() {
+        // routed here, the stream is opened later on another thread, outside the request
+        var sessionFactory = this.sessionFactoryForList();
+        return Flux.using(
+                        sessionFactory::openStatelessSession,
+                        session -> Flux.fromStream(session.createQuery(EXPORT_QUERY, Car.class)
+                                        .setFetchSize(this.fetchSize)
+                                        .setReadOnly(true)
+                                        .stream())
+                                .map(INSTANCE::toCarDTO),
+                        StatelessSession::close)
+                .doOnSubscribe(subscription -> log.debug("Starting car export stream, fetch size <{}>", this.fetchSize))
+                .doOnComplete(() -> log.debug("Finish car export stream"))
+                .onErrorMap(e -> {
+                    log.error("Error exporting cars: {}", e.getMessage(), e);
+                    return new InternalServerException("Error exporting cars", e);
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private SessionFactory sessionFactoryForList() {
+        if (Objects.nonNull(this.replicaSessionFactory) && this.carReadRouter.listFromReplica()) {
+            return this.replicaSessionFactory;
+        }
+        return this.sessionFactory;
+    }
+}
@@ -0,0 +1,149 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.exception.BusinessException;
+import com.jumpcar.domain.model.dto.CarBatchResultDTO;
+import com.jumpcar.domain.model.dto.CarBatchSummaryDTO;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.enums.BatchItemStatus;
+import com.jumpcar.domain.service.CarBatchService;
+import com.jumpcar.workflow.store.HotCarStore;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.jumpcar.domain.service.impl.CarBatchServiceImpl.failed;
+import static com.jumpcar.domain.service.impl.CarBatchServiceImpl.summary;
+import static com.jumpcar.workflow.normalizer.ChassisNormalizer.normalize;
+
+/**
+ * {@link CarBatchService} for {@code car.store.mode: memory}: every car of a batch is written to
+ * {@link HotCarStore} like a single write, so batches share its write-behind queue and
+ * per-chassis ordering instead of writing H2 behind its back. A created car has no id until its
+ * insert is flushed, so its result carries none.
+ */
+@Slf4j
+@Singleton
+@Replaces(CarBatchServiceImpl.class)
+@Requires(property = "car.store.mode", value = "memory")
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+public class CarHotStoreBatchServiceImpl implements CarBatchService {
+
+    private final HotCarStore hotCarStore;
+
+    @Override
+    public List<CarBatchResultDTO> newCarBatch(List<CarDTO> cars) {
+        if (Objects.isNull(cars)) {
+            log.error("Car batch is null");
+            throw new BusinessException("Car batch cannot be null");
+        }
+
+        var seen = new HashSet<String>();
+        var results = new ArrayList<CarBatchResultDTO>(cars.size());
+        for (int i = 0; i < cars.size(); i++) {
+            results.add(this.insert(i, cars.get(i), seen));
+        }
+        return results;
+    }
+
+    @Override
+    public Publisher<CarBatchResultDTO> newCarBatchStream(Publisher<CarDTO> cars) {
+        return Flux.defer(() -> {
+            var seen = new HashSet<String>();
+            var index = new AtomicLong();
+            // a full queue makes create wait for car.store.offer-timeout, so keep it off the event loop
+            return Flux.from(cars)
+                    .publishOn(Schedulers.boundedElastic())
+                    .map(carDTO -> this.insert(index.getAndIncrement(), carDTO, seen));
+        });
+    }
+
+    @Override
+    public CarBatchSummaryDTO upsertCarBatch(List<CarDTO> cars) {
+        if (Objects.isNull(cars)) {
+            log.error("Car batch is null");
+            throw new BusinessException("Car batch cannot be null");
+        }
+
+        var failures = new ArrayList<CarBatchResultDTO>();
+        var seen = new HashSet<String>();
+        long inserted = 0;
+        long updated = 0;
+        for (int i = 0; i < cars.size(); i++) {
+            var carDTO = cars.get(i);
+            var chassis = Objects.isNull(carDTO) ? null : normalize(carDTO.getChassis());
+            if (Objects.isNull(chassis) || chassis.isBlank()) {
+                failures.add(failed(i, chassis, "Chassis cannot be null or blank"));
+            } else if (!seen.add(chassis)) {
+                failures.add(failed(i, chassis, "Chassis duplicated in batch: " + chassis));
+            } else {
+                try {
+                    if (this.hotCarStore.upsert(chassis, carDTO)) {
+                        updated++;
+                    } else {
+                        inserted++;
+                    }
+                } catch (Exception e) {
+                    failures.add(failed(i, chassis, e.getMessage()));
+                }
+            }
+        }
+        return summary(cars.size(), inserted, updated, 0, failures);
+    }
+
+    @Override
+    public CarBatchSummaryDTO deleteCarBatch(List<String> chassis) {
+        if (Objects.isNull(chassis)) {
+            log.error("Chassis batch is null");
+            throw new BusinessException("Chassis batch cannot be null");
+        }
+
+        var failures = new ArrayList<CarBatchResultDTO>();
+        var seen = new HashSet<String>();
+        long deleted = 0;
+        for (int i = 0; i < chassis.size(); i++) {
+            var normalizedChassis = normalize(chassis.get(i));
+            if (Objects.isNull(normalizedChassis) || normalizedChassis.isBlank()) {
+                failures.add(failed(i, normalizedChassis, "Chassis cannot be null or blank"));
+            } else if (seen.add(normalizedChassis)) {
+                try {
+                    if (this.hotCarStore.delete(normalizedChassis)) {
+                        deleted++;
+                    }
+                } catch (Exception e) {
+                    failures.add(failed(i, normalizedChassis, e.getMessage()));
+                }
+            }
+        }
+        return summary(chassis.size(), 0, 0, deleted, failures);
+    }
+
+    private CarBatchResultDTO insert(long index, CarDTO carDTO, Set<String> seen) {
+        var chassis = Objects.isNull(carDTO) ? null : normalize(carDTO.getChassis());
+        if (Objects.isNull(chassis) || chassis.isBlank()) {
+            return failed(index, chassis, "Chassis cannot be null or blank");
+        }
+        if (!seen.add(chassis)) {
+            return failed(index, chassis, "Chassis duplicated in batch: " + chassis);
+        }
+        try {
+            var created = this.hotCarStore.create(chassis, carDTO);
+            return CarBatchResultDTO.builder()
+                    .index(index)
+                    .id(created.getId())
+                    .chassis(created.getChassis())
+                    .status(BatchItemStatus.CREATED)
+                    .build();
+        } catch (Exception e) {
+            return failed(index, chassis, e.getMessage());
+        }
+    }
+}
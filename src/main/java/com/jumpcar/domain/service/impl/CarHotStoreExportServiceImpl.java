@@ -0,0 +1,30 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.service.CarExportService;
+import com.jumpcar.workflow.store.HotCarStore;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+/**
+ * {@link CarExportService} for {@code car.store.mode: memory}: the export is the store's content
+ * at subscription, in the same order and from the same source as the list ETag.
+ */
+@Singleton
+@Replaces(CarExportServiceImpl.class)
+@Requires(property = "car.store.mode", value = "memory")
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+public class CarHotStoreExportServiceImpl implements CarExportService {
+
+    private final HotCarStore hotCarStore;
+
+    @Override
+    public Publisher<CarDTO> exportAllCar() {
+        return Flux.defer(() -> Flux.fromIterable(this.hotCarStore.list()));
+    }
+}
@@ -0,0 +1,53 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.dto.CarListStateDTO;
+import com.jumpcar.domain.service.CarProjectionService;
+import com.jumpcar.workflow.projection.CarProjection;
+import com.jumpcar.workflow.store.HotCarStore;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+/**
+ * {@link CarProjectionService} for {@code car.store.mode: memory}: the requested fields are
+ * copied from the cars in {@link HotCarStore}, so projections see the same data as every other
+ * read.
+ */
+@Singleton
+@Replaces(CarProjectionServiceImpl.class)
+@Requires(property = "car.store.mode", value = "memory")
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+public class CarHotStoreProjectionServiceImpl implements CarProjectionService {
+
+    private final HotCarStore hotCarStore;
+
+    @Override
+    public Publisher<CarDTO> exportAllCar(String fields) {
+        var projection = CarProjection.parse(fields);
+        return Flux.defer(() -> Flux.fromIterable(this.hotCarStore.list()))
+                .map(projection::select);
+    }
+
+    @Override
+    public Page<CarDTO> listAllCarWithPagination(int page, int size, String fields) {
+        var projection = CarProjection.parse(fields);
+        Pageable pageable = Pageable.from(page, size, Sort.of(Sort.Order.asc("id")));
+        var content = this.hotCarStore.slice(pageable.getOffset(), size).stream()
+                .map(projection::select)
+                .toList();
+        return Page.of(content, pageable, (long) this.hotCarStore.size());
+    }
+
+    @Override
+    public CarListStateDTO getCarListState() {
+        return this.hotCarStore.state();
+    }
+}
@@ -0,0 +1,140 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.exception.BusinessException;
+import com.jumpcar.domain.exception.ConflictException;
+import com.jumpcar.domain.exception.NotFoundException;
+import com.jumpcar.domain.exception.PreconditionFailedException;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.dto.CarListStateDTO;
+import com.jumpcar.domain.model.dto.CarScrollDTO;
+import com.jumpcar.domain.service.CarService;
+import com.jumpcar.workflow.converter.CursorConverter;
+import com.jumpcar.workflow.store.HotCarStore;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.jumpcar.workflow.normalizer.ChassisNormalizer.normalize;
+
+/**
+ * {@link CarService} for {@code car.store.mode: memory}: every call is answered from
+ * {@link HotCarStore} without a session, transaction or connection, and writes reach the
+ * database through the store's write-behind queue.
+ */
+@Slf4j
+@Singleton
+@Replaces(CarServiceImpl.class)
+@Requires(property = "car.store.mode", value = "memory")
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+public class CarHotStoreServiceImpl implements CarService {
+
+    private final HotCarStore hotCarStore;
+
+    @Override
+    public CarDTO newCar(CarDTO carDTO) {
+        this.verifyObject(carDTO);
+        this.verifyChassis(carDTO.getChassis());
+        return this.hotCarStore.create(normalize(carDTO.getChassis()), carDTO);
+    }
+
+    @Override
+    public CarDTO getCarByChassis(String chassis) {
+        this.verifyChassis(chassis);
+        var car = this.hotCarStore.get(normalize(chassis));
+        if (Objects.isNull(car)) {
+            throw new NotFoundException("Car not found for chassis: " + chassis);
+        }
+        return car;
+    }
+
+    @Override
+    public void deleteCarByChassis(String chassis) {
+        this.verifyChassis(chassis);
+        this.hotCarStore.delete(normalize(chassis));
+    }
+
+    @Override
+    public void deleteCarByChassis(String chassis, long version) {
+        this.verifyChassis(chassis);
+        if (!this.hotCarStore.delete(normalize(chassis), version)) {
+            throw new NotFoundException("Car not found for chassis: " + chassis);
+        }
+    }
+
+    @Override
+    public CarDTO updateCarByChassis(String chassis, CarDTO carDTO) {
+        this.verifyChassis(chassis);
+        this.verifyObject(carDTO);
+        return this.hotCarStore.update(normalize(chassis), normalize(carDTO.getChassis()), carDTO);
+    }
+
+    @Override
+    public CarDTO updateCarByChassis(String chassis, CarDTO carDTO, long version) {
+        this.verifyChassis(chassis);
+        this.verifyObject(carDTO);
+        if (Objects.nonNull(carDTO.getVersion()) && carDTO.getVersion() != version) {
+            throw new ConflictException("Car version " + carDTO.getVersion() + " does not match If-Match version " + version);
+        }
+        try {
+            return this.hotCarStore.update(normalize(chassis), normalize(carDTO.getChassis()), carDTO.toBuilder().version(version).build());
+        } catch (ConflictException e) {
+            throw new PreconditionFailedException(e.getMessage());
+        }
+    }
+
+    @Override
+    public Page<CarDTO> listAllCarWithPagination(int page, int size) {
+        Pageable pageable = Pageable.from(page, size, Sort.of(Sort.Order.asc("id")));
+        return Page.of(this.hotCarStore.slice(pageable.getOffset(), size), pageable, (long) this.hotCarStore.size());
+    }
+
+    @Override
+    public List<CarDTO> searchCarByChassis(String term, int page, int size) {
+        this.verifyChassis(term);
+        return this.hotCarStore.searchByChassis(normalize(term), (long) page * size, size);
+    }
+
+    @Override
+    public CarScrollDTO scrollCar(String after, int size) {
+        if (size < 1 || size > CarServiceImpl.MAX_SCROLL_SIZE) {
+            log.error("Invalid scroll size: {}", size);
+            throw new BusinessException("Size must be between 1 and " + CarServiceImpl.MAX_SCROLL_SIZE);
+        }
+        var cars = this.hotCarStore.after(CursorConverter.decode(after), size + 1);
+        var hasNext = cars.size() > size;
+        var content = hasNext ? cars.subList(0, size) : cars;
+        return CarScrollDTO.builder()
+                .content(content)
+                .size(content.size())
+                .nextCursor(hasNext ? CursorConverter.encode(content.get(size - 1).getId()) : null)
+                .build();
+    }
+
+    @Override
+    public CarListStateDTO getCarListState() {
+        return this.hotCarStore.state();
+    }
+
+    private void verifyObject(CarDTO carDTO) {
+        if (Objects.isNull(carDTO)) {
+            log.error("CarDTO is null");
+            throw new BusinessException("CarDTO cannot be null");
+        }
+    }
+
+    private void verifyChassis(String chassis) {
+        if (Objects.isNull(chassis) || chassis.isBlank()) {
+            log.error("Chassis is null or blank");
+            throw new BusinessException("Chassis cannot be null or blank");
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.dto.CarListStateDTO;
+import com.jumpcar.domain.service.CarProjectionService;
+import com.jumpcar.workflow.coalescing.Coalesced;
+import com.jumpcar.workflow.concurrency.ConcurrencyLimited;
+import com.jumpcar.workflow.projection.CarProjection;
+import com.jumpcar.workflow.routing.CarReadRouter;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import io.micronaut.http.server.exceptions.InternalServerException;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import jakarta.persistence.Tuple;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Objects;
+
+/**
+ * List reads for {@code fields=}: a JPQL projection selects only the requested columns into
+ * tuples on a {@link StatelessSession}, so no {@code Car} entity is built, tracked or converted.
+ * Like the other list reads, {@link CarReadRouter} picks the primary or the replica, and
+ * {@link #getCarListState()} reads the same database so list ETags match the projected rows.
+ */
+@Slf4j
+@Singleton
+public class CarProjectionServiceImpl implements CarProjectionService {
+
+    private final SessionFactory sessionFactory;
+    @Nullable
+    private final SessionFactory replicaSessionFactory;
+    private final CarReadRouter carReadRouter;
+    private final int fetchSize;
+
+    @Inject
+    public CarProjectionServiceImpl(@Named("default") SessionFactory sessionFactory,
+                                    @Nullable @Named("replica") SessionFactory replicaSessionFactory,
+                                    CarReadRouter carReadRouter,
+                                    @Value("${car.export.fetch-size:500}") int fetchSize) {
+        this.sessionFactory = sessionFactory;
+        this.replicaSessionFactory = replicaSessionFactory;
+        this.carReadRouter = carReadRouter;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Publisher<CarDTO> exportAllCar(String fields) {
+        var projection = CarProjection.parse(fields);
+        // routed here, the stream is opened later on another thread, outside the request
+        var sessionFactory = this.sessionFactoryForList();
+        return Flux.using(
+                        sessionFactory::openStatelessSession,
+                        session -> Flux.fromStream(session.createQuery(projection.query(), Tuple.class)
+                                        .setFetchSize(this.fetchSize)
+                                        .setReadOnly(true)
+                                        .stream())
+                                .map(projection::toCarDTO),
+                        StatelessSession::close)
+                .doOnSubscribe(subscription -> log.debug("Starting car export stream, fields <{}>", projection))
+                .onErrorMap(e -> {
+                    log.error("Error exporting car fields: {}", e.getMessage(), e);
+                    return new InternalServerException("Error exporting cars", e);
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    @Coalesced
+    @ConcurrencyLimited
+    public Page<CarDTO> listAllCarWithPagination(int page, int size, String fields) {
+        var projection = CarProjection.parse(fields);
+        try (var session = this.sessionFactoryForList().openStatelessSession()) {
+            Pageable pageable = Pageable.from(page, size, Sort.of(Sort.Order.asc("id")));
+            var content = session.createQuery(projection.query(), Tuple.class)
+                    .setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(size)
+                    .setReadOnly(true)
+                    .list()
+                    .stream()
+                    .map(projection::toCarDTO)
+                    .toList();
+            long total = session.createQuery(CarProjection.COUNT_QUERY, Long.class).getSingleResult();
+            return Page.of(content, pageable, total);
+        } catch (Exception e) {
+            log.error("Error listing car fields with pagination: {}", e.getMessage(), e);
+            throw new InternalServerException("Error listing cars with pagination", e);
+        }
+    }
+
+    @Override
+    @ConcurrencyLimited
+    public CarListStateDTO getCarListState() {
+        try {
+            return this.carReadRouter.forList().findListState();
+        } catch (Exception e) {
+            log.error("Error reading car list state: {}", e.getMessage(), e);
+            throw new InternalServerException("Error reading car list state", e);
+        }
+    }
+
+    private SessionFactory sessionFactoryForList() {
+        if (Objects.nonNull(this.replicaSessionFactory) && this.carReadRouter.listFromReplica()) {
+            return this.replicaSessionFactory;
+        }
+        return this.sessionFactory;
+    }
+}
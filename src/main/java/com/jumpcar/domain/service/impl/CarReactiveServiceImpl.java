@@ -0,0 +1,107 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.exception.BusinessException;
+import com.jumpcar.domain.exception.NotFoundException;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.repository.CarReactiveRepository;
+import com.jumpcar.domain.service.CarReactiveService;
+import com.jumpcar.domain.service.CarService;
+import com.jumpcar.workflow.cache.CarCache;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import io.micronaut.http.server.exceptions.InternalServerException;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Objects;
+
+import static com.jumpcar.workflow.converter.CarConverter.INSTANCE;
+import static com.jumpcar.workflow.normalizer.ChassisNormalizer.normalize;
+
+/**
+ * Reads run on {@link CarReactiveRepository} without blocking a thread, so results are pulled
+ * from the database only as fast as the client consumes them. Writes are delegated to the
+ * blocking {@link CarService} on a bounded elastic worker, so validation, transactions, cache
+ * invalidation and change events stay in one place. Not available with
+ * {@code car.store.mode: memory}, where its R2DBC reads would bypass {@code HotCarStore}.
+ */
+@Slf4j
+@Singleton
+@Requires(property = "car.reactive.enabled", value = "true")
+@Requires(property = "car.store.mode", notEquals = "memory")
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+public class CarReactiveServiceImpl implements CarReactiveService {
+
+    private final CarReactiveRepository carReactiveRepository;
+    private final CarService carService;
+    private final CarCache carCache;
+
+    @Override
+    public Mono<CarDTO> newCar(CarDTO carDTO) {
+        return Mono.fromCallable(() -> this.carService.newCar(carDTO))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Flux<CarDTO> listAllCar() {
+        return this.carReactiveRepository.findAll()
+                .map(INSTANCE::toCarDTO)
+                .onErrorMap(e -> {
+                    log.error("Error listing cars: {}", e.getMessage(), e);
+                    return new InternalServerException("Error listing cars", e);
+                });
+    }
+
+    @Override
+    public Mono<CarDTO> getCarByChassis(String chassis) {
+        if (Objects.isNull(chassis) || chassis.isBlank()) {
+            return Mono.error(new BusinessException("Chassis cannot be null or blank"));
+        }
+
+        var normalizedChassis = normalize(chassis);
+        var cached = this.carCache.get(normalizedChassis);
+        if (Objects.nonNull(cached)) {
+            return Mono.just(cached);
+        }
+
+        long generation = this.carCache.generation(normalizedChassis);
+        return this.carReactiveRepository.findByChassis(normalizedChassis)
+                .map(INSTANCE::toCarDTO)
+                .doOnNext(carDTO -> this.carCache.put(normalizedChassis, carDTO, generation))
+                .onErrorMap(e -> {
+                    log.error("Error searching car by chassis: {}", e.getMessage(), e);
+                    return new InternalServerException("Error searching car by chassis", e);
+                })
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("Car not found for chassis: " + chassis)));
+    }
+
+    @Override
+    public Mono<Void> deleteCarByChassis(String chassis) {
+        return Mono.<Void>fromRunnable(() -> this.carService.deleteCarByChassis(chassis))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<CarDTO> updateCarByChassis(String chassis, CarDTO carDTO) {
+        return Mono.fromCallable(() -> this.carService.updateCarByChassis(chassis, carDTO))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<Page<CarDTO>> listAllCarWithPagination(int page, int size) {
+        Pageable pageable = Pageable.from(page, size, Sort.of(Sort.Order.asc("id")));
+        return this.carReactiveRepository.findAll(pageable)
+                .map(carPage -> carPage.map(INSTANCE::toCarDTO))
+                .onErrorMap(e -> {
+                    log.error("Error listing cars with pagination: {}", e.getMessage(), e);
+                    return new InternalServerException("Error listing cars with pagination", e);
+                });
+    }
+}
@@ -0,0 +1,44 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.exception.BusinessException;
+import com.jumpcar.domain.model.dto.CarSearchCriteriaDTO;
+import com.jumpcar.domain.model.dto.CarSearchResultDTO;
+import com.jumpcar.domain.service.CarSearchService;
+import com.jumpcar.workflow.search.CarSearchIndex;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Objects;
+
+/**
+ * Served entirely from {@link CarSearchIndex}: no transaction, no connection and no
+ * concurrency permit.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+public class CarSearchServiceImpl implements CarSearchService {
+
+    static final int MAX_SEARCH_SIZE = 1000;
+
+    private final CarSearchIndex carSearchIndex;
+
+    @Override
+    public CarSearchResultDTO searchCar(CarSearchCriteriaDTO criteria) {
+        if (Objects.isNull(criteria)) {
+            log.error("Car search criteria is null");
+            throw new BusinessException("Search criteria cannot be null");
+        }
+        if (criteria.getPage() < 0) {
+            log.error("Invalid search page: {}", criteria.getPage());
+            throw new BusinessException("Page must not be negative");
+        }
+        if (criteria.getSize() < 1 || criteria.getSize() > MAX_SEARCH_SIZE) {
+            log.error("Invalid search size: {}", criteria.getSize());
+            throw new BusinessException("Size must be between 1 and " + MAX_SEARCH_SIZE);
+        }
+        return this.carSearchIndex.search(criteria);
+    }
+}
@@ -1,24 +1,49 @@
 package com.jumpcar.domain.service.impl;
 
+import com.jumpcar.domain.event.CarChangedEvent;
 import com.jumpcar.domain.exception.BusinessException;
+import com.jumpcar.domain.exception.ConcurrencyLimitException;
+import com.jumpcar.domain.exception.ConflictException;
 import com.jumpcar.domain.exception.NotFoundException;
+import com.jumpcar.domain.exception.PreconditionFailedException;
 import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.dto.CarListStateDTO;
+import com.jumpcar.domain.model.dto.CarScrollDTO;
+import com.jumpcar.domain.model.entity.Car;
+import com.jumpcar.domain.model.enums.ChangeType;
 import com.jumpcar.domain.repository.CarRepository;
 import com.jumpcar.domain.service.CarService;
+import com.jumpcar.workflow.cache.CarCache;
+import com.jumpcar.workflow.coalescing.Coalesced;
+import com.jumpcar.workflow.concurrency.ConcurrencyLimited;
+import com.jumpcar.workflow.concurrency.ConcurrencyLimiter;
+import com.jumpcar.workflow.converter.CursorConverter;
+import com.jumpcar.workflow.routing.CarReadRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Sort;
 import io.micronaut.http.server.exceptions.InternalServerException;
+import io.micronaut.transaction.TransactionDefinition;
 import io.micronaut.transaction.annotation.Transactional;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import static com.jumpcar.workflow.converter.CarConverter.INSTANCE;
+import static com.jumpcar.workflow.normalizer.ChassisNormalizer.normalize;
 
 @Slf4j
 @Singleton
@@ -26,109 +51,347 @@ import static com.jumpcar.workflow.converter.CarConverter.INSTANCE;
 @RequiredArgsConstructor(onConstructor = @__(@Inject))
 public class CarServiceImpl implements CarService {
 
+    static final int MAX_SCROLL_SIZE = 1000;
+    static final String SERVICE_TIMER = "car.service";
+
     private final CarRepository carRepository;
+    private final CarCache carCache;
+    private final CarReadRouter carReadRouter;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final ApplicationEventPublisher<CarChangedEvent> carChangedEventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
 
     @Override
+    @ConcurrencyLimited
     public CarDTO newCar(CarDTO carDTO) {
+        long start = System.nanoTime();
         try {
             this.verifyObject(carDTO);
+            this.verifyChassis(carDTO.getChassis());
 
-            log.info("Starting car record save flow");
-            var car = INSTANCE.toCar(carDTO);
-            log.info("Car <{}>", car);
+            var normalizedChassis = normalize(carDTO.getChassis());
+            if (this.carRepository.existsByChassis(normalizedChassis)) {
+                throw duplicateChassis(carDTO.getChassis());
+            }
 
+            var car = INSTANCE.toCar(carDTO);
             this.carRepository.save(car);
-
-            log.info("Finish car record save flow");
+            // flushed here, so a concurrent insert of the same chassis fails inside this method
+            this.carRepository.flush();
+            this.publish(ChangeType.CREATED, normalizedChassis, null, INSTANCE.toCarDTO(car));
             return carDTO;
         } catch (BusinessException e) {
             throw e;
         } catch (Exception e) {
+            if (isChassisConflict(e)) {
+                throw duplicateChassis(carDTO.getChassis());
+            }
             log.error("Error creating new car: {}", e.getMessage(), e);
             throw new InternalServerException("Error creating new car", e);
+        } finally {
+            this.recordTiming("newCar", start);
         }
     }
 
+    /**
+     * Served from {@link CarCache} when possible. {@code SUPPORTS} keeps the class-level
+     * transaction from being opened and only the database lookup takes a concurrency permit, so a
+     * cache hit never borrows a pooled resource. Concurrent calls for the same chassis share one lookup.
+     */
     @Override
-    public List<CarDTO> listAllCar() {
-        log.info("Starting to list all cars");
-
-        var cars = this.carRepository.findAll();
-        log.info("Total cars found: {}", cars.size());
-
-        log.info("Finish listing all cars");
-        return INSTANCE.toCarDTO(cars);
-    }
-
-    @Override
+    @Coalesced
+    @Transactional(propagation = TransactionDefinition.Propagation.SUPPORTS)
     public CarDTO getCarByChassis(String chassis) {
+        long start = System.nanoTime();
         try {
             this.verifyChassis(chassis);
 
-            log.info("Starting to search car by chassis: {}", chassis);
-            var car = this.carRepository.findByChassisContainsIgnoreCase(chassis)
+            var normalizedChassis = normalize(chassis);
+            var cached = this.carCache.get(normalizedChassis);
+            if (Objects.nonNull(cached)) {
+                return cached;
+            }
+
+            long generation = this.carCache.generation(normalizedChassis);
+            var repository = this.carReadRouter.forChassis(normalizedChassis);
+            var car = this.concurrencyLimiter.call("getCarByChassis", () -> repository.findByChassis(normalizedChassis))
                     .orElseThrow(() -> new NotFoundException("Car not found for chassis: " + chassis));
-            log.info("Car found: {}", car);
-            return INSTANCE.toCarDTO(car);
-        } catch (BusinessException | NotFoundException e) {
+
+            var carDTO = INSTANCE.toCarDTO(car);
+            // a replica row may lag the primary, so only primary reads are cached
+            if (repository == this.carRepository) {
+                this.carCache.put(normalizedChassis, carDTO, generation);
+            }
+            return carDTO;
+        } catch (BusinessException | NotFoundException | ConcurrencyLimitException e) {
             throw e;
         } catch (Exception e) {
             log.error("Error searching car by chassis: {}", e.getMessage(), e);
             throw new InternalServerException("Error searching car by chassis", e);
+        } finally {
+            this.recordTiming("getCarByChassis", start);
         }
     }
 
     @Override
+    @ConcurrencyLimited
     public void deleteCarByChassis(String chassis) {
+        long start = System.nanoTime();
+        try {
+            this.verifyChassis(chassis);
+            var normalizedChassis = normalize(chassis);
+            // deleting a missing car stays a no-op: nothing to record, push or invalidate
+            if (this.carRepository.deleteByChassis(normalizedChassis) > 0) {
+                this.publish(ChangeType.DELETED, normalizedChassis, null, null);
+            }
+        } catch (Exception e) {
+            log.error("Error deleting car by chassis: {}", e.getMessage(), e);
+            throw new InternalServerException("Error deleting car by chassis", e);
+        } finally {
+            this.recordTiming("deleteCarByChassis", start);
+        }
+    }
+
+    /**
+     * Conditional delete: the row is only removed while it is still at {@code version}, in the
+     * same statement, so a write between the caller's check and the delete cannot be lost.
+     */
+    @Override
+    @ConcurrencyLimited
+    public void deleteCarByChassis(String chassis, long version) {
+        long start = System.nanoTime();
         try {
             this.verifyChassis(chassis);
-            log.info("Starting to delete car by chassis: {}", chassis);
-            this.carRepository.deleteByChassisContainsIgnoreCase(chassis);
-            log.info("Car deleted successfully for chassis: {}", chassis);
+            var normalizedChassis = normalize(chassis);
+            if (this.carRepository.deleteByChassisAndVersion(normalizedChassis, version) == 0) {
+                throw this.deleteMissException(normalizedChassis, version);
+            }
+            this.publish(ChangeType.DELETED, normalizedChassis, null, null);
+        } catch (BusinessException | NotFoundException | PreconditionFailedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error deleting car by chassis: {}", e.getMessage(), e);
             throw new InternalServerException("Error deleting car by chassis", e);
+        } finally {
+            this.recordTiming("deleteCarByChassis", start);
         }
     }
 
+    /**
+     * Partial update: only non-null fields of {@code carDTO} are written, in a single statement
+     * that also returns the updated row. When {@code carDTO.version} is set, the update only
+     * applies if the car is still at that version, otherwise a {@link ConflictException} is thrown.
+     */
     @Override
+    @ConcurrencyLimited
     public CarDTO updateCarByChassis(String chassis, CarDTO carDTO) {
+        return this.patch(chassis, carDTO, Objects.isNull(carDTO) ? null : carDTO.getVersion(), false);
+    }
+
+    /**
+     * Conditional update for {@code If-Match}: the partial update is pinned to {@code version} in
+     * the same statement, and a car at another version is a {@link PreconditionFailedException}.
+     */
+    @Override
+    @ConcurrencyLimited
+    public CarDTO updateCarByChassis(String chassis, CarDTO carDTO, long version) {
+        if (Objects.nonNull(carDTO) && Objects.nonNull(carDTO.getVersion()) && carDTO.getVersion() != version) {
+            throw new ConflictException("Car version " + carDTO.getVersion() + " does not match If-Match version " + version);
+        }
+        return this.patch(chassis, carDTO, version, true);
+    }
+
+    private CarDTO patch(String chassis, CarDTO carDTO, @Nullable Long version, boolean precondition) {
+        long start = System.nanoTime();
         try {
             this.verifyChassis(chassis);
             this.verifyObject(carDTO);
 
-            log.info("Starting to update car by chassis: {}", chassis);
-            var existingCar = this.carRepository.findByChassisContainsIgnoreCase(chassis)
-                    .orElseThrow(() -> new NotFoundException("Car not found for chassis: " + chassis));
+            var normalizedChassis = normalize(chassis);
+            var newChassis = normalize(carDTO.getChassis());
+            if (Objects.nonNull(newChassis) && !newChassis.equals(normalizedChassis)
+                    && this.carRepository.existsByChassis(newChassis)) {
+                throw duplicateChassis(carDTO.getChassis());
+            }
 
-            var updatedCar = INSTANCE.toCar(carDTO);
-            updatedCar.setId(existingCar.getId());
+            var updatedCar = this.carRepository.findAndPatchByChassis(normalizedChassis,
+                            carDTO.getModel(), carDTO.getManufacturer(), carDTO.getColor(), carDTO.getEngine(),
+                            newChassis, version)
+                    .orElseThrow(() -> this.updateMissException(normalizedChassis, version, precondition));
 
-            this.carRepository.update(updatedCar);
-            log.info("Car updated successfully for chassis: {}", chassis);
-            return INSTANCE.toCarDTO(updatedCar);
-        } catch (BusinessException | NotFoundException e) {
+            var updatedCarDTO = INSTANCE.toCarDTO(updatedCar);
+            var previousChassis = updatedCar.getChassis().equals(normalizedChassis) ? null : normalizedChassis;
+            this.publish(ChangeType.UPDATED, updatedCar.getChassis(), previousChassis, updatedCarDTO);
+            return updatedCarDTO;
+        } catch (BusinessException | NotFoundException | ConflictException | PreconditionFailedException e) {
             throw e;
         } catch (Exception e) {
+            if (isChassisConflict(e)) {
+                throw duplicateChassis(carDTO.getChassis());
+            }
             log.error("Error updating car by chassis: {}", e.getMessage(), e);
             throw new InternalServerException("Error updating car by chassis", e);
+        } finally {
+            this.recordTiming("updateCarByChassis", start);
         }
     }
 
+    /**
+     * List reads run with {@code SUPPORTS} and go through {@link CarReadRouter}, so they can be
+     * served by the replica without holding a primary connection.
+     */
+    @Override
+    @Coalesced
+    @ConcurrencyLimited
+    @Transactional(propagation = TransactionDefinition.Propagation.SUPPORTS)
     public Page<CarDTO> listAllCarWithPagination(int page, int size) {
+        long start = System.nanoTime();
         try {
-            log.info("Starting to list all cars with pagination: page= <{}>, size= <{}>", page, size);
-
             Pageable pageable = Pageable.from(page, size, Sort.of(Sort.Order.asc("id")));
-            Page<CarDTO> carPage = this.carRepository.findAll(pageable)
+            return this.carReadRouter.forList().findAll(pageable)
                     .map(INSTANCE::toCarDTO);
-
-            log.info("Total cars pagination found: {}", carPage.getTotalSize());
-            return carPage;
         } catch (Exception e) {
             log.error("Error listing cars with pagination: {}", e.getMessage(), e);
             throw new InternalServerException("Error listing cars with pagination", e);
+        } finally {
+            this.recordTiming("listAllCarWithPagination", start);
+        }
+    }
+
+    @Override
+    @ConcurrencyLimited
+    public List<CarDTO> searchCarByChassis(String term, int page, int size) {
+        long start = System.nanoTime();
+        try {
+            this.verifyChassis(term);
+
+            Pageable pageable = Pageable.from(page, size, Sort.of(Sort.Order.asc("id")));
+            return INSTANCE.toCarDTO(this.carRepository.findByChassisContains(normalize(term), pageable));
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error searching cars by chassis term: {}", e.getMessage(), e);
+            throw new InternalServerException("Error searching cars by chassis term", e);
+        } finally {
+            this.recordTiming("searchCarByChassis", start);
+        }
+    }
+
+    @Override
+    @ConcurrencyLimited
+    public CarScrollDTO scrollCar(String after, int size) {
+        long start = System.nanoTime();
+        try {
+            this.verifySize(size);
+            long afterId = CursorConverter.decode(after);
+
+            // one extra row tells whether another page exists, without a COUNT(*)
+            Pageable pageable = Pageable.from(0, size + 1, Sort.of(Sort.Order.asc("id")));
+            var cars = this.carRepository.findByIdGreaterThan(afterId, pageable);
+
+            var hasNext = cars.size() > size;
+            List<Car> page = hasNext ? cars.subList(0, size) : cars;
+            var content = INSTANCE.toCarDTO(page);
+            var nextCursor = hasNext ? CursorConverter.encode(content.get(size - 1).getId()) : null;
+            return CarScrollDTO.builder()
+                    .content(content)
+                    .size(content.size())
+                    .nextCursor(nextCursor)
+                    .build();
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error scrolling cars: {}", e.getMessage(), e);
+            throw new InternalServerException("Error scrolling cars", e);
+        } finally {
+            this.recordTiming("scrollCar", start);
+        }
+    }
+
+    @Override
+    @ConcurrencyLimited
+    @Transactional(propagation = TransactionDefinition.Propagation.SUPPORTS)
+    public CarListStateDTO getCarListState() {
+        try {
+            return this.carReadRouter.forList().findListState();
+        } catch (Exception e) {
+            log.error("Error reading car list state: {}", e.getMessage(), e);
+            throw new InternalServerException("Error reading car list state", e);
+        }
+    }
+
+    private void publish(ChangeType type, String chassis, String previousChassis, CarDTO carDTO) {
+        this.carChangedEventPublisher.publishEvent(CarChangedEvent.builder()
+                .type(type)
+                .chassis(chassis)
+                .previousChassis(previousChassis)
+                .car(carDTO)
+                .build());
+    }
+
+    /**
+     * The one per-request timing record: always added to the {@code car.service} timer of the
+     * operation, and logged as a key=value line only when DEBUG is on (no formatting, no boxing
+     * otherwise). Timers are registered once per operation and reused.
+     */
+    private void recordTiming(String operation, long start) {
+        long duration = System.nanoTime() - start;
+        var timer = this.timers.get(operation);
+        if (Objects.isNull(timer)) {
+            timer = this.timers.computeIfAbsent(operation, this::serviceTimer);
+        }
+        timer.record(duration, TimeUnit.NANOSECONDS);
+        if (log.isDebugEnabled()) {
+            log.debug("op={} durationMicros={}", operation, duration / 1_000);
+        }
+    }
+
+    private Timer serviceTimer(String operation) {
+        return Timer.builder(SERVICE_TIMER)
+                .description("Car service calls, including failed ones")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(this.meterRegistry);
+    }
+
+    /**
+     * Only runs when the patch matched no row, to tell a stale version from a missing car.
+     */
+    private RuntimeException updateMissException(String chassis, @Nullable Long version, boolean precondition) {
+        if (Objects.nonNull(version) && this.carRepository.existsByChassis(chassis)) {
+            var message = "Car was modified concurrently, expected version " + version + " for chassis: " + chassis;
+            return precondition ? new PreconditionFailedException(message) : new ConflictException(message);
+        }
+        return new NotFoundException("Car not found for chassis: " + chassis);
+    }
+
+    /**
+     * Only runs when the conditional delete matched no row, to tell a stale version from a missing car.
+     */
+    private RuntimeException deleteMissException(String chassis, long version) {
+        if (this.carRepository.existsByChassis(chassis)) {
+            return new PreconditionFailedException("Car was modified concurrently, expected version " + version + " for chassis: " + chassis);
+        }
+        return new NotFoundException("Car not found for chassis: " + chassis);
+    }
+
+    private static BusinessException duplicateChassis(String chassis) {
+        return new BusinessException("Car already exists for chassis: " + chassis);
+    }
+
+    /**
+     * True when {@code e} was caused by {@code uk_car_chassis}: the existence check passed, but a
+     * concurrent request stored the same chassis first.
+     */
+    private static boolean isChassisConflict(Throwable e) {
+        for (var cause = e; Objects.nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return (violation.getConstraintName() + " " + violation.getMessage()).toLowerCase(Locale.ROOT).contains("uk_car_chassis");
+            }
         }
+        return false;
     }
 
     private void verifyObject(CarDTO carDTO) {
@@ -145,4 +408,11 @@ public class CarServiceImpl implements CarService {
         }
     }
 
+    private void verifySize(int size) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            log.error("Invalid scroll size: {}", size);
+            throw new BusinessException("Size must be between 1 and " + MAX_SCROLL_SIZE);
+        }
+    }
+
 }
@@ -0,0 +1,134 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.exception.BusinessException;
+import com.jumpcar.domain.model.dto.CarCountDTO;
+import com.jumpcar.domain.model.dto.CarStatsDTO;
+import com.jumpcar.domain.model.enums.StatsDimension;
+import com.jumpcar.domain.model.enums.StatsSource;
+import com.jumpcar.domain.repository.CarReadRepository;
+import com.jumpcar.domain.service.CarStatsService;
+import com.jumpcar.workflow.routing.CarReadRouter;
+import com.jumpcar.workflow.snapshot.CarFleetSnapshot.Attribute;
+import com.jumpcar.workflow.snapshot.CarFleetSnapshotProvider;
+import com.jumpcar.workflow.stats.CarStatsCounters;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.server.exceptions.InternalServerException;
+import io.micronaut.transaction.TransactionDefinition;
+import io.micronaut.transaction.annotation.Transactional;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Car counts per dimension from one of three sources: {@code database} runs a {@code GROUP BY}
+ * on the routed read repository, {@code memory} counts the {@link CarFleetSnapshotProvider}
+ * snapshot in parallel, and {@code counters} reads the incrementally kept
+ * {@link CarStatsCounters}. Only {@code database} is exact right after a write; the snapshot
+ * may lag by {@code car.snapshot.max-staleness}.
+ */
+@Slf4j
+@Singleton
+public class CarStatsServiceImpl implements CarStatsService {
+
+    private final CarReadRouter carReadRouter;
+    private final CarFleetSnapshotProvider carFleetSnapshotProvider;
+    private final CarStatsCounters carStatsCounters;
+    private final StatsSource defaultSource;
+
+    @Inject
+    public CarStatsServiceImpl(CarReadRouter carReadRouter,
+                               CarFleetSnapshotProvider carFleetSnapshotProvider,
+                               @Nullable CarStatsCounters carStatsCounters,
+                               @Value("${car.stats.default-source:database}") String defaultSource) {
+        this.carReadRouter = carReadRouter;
+        this.carFleetSnapshotProvider = carFleetSnapshotProvider;
+        this.carStatsCounters = carStatsCounters;
+        this.defaultSource = StatsSource.valueOf(defaultSource.toUpperCase(Locale.ROOT));
+    }
+
+    @Override
+    @Transactional(propagation = TransactionDefinition.Propagation.SUPPORTS)
+    public CarStatsDTO getStats(String dimension, @Nullable String source) {
+        try {
+            var statsDimension = parse(StatsDimension.class, dimension, "dimension");
+            var statsSource = Objects.isNull(source) || source.isBlank() ? this.defaultSource : parse(StatsSource.class, source, "source");
+            return switch (statsSource) {
+                case DATABASE -> this.fromDatabase(statsDimension);
+                case MEMORY -> this.fromSnapshot(statsDimension);
+                case COUNTERS -> this.fromCounters(statsDimension);
+            };
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error computing car stats: {}", e.getMessage(), e);
+            throw new InternalServerException("Error computing car stats", e);
+        }
+    }
+
+    private CarStatsDTO fromDatabase(StatsDimension dimension) {
+        CarReadRepository repository = this.carReadRouter.forList();
+        List<CarCountDTO> rows = switch (dimension) {
+            case MANUFACTURER -> repository.countByManufacturer();
+            case COLOR -> repository.countByColor();
+            case ENGINE -> repository.countByEngine();
+            case MONTH -> repository.countByCreatedMonth().stream()
+                    .map(row -> new CarCountDTO(Objects.isNull(row.getCreatedYear()) || Objects.isNull(row.getCreatedMonth())
+                            ? null : YearMonth.of(row.getCreatedYear(), row.getCreatedMonth()).toString(), row.getTotal()))
+                    .toList();
+        };
+        var counts = new LinkedHashMap<String, Long>();
+        rows.stream()
+                .filter(row -> Objects.nonNull(row.getName()))
+                .sorted((a, b) -> Long.compare(b.getTotal(), a.getTotal()))
+                .forEach(row -> counts.put(row.getName(), row.getTotal()));
+        return stats(dimension, StatsSource.DATABASE, rows.stream().mapToLong(CarCountDTO::getTotal).sum(), counts);
+    }
+
+    private CarStatsDTO fromSnapshot(StatsDimension dimension) {
+        var snapshot = this.carFleetSnapshotProvider.current();
+        var attribute = switch (dimension) {
+            case MANUFACTURER -> Attribute.MANUFACTURER;
+            case COLOR -> Attribute.COLOR;
+            case ENGINE -> Attribute.ENGINE;
+            case MONTH -> Attribute.CREATED_MONTH;
+        };
+        return stats(dimension, StatsSource.MEMORY, snapshot.size(), snapshot.parallelCountBy(attribute));
+    }
+
+    private CarStatsDTO fromCounters(StatsDimension dimension) {
+        if (Objects.isNull(this.carStatsCounters)) {
+            log.error("Car stats counters requested but disabled");
+            throw new BusinessException("Stats counters are disabled, set car.stats.counters.enabled");
+        }
+        return stats(dimension, StatsSource.COUNTERS, this.carStatsCounters.total(), this.carStatsCounters.counts(dimension));
+    }
+
+    private static CarStatsDTO stats(StatsDimension dimension, StatsSource source, long total, Map<String, Long> counts) {
+        return CarStatsDTO.builder()
+                .dimension(dimension)
+                .source(source)
+                .total(total)
+                .counts(counts)
+                .build();
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value, String name) {
+        for (var constant : type.getEnumConstants()) {
+            if (constant.name().equalsIgnoreCase(value)) {
+                return constant;
+            }
+        }
+        log.error("Invalid stats {}: {}", name, value);
+        throw new BusinessException("Unknown stats " + name + ": " + value + ", expected one of "
+                + Arrays.toString(type.getEnumConstants()).toLowerCase(Locale.ROOT));
+    }
+}
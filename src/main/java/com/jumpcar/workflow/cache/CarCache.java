@@ -0,0 +1,101 @@
+package com.jumpcar.workflow.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jumpcar.domain.event.CarChangedEvent;
+import com.jumpcar.domain.model.dto.CacheStatsDTO;
+import com.jumpcar.domain.model.dto.CarDTO;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded read-through cache of {@link CarDTO} keyed by normalized chassis. Entries are evicted
+ * by size and by age, and invalidated once the transaction that changed them commits.
+ * <p>
+ * A reader takes a {@link #generation(String)} before it queries the database and hands it back
+ * to {@link #put}. Invalidation bumps the generation of the chassis first, so a row read before a
+ * concurrent write committed is never stored after that write's invalidation ran. Generations are
+ * striped by hash to stay bounded; a collision only skips a put.
+ */
+@Slf4j
+@Singleton
+public class CarCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache<String, CarDTO> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    @Inject
+    public CarCache(@Value("${car.cache.maximum-size:10000}") long maximumSize,
+                    @Value("${car.cache.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    @Nullable
+    public CarDTO get(String chassis) {
+        return this.cache.getIfPresent(chassis);
+    }
+
+    public long generation(String chassis) {
+        return this.generations.get(stripe(chassis));
+    }
+
+    /**
+     * Stores {@code carDTO} unless {@code chassis} was invalidated since {@code generation} was
+     * taken. The check runs inside the map's per-key lock, which invalidation also takes.
+     */
+    public void put(String chassis, CarDTO carDTO, long generation) {
+        this.cache.asMap().compute(chassis, (key, current) ->
+                this.generation(key) == generation ? carDTO : current);
+    }
+
+    public void invalidate(String chassis) {
+        this.generations.incrementAndGet(stripe(chassis));
+        this.cache.invalidate(chassis);
+    }
+
+    @TransactionalEventListener
+    public void onCarChanged(CarChangedEvent event) {
+        this.invalidate(event.getChassis());
+        if (Objects.nonNull(event.getPreviousChassis())) {
+            this.invalidate(event.getPreviousChassis());
+        }
+        log.debug("Car cache invalidated for chassis: {}", event.getChassis());
+    }
+
+    public CacheStatsDTO stats() {
+        var stats = this.cache.stats();
+        return CacheStatsDTO.builder()
+                .size(this.cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .evictionCount(stats.evictionCount())
+                .hitRate(stats.hitRate())
+                .build();
+    }
+
+    void cleanUp() {
+        this.cache.cleanUp();
+    }
+
+    Cache<String, CarDTO> nativeCache() {
+        return this.cache;
+    }
+
+    private static int stripe(String chassis) {
+        return Math.floorMod(chassis.hashCode(), GENERATION_STRIPES);
+    }
+}
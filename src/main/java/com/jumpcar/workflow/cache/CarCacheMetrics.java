@@ -0,0 +1,22 @@
+package com.jumpcar.workflow.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+@Singleton
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+public class CarCacheMetrics implements MeterBinder {
+
+    static final String CACHE_NAME = "car-by-chassis";
+
+    private final CarCache carCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, this.carCache.nativeCache(), CACHE_NAME);
+    }
+}
@@ -0,0 +1,59 @@
+package com.jumpcar.workflow.changes;
+
+import com.jumpcar.domain.event.CarChangedEvent;
+import com.jumpcar.domain.model.entity.CarChange;
+import com.jumpcar.domain.repository.CarChangeRepository;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.scheduling.annotation.Scheduled;
+import io.micronaut.transaction.annotation.Transactional;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Writes the change-feed outbox. The listener is synchronous, so the {@link CarChange} row is
+ * inserted in the transaction that published the event and commits or rolls back with it. Its
+ * position comes from a counter row updated in the same transaction, which holds back concurrent
+ * writers until this one ends, so positions follow commit order and a token handed out never has
+ * a change committed behind it. Rows older than {@code car.changes.retention} are pruned.
+ */
+@Slf4j
+@Singleton
+public class CarChangeRecorder {
+
+    private final CarChangeRepository carChangeRepository;
+    private final Duration retention;
+
+    @Inject
+    public CarChangeRecorder(CarChangeRepository carChangeRepository,
+                             @Value("${car.changes.retention:7d}") Duration retention) {
+        this.carChangeRepository = carChangeRepository;
+        this.retention = retention;
+    }
+
+    @EventListener
+    @Transactional
+    public void onCarChanged(CarChangedEvent event) {
+        long position = this.carChangeRepository.nextPosition();
+        // after-commit listeners get the same event, so pushed changes carry their position
+        event.setSequence(position);
+        this.carChangeRepository.save(CarChange.builder()
+                .id(position)
+                .type(event.getType())
+                .chassis(event.getChassis())
+                .previousChassis(event.getPreviousChassis())
+                .build());
+    }
+
+    @Scheduled(fixedDelay = "${car.changes.prune-interval:1h}", initialDelay = "1m")
+    void prune() {
+        int pruned = this.carChangeRepository.deleteByDateChangedLessThan(LocalDateTime.now().minus(this.retention));
+        if (pruned > 0) {
+            log.info("Car change feed pruned: {} changes older than {}", pruned, this.retention);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.jumpcar.workflow.coalescing;
+
+import io.micronaut.aop.Around;
+
+import java.lang.annotation.*;
+
+/**
+ * Lets concurrent calls with equal arguments share one invocation, see
+ * {@link CoalescingInterceptor}. Meant for idempotent reads whose result callers only read.
+ */
+@Around
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Coalesced {
+}
@@ -0,0 +1,101 @@
+package com.jumpcar.workflow.coalescing;
+
+import com.jumpcar.domain.event.CarChangedEvent;
+import io.micronaut.aop.InterceptorBean;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.order.Ordered;
+import io.micronaut.http.context.ServerRequestContext;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.jumpcar.AppConstants.READ_CONSISTENCY_HEADER;
+import static com.jumpcar.workflow.normalizer.ChassisNormalizer.normalize;
+
+/**
+ * Runs {@link Coalesced} methods through one {@link SingleFlight}, keyed by method, arguments
+ * and the request's {@code X-Read-Consistency}, so a strong read never joins a replica read.
+ * A {@code chassis} argument is keyed on its normalized form, so {@code " abc123 "} joins a call
+ * for {@code ABC123}, which reads the same row.
+ * Ordered first, before the concurrency limit and {@code @Transactional}: callers that join a
+ * call in flight hold neither a permit nor a connection while they wait.
+ * <p>
+ * Every committed car change detaches the calls in flight, so a read that starts after a write on
+ * this instance returned never gets a result read before that write.
+ */
+@Singleton
+@InterceptorBean(Coalesced.class)
+public class CoalescingInterceptor implements MethodInterceptor<Object, Object>, Ordered {
+
+    private static final String CHASSIS_PARAMETER = "chassis";
+
+    private final SingleFlight<CallKey, Object> singleFlight = new SingleFlight<>();
+    private final boolean enabled;
+
+    @Inject
+    public CoalescingInterceptor(@Value("${car.coalescing.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        if (!this.enabled) {
+            return context.proceed();
+        }
+        var key = new CallKey(context.getDeclaringType(), context.getMethodName(),
+                arguments(context), readConsistency());
+        return this.singleFlight.execute(key, context::proceed);
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+
+    @TransactionalEventListener
+    public void onCarChanged(CarChangedEvent event) {
+        this.singleFlight.detachAll();
+    }
+
+    public int inFlightCount() {
+        return this.singleFlight.inFlightCount();
+    }
+
+    public long executedCount() {
+        return this.singleFlight.executedCount();
+    }
+
+    public long coalescedCount() {
+        return this.singleFlight.coalescedCount();
+    }
+
+    private static List<Object> arguments(MethodInvocationContext<Object, Object> context) {
+        var parameters = context.getArguments();
+        var values = context.getParameterValues();
+        var arguments = new ArrayList<>(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (CHASSIS_PARAMETER.equals(parameters[i].getName()) && values[i] instanceof String chassis) {
+                arguments.add(normalize(chassis));
+            } else {
+                arguments.add(values[i]);
+            }
+        }
+        return arguments;
+    }
+
+    @Nullable
+    private static String readConsistency() {
+        return ServerRequestContext.currentRequest()
+                .map(request -> request.getHeaders().get(READ_CONSISTENCY_HEADER))
+                .orElse(null);
+    }
+
+    private record CallKey(Class<?> type, String method, List<Object> arguments, @Nullable String readConsistency) {
+    }
+}
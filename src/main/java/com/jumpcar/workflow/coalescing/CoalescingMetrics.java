@@ -0,0 +1,29 @@
+package com.jumpcar.workflow.coalescing;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+@Singleton
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+public class CoalescingMetrics implements MeterBinder {
+
+    private final CoalescingInterceptor coalescingInterceptor;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("car.coalescing.executed", this.coalescingInterceptor, CoalescingInterceptor::executedCount)
+                .description("Coalesced-method calls that ran themselves")
+                .register(registry);
+        FunctionCounter.builder("car.coalescing.coalesced", this.coalescingInterceptor, CoalescingInterceptor::coalescedCount)
+                .description("Coalesced-method calls that shared the result of an identical call in flight")
+                .register(registry);
+        Gauge.builder("car.coalescing.in-flight", this.coalescingInterceptor, CoalescingInterceptor::inFlightCount)
+                .description("Distinct coalesced calls currently running")
+                .register(registry);
+    }
+}
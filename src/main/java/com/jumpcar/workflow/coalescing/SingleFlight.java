@@ -0,0 +1,74 @@
+package com.jumpcar.workflow.coalescing;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * At most one call in flight per key. The first caller runs it; callers arriving while it runs
+ * wait for the same {@link CompletableFuture} and get its result or its exception. The key is
+ * released as soon as the call completes, so results are never reused afterwards.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public V execute(K key, Supplier<V> call) {
+        var own = new CompletableFuture<V>();
+        var inFlight = this.calls.putIfAbsent(key, own);
+        if (Objects.nonNull(inFlight)) {
+            this.coalesced.increment();
+            return await(inFlight);
+        }
+        this.executed.increment();
+        try {
+            var result = call.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.calls.remove(key, own);
+        }
+    }
+
+    /**
+     * Stops later callers from joining the calls now in flight; they start their own instead.
+     * Callers already waiting still get the result of the call they joined.
+     */
+    public void detachAll() {
+        this.calls.clear();
+    }
+
+    public int inFlightCount() {
+        return this.calls.size();
+    }
+
+    public long executedCount() {
+        return this.executed.sum();
+    }
+
+    public long coalescedCount() {
+        return this.coalesced.sum();
+    }
+
+    private static <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.jumpcar.workflow.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.type.MutableHeaders;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.body.MessageBodyWriter;
+import io.micronaut.http.codec.CodecException;
+import io.micronaut.json.tree.JsonNode;
+import io.micronaut.serde.ObjectMapper;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+
+import static com.jumpcar.AppConstants.APPLICATION_CBOR;
+
+/**
+ * Writes responses as CBOR for clients that send {@code Accept: application/cbor}. The value is
+ * first turned into a serde tree, so {@code CarDTO} and {@code Page} follow exactly the same
+ * serde rules as JSON, then streamed out with Jackson's CBOR generator.
+ */
+@Singleton
+@Produces(APPLICATION_CBOR)
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+public class CborMessageBodyWriter implements MessageBodyWriter<Object> {
+
+    private static final CBORFactory CBOR_FACTORY = new CBORFactory();
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void writeTo(Argument<Object> type, MediaType mediaType, Object object,
+                        MutableHeaders outgoingHeaders, OutputStream outputStream) throws CodecException {
+        try (var generator = CBOR_FACTORY.createGenerator(outputStream)) {
+            write(this.objectMapper.writeValueToTree(type, object), generator);
+        } catch (IOException e) {
+            throw new CodecException("Error encoding CBOR: " + e.getMessage(), e);
+        }
+    }
+
+    private static void write(JsonNode node, JsonGenerator generator) throws IOException {
+        if (node.isObject()) {
+            generator.writeStartObject();
+            for (Map.Entry<String, JsonNode> entry : node.entries()) {
+                generator.writeFieldName(entry.getKey());
+                write(entry.getValue(), generator);
+            }
+            generator.writeEndObject();
+        } else if (node.isArray()) {
+            generator.writeStartArray();
+            for (var value : node.values()) {
+                write(value, generator);
+            }
+            generator.writeEndArray();
+        } else if (node.isString()) {
+            generator.writeString(node.getStringValue());
+        } else if (node.isNumber()) {
+            writeNumber(node.getNumberValue(), generator);
+        } else if (node.isBoolean()) {
+            generator.writeBoolean(node.getBooleanValue());
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    private static void writeNumber(Number number, JsonGenerator generator) throws IOException {
+        if (number instanceof Integer value) {
+            generator.writeNumber(value);
+        } else if (number instanceof Long value) {
+            generator.writeNumber(value);
+        } else if (number instanceof BigInteger value) {
+            generator.writeNumber(value);
+        } else if (number instanceof BigDecimal value) {
+            generator.writeNumber(value);
+        } else {
+            generator.writeNumber(number.doubleValue());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.jumpcar.workflow.concurrency;
+
+import io.micronaut.aop.InterceptorBean;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.order.Ordered;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Runs every {@link ConcurrencyLimited} method under a {@link ConcurrencyLimiter} permit. Runs
+ * after request coalescing and before {@code @Transactional}, so a caller only opens a
+ * transaction once it holds a permit.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+@InterceptorBean(ConcurrencyLimited.class)
+public class ConcurrencyLimitInterceptor implements MethodInterceptor<Object, Object>, Ordered {
+
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        return this.concurrencyLimiter.call(context.getMethodName(), context::proceed);
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE + 1;
+    }
+}
@@ -0,0 +1,27 @@
+package com.jumpcar.workflow.concurrency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+@Singleton
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+public class ConcurrencyLimitMetrics implements MeterBinder {
+
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("car.concurrency.available", this.concurrencyLimiter,
+                        ConcurrencyLimiter::availablePermits)
+                .description("Database permits currently free")
+                .register(registry);
+        Gauge.builder("car.concurrency.waiting", this.concurrencyLimiter,
+                        ConcurrencyLimiter::queueLength)
+                .description("Callers waiting for a database permit")
+                .register(registry);
+    }
+}
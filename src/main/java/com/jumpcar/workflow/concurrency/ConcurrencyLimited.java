@@ -0,0 +1,17 @@
+package com.jumpcar.workflow.concurrency;
+
+import io.micronaut.aop.Around;
+
+import java.lang.annotation.*;
+
+/**
+ * Caps how many invocations run at once, see {@link ConcurrencyLimitInterceptor}. Meant for
+ * code that holds a pooled JDBC connection, so excess callers wait on a cheap semaphore
+ * (parking their virtual thread) instead of queueing inside Hikari.
+ */
+@Around
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ConcurrencyLimited {
+}
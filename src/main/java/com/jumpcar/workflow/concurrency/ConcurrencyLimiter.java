@@ -0,0 +1,62 @@
+package com.jumpcar.workflow.concurrency;
+
+import com.jumpcar.domain.exception.ConcurrencyLimitException;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * One fair semaphore, sized like the Hikari pool, shared by every {@link ConcurrencyLimited}
+ * method and by code that only needs a connection on some paths (a cache miss, for instance) and
+ * wraps just that part in {@link #call}. Callers that cannot get a permit within the timeout fail
+ * fast with 503. Permits are not reentrant, so a limited call must not start another one.
+ */
+@Slf4j
+@Singleton
+public class ConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+
+    @Inject
+    public ConcurrencyLimiter(@Value("${car.concurrency.max-concurrent:10}") int maxConcurrent,
+                              @Value("${car.concurrency.acquire-timeout:5s}") Duration acquireTimeout) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    public <T> T call(String operation, Supplier<T> supplier) {
+        this.acquire(operation);
+        try {
+            return supplier.get();
+        } finally {
+            this.permits.release();
+        }
+    }
+
+    public int availablePermits() {
+        return this.permits.availablePermits();
+    }
+
+    public int queueLength() {
+        return this.permits.getQueueLength();
+    }
+
+    private void acquire(String operation) {
+        try {
+            if (!this.permits.tryAcquire(this.acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                log.error("Concurrency limit reached, rejecting {}", operation);
+                throw new ConcurrencyLimitException("Too many concurrent requests, try again later");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrencyLimitException("Interrupted while waiting for a database permit", e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.jumpcar.workflow.conditional;
+
+import com.jumpcar.domain.exception.PreconditionFailedException;
+import com.jumpcar.domain.model.dto.CarDTO;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MutableHttpResponse;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * ETag, Last-Modified and conditional header handling (RFC 9110, section 13) for car
+ * responses. A single car's strong ETag is {@code "<id>-<version>"}, since the version is bumped
+ * by every write. Lists get a weak ETag hashed from the ids and versions they contain.
+ */
+public class ConditionalRequests {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+
+    private ConditionalRequests() {
+    }
+
+    public static String strongETag(CarDTO car) {
+        return "\"" + car.getId() + "-" + Objects.requireNonNullElse(car.getVersion(), 0L) + "\"";
+    }
+
+    public static String weakETag(Collection<CarDTO> cars, Object... extra) {
+        long hash = 1;
+        for (var car : cars) {
+            hash = 31 * hash + Objects.hashCode(car.getId());
+            hash = 31 * hash + Objects.hashCode(car.getVersion());
+        }
+        hash = 31 * hash + Arrays.hashCode(extra);
+        return weakETag(Long.toHexString(hash));
+    }
+
+    public static String weakETag(String opaque) {
+        return WEAK_PREFIX + "\"" + opaque + "\"";
+    }
+
+    /**
+     * {@code true} when the client's copy is current: any {@code If-None-Match} tag matches
+     * (weak comparison), or, without {@code If-None-Match}, {@code lastModified} is not after
+     * {@code If-Modified-Since}.
+     */
+    public static boolean isNotModified(HttpRequest<?> request, String etag, @Nullable LocalDateTime lastModified) {
+        var headers = request.getHeaders();
+        var ifNoneMatch = headers.get(HttpHeaders.IF_NONE_MATCH);
+        if (Objects.nonNull(ifNoneMatch)) {
+            return matches(ifNoneMatch, etag, false);
+        }
+        if (Objects.isNull(lastModified)) {
+            return false;
+        }
+        return headers.findDate(HttpHeaders.IF_MODIFIED_SINCE)
+                .map(since -> !toHttpDate(lastModified).isAfter(since))
+                .orElse(false);
+    }
+
+    /**
+     * Car version named by the request's {@code If-Match}, for a write that checks it in its own
+     * statement rather than against a read that may come from a cache or a lagging replica.
+     * {@code null} without {@code If-Match} or for {@code *}. A car has one current tag, so the
+     * first strong car tag is used; a header without one can never match and throws
+     * {@link PreconditionFailedException}.
+     */
+    @Nullable
+    public static Long ifMatchVersion(HttpRequest<?> request) {
+        var ifMatch = request.getHeaders().get(HttpHeaders.IF_MATCH);
+        if (Objects.isNull(ifMatch) || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        for (var candidate : ifMatch.split(",")) {
+            var tag = candidate.trim();
+            if (tag.startsWith(WEAK_PREFIX)) {
+                continue;
+            }
+            var version = strongETagVersion(tag);
+            if (Objects.nonNull(version)) {
+                return version;
+            }
+        }
+        throw new PreconditionFailedException("Car does not match If-Match: " + ifMatch);
+    }
+
+    public static <T> MutableHttpResponse<T> withValidators(MutableHttpResponse<T> response, String etag,
+                                                            @Nullable LocalDateTime lastModified) {
+        response.getHeaders().etag(etag);
+        if (Objects.nonNull(lastModified)) {
+            response.getHeaders().lastModified(toHttpDate(lastModified));
+        }
+        return response;
+    }
+
+    private static boolean matches(String header, String etag, boolean strong) {
+        if (ANY.equals(header.trim())) {
+            return true;
+        }
+        if (strong && etag.startsWith(WEAK_PREFIX)) {
+            return false;
+        }
+        var opaque = stripWeak(etag);
+        for (var candidate : header.split(",")) {
+            var tag = candidate.trim();
+            if (strong && tag.startsWith(WEAK_PREFIX)) {
+                continue;
+            }
+            if (stripWeak(tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Version part of a {@link #strongETag(CarDTO)}, or {@code null} when {@code tag} is not one.
+     */
+    @Nullable
+    private static Long strongETagVersion(String tag) {
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return null;
+        }
+        var opaque = tag.substring(1, tag.length() - 1);
+        int separator = opaque.lastIndexOf('-');
+        if (separator < 0) {
+            return null;
+        }
+        try {
+            return Long.parseLong(opaque.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+
+    /**
+     * HTTP dates have whole-second precision, so compare and send truncated values.
+     */
+    private static ZonedDateTime toHttpDate(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).truncatedTo(ChronoUnit.SECONDS);
+    }
+}
@@ -18,6 +18,9 @@ public interface CarConverter {
     CarDTO toCarDTO(Car car);
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "dateCreated", ignore = true)
+    @Mapping(target = "dateUpdated", ignore = true)
     Car toCar(CarDTO car);
 
     List<CarDTO> toCarDTO(List<Car> car);
@@ -0,0 +1,55 @@
+package com.jumpcar.workflow.converter;
+
+import com.jumpcar.domain.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Encodes keyset positions as opaque, URL-safe tokens so clients never build them by hand.
+ */
+public final class CursorConverter {
+
+    private static final String PREFIX = "car:";
+    private static final String CHANGE_PREFIX = "change:";
+
+    private CursorConverter() {
+    }
+
+    public static String encode(long id) {
+        return encode(PREFIX, id);
+    }
+
+    public static long decode(String cursor) {
+        return decode(PREFIX, cursor);
+    }
+
+    public static String encodeChange(long sequence) {
+        return encode(CHANGE_PREFIX, sequence);
+    }
+
+    public static long decodeChange(String token) {
+        return decode(CHANGE_PREFIX, token);
+    }
+
+    private static String encode(String prefix, long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((prefix + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long decode(String prefix, String cursor) {
+        if (Objects.isNull(cursor) || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!value.startsWith(prefix)) {
+                throw new BusinessException("Invalid cursor: " + cursor);
+            }
+            return Long.parseLong(value.substring(prefix.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.jumpcar.workflow.loading;
+
+import com.jumpcar.domain.model.entity.Car;
+import com.jumpcar.domain.repository.CarRepository;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Walks the whole car table in id order, one keyset page ({@code id > lastId}) at a time, so the
+ * startup loaders and the fleet snapshot read every car without offset scans or holding the
+ * table in memory.
+ */
+public class CarPages {
+
+    private CarPages() {
+    }
+
+    /**
+     * Hands every non-empty page to {@code consumer}; a page shorter than {@code pageSize} ends
+     * the walk.
+     */
+    public static void forEach(CarRepository carRepository, int pageSize, Consumer<List<Car>> consumer) {
+        var pageable = Pageable.from(0, pageSize, Sort.of(Sort.Order.asc("id")));
+        long lastId = 0;
+        List<Car> page;
+        do {
+            page = carRepository.findByIdGreaterThan(lastId, pageable);
+            if (!page.isEmpty()) {
+                consumer.accept(page);
+                lastId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == pageSize);
+    }
+}
@@ -0,0 +1,38 @@
+package com.jumpcar.workflow.loading;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.jumpcar.workflow.normalizer.ChassisNormalizer.normalize;
+
+/**
+ * Chassis changed by committed writes while a bulk load runs. A loader skips them, so it does not
+ * put back the older state, or a deleted car, that it read from the database before the change.
+ * Not thread-safe: callers guard it with the lock of the structure they load.
+ */
+public class TouchedWhileLoading {
+
+    private Set<String> touched;
+
+    /**
+     * Starts remembering changed chassis, until {@link #end()}.
+     */
+    public void begin() {
+        this.touched = new HashSet<>();
+    }
+
+    public void mark(String chassis) {
+        if (Objects.nonNull(this.touched)) {
+            this.touched.add(normalize(chassis));
+        }
+    }
+
+    public boolean contains(String chassis) {
+        return Objects.nonNull(this.touched) && this.touched.contains(normalize(chassis));
+    }
+
+    public void end() {
+        this.touched = null;
+    }
+}
@@ -0,0 +1,52 @@
+package com.jumpcar.workflow.migration;
+
+import io.micronaut.context.annotation.Context;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+
+/**
+ * Creates the single-row {@code car_change_position} counter the change feed takes its positions
+ * from, since schema update only builds tables for entities. Runs when the context starts and
+ * does nothing once the row exists.
+ */
+@Slf4j
+@Context
+public class CarChangePositionMigration {
+
+    static final String TABLE_SQL = """
+            CREATE TABLE IF NOT EXISTS car_change_position (
+                id INT PRIMARY KEY,
+                position BIGINT NOT NULL
+            )""";
+    static final String SEED_SQL = """
+            INSERT INTO car_change_position (id, position)
+            SELECT 1, 0 WHERE NOT EXISTS (SELECT 1 FROM car_change_position)""";
+
+    private final SessionFactory sessionFactory;
+
+    @Inject
+    public CarChangePositionMigration(@Named("default") SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    @PostConstruct
+    void migrate() {
+        try (var session = this.sessionFactory.openStatelessSession()) {
+            var transaction = session.beginTransaction();
+            try {
+                session.createNativeMutationQuery(TABLE_SQL).executeUpdate();
+                int seeded = session.createNativeMutationQuery(SEED_SQL).executeUpdate();
+                transaction.commit();
+                if (seeded > 0) {
+                    log.info("Created the car change position counter");
+                }
+            } catch (RuntimeException e) {
+                transaction.rollback();
+                throw e;
+            }
+        }
+    }
+}
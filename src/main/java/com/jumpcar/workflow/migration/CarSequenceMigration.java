@@ -0,0 +1,60 @@
+package com.jumpcar.workflow.migration;
+
+import com.jumpcar.domain.model.entity.Car;
+import io.micronaut.context.annotation.Context;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+
+/**
+ * Moves {@code car_seq} past the ids already stored. Databases created while ids were
+ * {@code IDENTITY} get the sequence from schema update starting at 1, so without this the first
+ * inserts would reuse existing ids. Hibernate hands out up to {@link Car#ID_ALLOCATION_SIZE} ids
+ * below each sequence value, so the restart leaves a full block of headroom above {@code MAX(id)}.
+ * Runs when the context starts and does nothing while the sequence is already ahead.
+ */
+@Slf4j
+@Context
+public class CarSequenceMigration {
+
+    static final String MAX_ID_QUERY = "SELECT COALESCE(MAX(id), 0) FROM car";
+    static final String NEXT_VALUE_QUERY = """
+            SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES
+            WHERE SEQUENCE_SCHEMA = SCHEMA() AND SEQUENCE_NAME = 'CAR_SEQ'""";
+
+    private final SessionFactory sessionFactory;
+
+    @Inject
+    public CarSequenceMigration(@Named("default") SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    @PostConstruct
+    void migrate() {
+        try (var session = this.sessionFactory.openStatelessSession()) {
+            var transaction = session.beginTransaction();
+            try {
+                long maxId = session.createNativeQuery(MAX_ID_QUERY, Long.class).getSingleResult();
+                long nextValue = session.createNativeQuery(NEXT_VALUE_QUERY, Long.class).getSingleResult();
+                long restartWith = restartValue(maxId);
+                if (nextValue - Car.ID_ALLOCATION_SIZE < maxId) {
+                    session.createNativeMutationQuery("ALTER SEQUENCE car_seq RESTART WITH " + restartWith).executeUpdate();
+                    log.info("Restarted car_seq at {}, above the highest car id {}", restartWith, maxId);
+                }
+                transaction.commit();
+            } catch (RuntimeException e) {
+                transaction.rollback();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * First sequence value whose whole allocation block lies above {@code maxId}.
+     */
+    static long restartValue(long maxId) {
+        return (Math.floorDiv(maxId, Car.ID_ALLOCATION_SIZE) + 2) * Car.ID_ALLOCATION_SIZE + 1;
+    }
+}
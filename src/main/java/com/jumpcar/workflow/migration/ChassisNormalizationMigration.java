@@ -0,0 +1,56 @@
+package com.jumpcar.workflow.migration;
+
+import io.micronaut.context.annotation.Context;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+
+/**
+ * Rewrites chassis stored before they were normalized into the canonical form, so exact-match
+ * lookups reach those rows, then makes sure {@code uk_car_chassis} exists (schema update cannot
+ * build it over case variants). Runs when the context starts, before any startup listener reads
+ * cars, and is a no-op once every row is normalized. Rows that only differ by case or whitespace
+ * cannot be merged automatically, so they fail the startup instead.
+ */
+@Slf4j
+@Context
+public class ChassisNormalizationMigration {
+
+    static final String DUPLICATES_QUERY = """
+            SELECT UPPER(TRIM(chassis)) FROM car
+            GROUP BY UPPER(TRIM(chassis))
+            HAVING COUNT(*) > 1""";
+    static final String NORMALIZE_SQL = "UPDATE car SET chassis = UPPER(TRIM(chassis)) WHERE chassis <> UPPER(TRIM(chassis))";
+    static final String UNIQUE_INDEX_SQL = "CREATE UNIQUE INDEX IF NOT EXISTS uk_car_chassis ON car (chassis)";
+
+    private final SessionFactory sessionFactory;
+
+    @Inject
+    public ChassisNormalizationMigration(@Named("default") SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    @PostConstruct
+    void migrate() {
+        try (var session = this.sessionFactory.openStatelessSession()) {
+            var transaction = session.beginTransaction();
+            try {
+                var duplicates = session.createNativeQuery(DUPLICATES_QUERY, String.class).list();
+                if (!duplicates.isEmpty()) {
+                    throw new IllegalStateException("Cannot normalize chassis, these are stored more than once with different case or whitespace: " + duplicates);
+                }
+                int normalized = session.createNativeMutationQuery(NORMALIZE_SQL).executeUpdate();
+                session.createNativeMutationQuery(UNIQUE_INDEX_SQL).executeUpdate();
+                transaction.commit();
+                if (normalized > 0) {
+                    log.info("Normalized chassis of {} cars", normalized);
+                }
+            } catch (RuntimeException e) {
+                transaction.rollback();
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.jumpcar.workflow.normalizer;
+
+import java.util.Locale;
+import java.util.Objects;
+
+public final class ChassisNormalizer {
+
+    private ChassisNormalizer() {
+    }
+
+    /**
+     * Canonical form stored in the {@code car.chassis} column: trimmed and upper-cased,
+     * so lookups can use the unique index with a plain equality predicate.
+     */
+    public static String normalize(String chassis) {
+        if (Objects.isNull(chassis)) {
+            return null;
+        }
+        return chassis.trim().toUpperCase(Locale.ROOT);
+    }
+}
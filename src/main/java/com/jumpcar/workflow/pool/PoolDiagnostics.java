@@ -0,0 +1,74 @@
+package com.jumpcar.workflow.pool;
+
+import com.jumpcar.domain.model.dto.PoolStatsDTO;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot of every Hikari pool: connection counts from the pool itself, acquisition latency and
+ * timeouts from the {@code hikaricp.connections.*} meters. Pools that have not started yet are
+ * left out.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+public class PoolDiagnostics {
+
+    private final List<DataSource> dataSources;
+    private final MeterRegistry meterRegistry;
+
+    public List<PoolStatsDTO> stats() {
+        var stats = new ArrayList<PoolStatsDTO>(this.dataSources.size());
+        for (var dataSource : this.dataSources) {
+            var hikari = unwrap(dataSource);
+            if (Objects.isNull(hikari) || Objects.isNull(hikari.getHikariPoolMXBean())) {
+                continue;
+            }
+            var pool = hikari.getHikariPoolMXBean();
+            var name = hikari.getPoolName();
+            var acquire = this.meterRegistry.find("hikaricp.connections.acquire").tag("pool", name).timer();
+            var timeouts = this.meterRegistry.find("hikaricp.connections.timeout").tag("pool", name).counter();
+            stats.add(PoolStatsDTO.builder()
+                    .name(name)
+                    .maximumPoolSize(hikari.getMaximumPoolSize())
+                    .active(pool.getActiveConnections())
+                    .idle(pool.getIdleConnections())
+                    .total(pool.getTotalConnections())
+                    .waiting(pool.getThreadsAwaitingConnection())
+                    .acquireCount(Objects.isNull(acquire) ? 0 : acquire.count())
+                    .acquireMeanMillis(millis(acquire, false))
+                    .acquireMaxMillis(millis(acquire, true))
+                    .timeoutCount(Objects.isNull(timeouts) ? 0 : (long) timeouts.count())
+                    .build());
+        }
+        return stats;
+    }
+
+    private static HikariDataSource unwrap(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            log.debug("Data source is not a Hikari pool: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static double millis(Timer timer, boolean max) {
+        if (Objects.isNull(timer)) {
+            return 0;
+        }
+        return max ? timer.max(TimeUnit.MILLISECONDS) : timer.mean(TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,106 @@
+package com.jumpcar.workflow.projection;
+
+import com.jumpcar.domain.exception.BusinessException;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.enums.CarField;
+import jakarta.persistence.Tuple;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A {@code fields=} selection: the JPQL that reads only those columns, as a {@link Tuple} per
+ * car, and the mapping of that tuple to a {@link CarDTO} with every other field left
+ * {@code null}, which serde then leaves out of the response.
+ */
+public final class CarProjection {
+
+    public static final String COUNT_QUERY = "select count(c.id) from Car c";
+
+    private final List<CarField> fields;
+    private final String query;
+
+    private CarProjection(Set<CarField> fields) {
+        this.fields = List.copyOf(fields);
+        this.query = this.fields.stream()
+                .map(field -> "c." + field.getProperty())
+                .collect(Collectors.joining(", ", "select ", " from Car c order by c.id"));
+    }
+
+    /**
+     * Parses a comma-separated list of JSON property names, e.g. {@code chassis,model}.
+     */
+    public static CarProjection parse(String fields) {
+        if (Objects.isNull(fields) || fields.isBlank()) {
+            throw new BusinessException("Fields cannot be empty");
+        }
+        var selected = EnumSet.noneOf(CarField.class);
+        for (var name : fields.split(",")) {
+            var trimmed = name.trim();
+            var field = Arrays.stream(CarField.values())
+                    .filter(candidate -> candidate.getProperty().equalsIgnoreCase(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new BusinessException("Unknown car field: " + trimmed));
+            selected.add(field);
+        }
+        return new CarProjection(selected);
+    }
+
+    public List<CarField> fields() {
+        return this.fields;
+    }
+
+    public String query() {
+        return this.query;
+    }
+
+    public CarDTO toCarDTO(Tuple row) {
+        var car = CarDTO.builder();
+        for (int i = 0; i < this.fields.size(); i++) {
+            var value = row.get(i);
+            switch (this.fields.get(i)) {
+                case ID -> car.id((Long) value);
+                case MODEL -> car.model((String) value);
+                case MANUFACTURER -> car.manufacturer((String) value);
+                case COLOR -> car.color((String) value);
+                case ENGINE -> car.engine((String) value);
+                case CHASSIS -> car.chassis((String) value);
+                case VERSION -> car.version((Long) value);
+                case DATE_CREATED -> car.dateCreated((LocalDateTime) value);
+                case DATE_UPDATED -> car.dateUpdated((LocalDateTime) value);
+            }
+        }
+        return car.build();
+    }
+
+    /**
+     * The same selection applied to a car already in memory.
+     */
+    public CarDTO select(CarDTO source) {
+        var car = CarDTO.builder();
+        for (var field : this.fields) {
+            switch (field) {
+                case ID -> car.id(source.getId());
+                case MODEL -> car.model(source.getModel());
+                case MANUFACTURER -> car.manufacturer(source.getManufacturer());
+                case COLOR -> car.color(source.getColor());
+                case ENGINE -> car.engine(source.getEngine());
+                case CHASSIS -> car.chassis(source.getChassis());
+                case VERSION -> car.version(source.getVersion());
+                case DATE_CREATED -> car.dateCreated(source.getDateCreated());
+                case DATE_UPDATED -> car.dateUpdated(source.getDateUpdated());
+            }
+        }
+        return car.build();
+    }
+
+    @Override
+    public String toString() {
+        return this.fields.stream().map(CarField::getProperty).collect(Collectors.joining(","));
+    }
+}
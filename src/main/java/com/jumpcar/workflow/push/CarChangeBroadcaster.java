@@ -0,0 +1,97 @@
+package com.jumpcar.workflow.push;
+
+import com.jumpcar.domain.event.CarChangedEvent;
+import com.jumpcar.domain.model.dto.CarChangeDTO;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fans committed car changes out to push subscribers. Each subscriber gets its own buffer of
+ * {@code car.push.buffer-size} changes, so a slow client never holds back the others or the
+ * writer. When a buffer is full, {@code car.push.overflow} decides: {@code drop} discards the
+ * oldest buffered change, {@code disconnect} ends that subscriber's stream so it can resync
+ * through the change feed and reconnect.
+ */
+@Slf4j
+@Singleton
+public class CarChangeBroadcaster {
+
+    public enum OverflowPolicy {
+        DROP,
+        DISCONNECT
+    }
+
+    private final Sinks.Many<CarChangeDTO> sink = Sinks.many().multicast().directBestEffort();
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder disconnected = new LongAdder();
+
+    @Inject
+    public CarChangeBroadcaster(@Value("${car.push.buffer-size:256}") int bufferSize,
+                                @Value("${car.push.overflow:drop}") OverflowPolicy overflowPolicy) {
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public Flux<CarChangeDTO> stream() {
+        var changes = this.sink.asFlux();
+        if (this.overflowPolicy == OverflowPolicy.DISCONNECT) {
+            changes = changes.onBackpressureBuffer(this.bufferSize)
+                    .onErrorResume(Exceptions::isOverflow, e -> {
+                        this.disconnected.increment();
+                        log.warn("Car push subscriber disconnected, more than {} changes behind", this.bufferSize);
+                        return Flux.empty();
+                    });
+        } else {
+            changes = changes.onBackpressureBuffer(this.bufferSize, change -> this.dropped.increment(),
+                    BufferOverflowStrategy.DROP_OLDEST);
+        }
+        return changes
+                .doOnSubscribe(subscription -> this.subscribers.incrementAndGet())
+                .doFinally(signal -> this.subscribers.decrementAndGet());
+    }
+
+    @TransactionalEventListener
+    public void onCarChanged(CarChangedEvent event) {
+        if (this.subscribers.get() == 0) {
+            return;
+        }
+        var change = CarChangeDTO.builder()
+                .sequence(event.getSequence())
+                .type(event.getType())
+                .chassis(event.getChassis())
+                .previousChassis(event.getPreviousChassis())
+                .dateChanged(LocalDateTime.now())
+                .car(event.getCar())
+                .build();
+        // Commits complete on many threads; the sink needs serialized emissions.
+        synchronized (this.sink) {
+            this.sink.tryEmitNext(change);
+        }
+    }
+
+    public int subscriberCount() {
+        return this.subscribers.get();
+    }
+
+    public long droppedCount() {
+        return this.dropped.sum();
+    }
+
+    public long disconnectedCount() {
+        return this.disconnected.sum();
+    }
+}
@@ -0,0 +1,32 @@
+package com.jumpcar.workflow.push;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+@Singleton
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+public class CarPushMetrics implements MeterBinder {
+
+    private final CarChangeBroadcaster carChangeBroadcaster;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("car.push.subscribers", this.carChangeBroadcaster,
+                        CarChangeBroadcaster::subscriberCount)
+                .description("Open car change push streams")
+                .register(registry);
+        FunctionCounter.builder("car.push.dropped", this.carChangeBroadcaster,
+                        CarChangeBroadcaster::droppedCount)
+                .description("Car changes dropped from full subscriber buffers")
+                .register(registry);
+        FunctionCounter.builder("car.push.disconnected", this.carChangeBroadcaster,
+                        CarChangeBroadcaster::disconnectedCount)
+                .description("Push subscribers disconnected for falling behind")
+                .register(registry);
+    }
+}
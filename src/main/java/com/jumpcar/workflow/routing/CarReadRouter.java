@@ -0,0 +1,116 @@
+package com.jumpcar.workflow.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jumpcar.domain.event.CarChangedEvent;
+import com.jumpcar.domain.repository.CarReadRepository;
+import com.jumpcar.domain.repository.CarReplicaRepository;
+import com.jumpcar.domain.repository.CarRepository;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.context.ServerRequestContext;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import static com.jumpcar.AppConstants.READ_CONSISTENCY_HEADER;
+import static com.jumpcar.AppConstants.READ_CONSISTENCY_STRONG;
+
+/**
+ * Picks the datasource for a read. Reads go to the replica unless routing is disabled, the
+ * request asks for {@code X-Read-Consistency: strong}, or this instance wrote the car (or, for
+ * list reads, any car) within {@code car.replica.read-after-write-window}. The window is
+ * per instance; callers behind a load balancer should send the header instead. The list choice
+ * is kept for the rest of the request, so a list ETag and the list it tags read the same database.
+ */
+@Singleton
+public class CarReadRouter implements ApplicationEventListener<CarChangedEvent> {
+
+    static final String LIST_FROM_REPLICA_ATTRIBUTE = "car.read.list-from-replica";
+
+    private final CarRepository carRepository;
+    @Nullable
+    private final CarReplicaRepository carReplicaRepository;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final Cache<String, Boolean> recentWrites;
+    private volatile long lastWriteNanos;
+
+    @Inject
+    public CarReadRouter(CarRepository carRepository,
+                         @Nullable CarReplicaRepository carReplicaRepository,
+                         @Value("${car.replica.enabled:false}") boolean enabled,
+                         @Value("${car.replica.read-after-write-window:2s}") Duration readAfterWriteWindow) {
+        this.carRepository = carRepository;
+        this.carReplicaRepository = carReplicaRepository;
+        this.enabled = enabled && Objects.nonNull(carReplicaRepository);
+        this.windowNanos = readAfterWriteWindow.toNanos();
+        this.recentWrites = Caffeine.newBuilder()
+                .expireAfterWrite(readAfterWriteWindow)
+                .build();
+        this.lastWriteNanos = System.nanoTime() - this.windowNanos;
+    }
+
+    /**
+     * Repository for a single-car read by normalized chassis.
+     */
+    public CarReadRepository forChassis(String chassis) {
+        if (!this.enabled || this.strongRead() || Objects.nonNull(this.recentWrites.getIfPresent(chassis))) {
+            return this.carRepository;
+        }
+        return this.carReplicaRepository;
+    }
+
+    /**
+     * Repository for a read spanning many cars.
+     */
+    public CarReadRepository forList() {
+        return this.listFromReplica() ? this.carReplicaRepository : this.carRepository;
+    }
+
+    /**
+     * Whether a read spanning many cars goes to the replica, for reads that do not go through a
+     * repository. Decided on the first call of a request and reused by later calls of that request.
+     */
+    public boolean listFromReplica() {
+        if (!this.enabled) {
+            return false;
+        }
+        return ServerRequestContext.currentRequest()
+                .map(request -> request.getAttribute(LIST_FROM_REPLICA_ATTRIBUTE, Boolean.class).orElseGet(() -> {
+                    boolean fromReplica = this.replicaCaughtUpForList();
+                    request.setAttribute(LIST_FROM_REPLICA_ATTRIBUTE, fromReplica);
+                    return fromReplica;
+                }))
+                .orElseGet(this::replicaCaughtUpForList);
+    }
+
+    /**
+     * Marks the write as soon as it is published, before commit, so there is no gap in which a
+     * committed change could be read back from a replica that has not caught up yet.
+     */
+    @Override
+    public void onApplicationEvent(CarChangedEvent event) {
+        if (!this.enabled) {
+            return;
+        }
+        this.lastWriteNanos = System.nanoTime();
+        this.recentWrites.put(event.getChassis(), Boolean.TRUE);
+        if (Objects.nonNull(event.getPreviousChassis())) {
+            this.recentWrites.put(event.getPreviousChassis(), Boolean.TRUE);
+        }
+    }
+
+    private boolean replicaCaughtUpForList() {
+        return !this.strongRead() && System.nanoTime() - this.lastWriteNanos >= this.windowNanos;
+    }
+
+    private boolean strongRead() {
+        return ServerRequestContext.currentRequest()
+                .map(request -> READ_CONSISTENCY_STRONG.equalsIgnoreCase(request.getHeaders().get(READ_CONSISTENCY_HEADER)))
+                .orElse(false);
+    }
+}
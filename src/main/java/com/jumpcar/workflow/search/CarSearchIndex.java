@@ -0,0 +1,353 @@
+package com.jumpcar.workflow.search;
+
+import com.jumpcar.domain.event.CarChangedEvent;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.dto.CarSearchCriteriaDTO;
+import com.jumpcar.domain.model.dto.CarSearchResultDTO;
+import com.jumpcar.domain.model.enums.ChangeType;
+import com.jumpcar.workflow.loading.TouchedWhileLoading;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import static com.jumpcar.workflow.normalizer.ChassisNormalizer.normalize;
+
+/**
+ * In-memory inverted index over model, manufacturer, color and engine.
+ * <p>
+ * Every indexed car gets a slot. Each field maps its lower-cased words to the slots containing
+ * them, kept sorted in a {@link TreeMap} so a prefix is a sub-map range. A query ORs the postings
+ * of every word under each prefix into a {@link BitSet} and ANDs those together with the live
+ * slots. Facets are counted from per-slot ordinals, so they cost one pass over the hits.
+ * <p>
+ * Updates never rewrite postings: the old slot is marked dead and the car is appended to a new
+ * one, which keeps postings sorted and append-only. Once dead slots outnumber live ones the
+ * index is compacted. Kept in sync with the database after each commit through
+ * {@link CarChangedEvent}, and filled at startup by {@link CarSearchIndexLoader}.
+ */
+@Slf4j
+@Singleton
+public class CarSearchIndex {
+
+    static final int MODEL = 0;
+    static final int MANUFACTURER = 1;
+    static final int COLOR = 2;
+    static final int ENGINE = 3;
+    private static final int FIELD_COUNT = 4;
+    private static final int MIN_CAPACITY = 1024;
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s,;/]+");
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> slotByChassis = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final TouchedWhileLoading touchedWhileLoading = new TouchedWhileLoading();
+
+    private List<TreeMap<String, Postings>> fields;
+    private Facet manufacturers;
+    private Facet colors;
+    private CarDTO[] docs;
+    private int[] manufacturerOrds;
+    private int[] colorOrds;
+    private int nextSlot;
+
+    public CarSearchIndex() {
+        this.reset(MIN_CAPACITY);
+    }
+
+    public void put(CarDTO car) {
+        this.lock.writeLock().lock();
+        try {
+            this.touchedWhileLoading.mark(car.getChassis());
+            this.removeSlot(car.getChassis());
+            this.addDoc(car);
+            this.compactIfNeeded();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String chassis) {
+        this.lock.writeLock().lock();
+        try {
+            this.touchedWhileLoading.mark(chassis);
+            this.removeSlot(chassis);
+            this.compactIfNeeded();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCarChanged(CarChangedEvent event) {
+        if (Objects.nonNull(event.getPreviousChassis())) {
+            this.remove(event.getPreviousChassis());
+        }
+        if (event.getType() == ChangeType.DELETED || Objects.isNull(event.getCar())) {
+            this.remove(event.getChassis());
+        } else {
+            this.put(event.getCar());
+        }
+    }
+
+    /**
+     * Starts a bulk load. Until {@link #endLoad()}, cars changed through {@link #put} or
+     * {@link #remove} are remembered so that {@link #load} does not overwrite them with the
+     * older state it read from the database.
+     */
+    void beginLoad() {
+        this.lock.writeLock().lock();
+        try {
+            this.touchedWhileLoading.begin();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    void load(List<CarDTO> cars) {
+        this.lock.writeLock().lock();
+        try {
+            for (var car : cars) {
+                var chassis = normalize(car.getChassis());
+                if (!this.touchedWhileLoading.contains(chassis) && !this.slotByChassis.containsKey(chassis)) {
+                    this.addDoc(car);
+                }
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    void endLoad() {
+        this.lock.writeLock().lock();
+        try {
+            this.touchedWhileLoading.end();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.slotByChassis.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public CarSearchResultDTO search(CarSearchCriteriaDTO criteria) {
+        this.lock.readLock().lock();
+        try {
+            BitSet hits = null;
+            hits = this.matchField(hits, MODEL, criteria.getModel());
+            hits = this.matchField(hits, MANUFACTURER, criteria.getManufacturer());
+            hits = this.matchField(hits, COLOR, criteria.getColor());
+            hits = this.matchField(hits, ENGINE, criteria.getEngine());
+            for (var token : tokens(criteria.getQ())) {
+                var anyField = new BitSet(this.nextSlot);
+                for (var field : this.fields) {
+                    prefixInto(field, token, anyField);
+                }
+                hits = and(hits, anyField);
+            }
+            if (Objects.isNull(hits)) {
+                hits = (BitSet) this.live.clone();
+            } else {
+                hits.and(this.live);
+            }
+
+            var manufacturerCounts = new long[this.manufacturers.size()];
+            var colorCounts = new long[this.colors.size()];
+            var content = new ArrayList<CarDTO>(criteria.getSize());
+            long first = (long) criteria.getPage() * criteria.getSize();
+            long total = 0;
+            for (int slot = hits.nextSetBit(0); slot >= 0; slot = hits.nextSetBit(slot + 1)) {
+                if (total >= first && content.size() < criteria.getSize()) {
+                    content.add(this.docs[slot]);
+                }
+                count(manufacturerCounts, this.manufacturerOrds[slot]);
+                count(colorCounts, this.colorOrds[slot]);
+                total++;
+            }
+
+            return CarSearchResultDTO.builder()
+                    .total(total)
+                    .page(criteria.getPage())
+                    .size(criteria.getSize())
+                    .content(content)
+                    .manufacturerFacets(this.manufacturers.counts(manufacturerCounts))
+                    .colorFacets(this.colors.counts(colorCounts))
+                    .build();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private BitSet matchField(@Nullable BitSet hits, int field, @Nullable String value) {
+        for (var token : tokens(value)) {
+            var matches = new BitSet(this.nextSlot);
+            prefixInto(this.fields.get(field), token, matches);
+            hits = and(hits, matches);
+        }
+        return hits;
+    }
+
+    private void addDoc(CarDTO car) {
+        int slot = this.nextSlot++;
+        if (slot == this.docs.length) {
+            int capacity = this.docs.length * 2;
+            this.docs = Arrays.copyOf(this.docs, capacity);
+            this.manufacturerOrds = Arrays.copyOf(this.manufacturerOrds, capacity);
+            this.colorOrds = Arrays.copyOf(this.colorOrds, capacity);
+        }
+        this.docs[slot] = car;
+        this.manufacturerOrds[slot] = this.manufacturers.ordinal(car.getManufacturer());
+        this.colorOrds[slot] = this.colors.ordinal(car.getColor());
+        this.index(MODEL, car.getModel(), slot);
+        this.index(MANUFACTURER, car.getManufacturer(), slot);
+        this.index(COLOR, car.getColor(), slot);
+        this.index(ENGINE, car.getEngine(), slot);
+        this.slotByChassis.put(normalize(car.getChassis()), slot);
+        this.live.set(slot);
+    }
+
+    private void index(int field, @Nullable String value, int slot) {
+        var postings = this.fields.get(field);
+        for (var token : tokens(value)) {
+            postings.computeIfAbsent(token, key -> new Postings()).add(slot);
+        }
+    }
+
+    private void removeSlot(String chassis) {
+        var slot = this.slotByChassis.remove(normalize(chassis));
+        if (Objects.nonNull(slot)) {
+            this.live.clear(slot);
+            this.docs[slot] = null;
+        }
+    }
+
+    private void compactIfNeeded() {
+        int liveCount = this.slotByChassis.size();
+        if (this.nextSlot - liveCount <= Math.max(MIN_CAPACITY, liveCount)) {
+            return;
+        }
+        var cars = new ArrayList<CarDTO>(liveCount);
+        for (int slot = this.live.nextSetBit(0); slot >= 0; slot = this.live.nextSetBit(slot + 1)) {
+            cars.add(this.docs[slot]);
+        }
+        this.reset(Math.max(MIN_CAPACITY, liveCount * 2));
+        cars.forEach(this::addDoc);
+        log.debug("Car search index compacted to {} cars", liveCount);
+    }
+
+    private void reset(int capacity) {
+        this.fields = new ArrayList<>(FIELD_COUNT);
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            this.fields.add(new TreeMap<>());
+        }
+        this.manufacturers = new Facet();
+        this.colors = new Facet();
+        this.docs = new CarDTO[capacity];
+        this.manufacturerOrds = new int[capacity];
+        this.colorOrds = new int[capacity];
+        this.slotByChassis.clear();
+        this.live.clear();
+        this.nextSlot = 0;
+    }
+
+    static List<String> tokens(@Nullable String value) {
+        if (Objects.isNull(value) || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(SEPARATORS.split(value.trim().toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private static void prefixInto(TreeMap<String, Postings> postings, String prefix, BitSet into) {
+        for (var matches : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+            matches.orInto(into);
+        }
+    }
+
+    private static BitSet and(@Nullable BitSet hits, BitSet matches) {
+        if (Objects.isNull(hits)) {
+            return matches;
+        }
+        hits.and(matches);
+        return hits;
+    }
+
+    private static void count(long[] counts, int ordinal) {
+        if (ordinal >= 0) {
+            counts[ordinal]++;
+        }
+    }
+
+    /**
+     * Append-only, ascending slot list of one word.
+     */
+    private static final class Postings {
+
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (this.size > 0 && this.slots[this.size - 1] == slot) {
+                return;
+            }
+            if (this.size == this.slots.length) {
+                this.slots = Arrays.copyOf(this.slots, this.size * 2);
+            }
+            this.slots[this.size++] = slot;
+        }
+
+        void orInto(BitSet bits) {
+            for (int i = 0; i < this.size; i++) {
+                bits.set(this.slots[i]);
+            }
+        }
+    }
+
+    /**
+     * Dictionary of the distinct values of a faceted field.
+     */
+    private static final class Facet {
+
+        private final Map<String, Integer> ordinals = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int ordinal(@Nullable String value) {
+            if (Objects.isNull(value) || value.isBlank()) {
+                return -1;
+            }
+            return this.ordinals.computeIfAbsent(value.trim(), key -> {
+                this.values.add(key);
+                return this.values.size() - 1;
+            });
+        }
+
+        int size() {
+            return this.values.size();
+        }
+
+        Map<String, Long> counts(long[] counts) {
+            var order = new ArrayList<Integer>();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    order.add(i);
+                }
+            }
+            order.sort((a, b) -> Long.compare(counts[b], counts[a]));
+            var facets = new LinkedHashMap<String, Long>();
+            order.forEach(i -> facets.put(this.values.get(i), counts[i]));
+            return facets;
+        }
+    }
+}
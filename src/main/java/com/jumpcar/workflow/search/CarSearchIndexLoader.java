@@ -0,0 +1,56 @@
+package com.jumpcar.workflow.search;
+
+import com.jumpcar.domain.repository.CarRepository;
+import com.jumpcar.workflow.loading.CarPages;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.scheduling.annotation.Async;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.jumpcar.workflow.converter.CarConverter.INSTANCE;
+
+/**
+ * Fills {@link CarSearchIndex} from the database in id order, one keyset page at a time, in the
+ * background after startup. Searches made before it finishes see a partial index.
+ */
+@Slf4j
+@Singleton
+@Requires(property = "car.search.load-on-startup", notEquals = "false")
+public class CarSearchIndexLoader {
+
+    private final CarRepository carRepository;
+    private final CarSearchIndex carSearchIndex;
+    private final int pageSize;
+
+    @Inject
+    public CarSearchIndexLoader(CarRepository carRepository,
+                                CarSearchIndex carSearchIndex,
+                                @Value("${car.search.load-page-size:1000}") int pageSize) {
+        this.carRepository = carRepository;
+        this.carSearchIndex = carSearchIndex;
+        this.pageSize = pageSize;
+    }
+
+    @Async
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        this.load();
+    }
+
+    void load() {
+        log.info("Starting car search index load");
+        this.carSearchIndex.beginLoad();
+        try {
+            CarPages.forEach(this.carRepository, this.pageSize, page -> this.carSearchIndex.load(INSTANCE.toCarDTO(page)));
+        } catch (Exception e) {
+            log.error("Error loading car search index: {}", e.getMessage(), e);
+        } finally {
+            this.carSearchIndex.endLoad();
+        }
+        log.info("Finish car search index load: {} cars", this.carSearchIndex.size());
+    }
+}
@@ -0,0 +1,390 @@
+package com.jumpcar.workflow.snapshot;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.entity.Car;
+import io.micronaut.core.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable, column-oriented copy of the fleet. Model, manufacturer, color, engine and creation
+ * month are stored as {@code int} codes into one dictionary per attribute, so each distinct value
+ * is kept once. Ids, versions and timestamps are primitive {@code long} columns and every chassis
+ * is packed into a single UTF-8 {@code byte[]} addressed by an offsets array. A row is a plain
+ * index; a {@link CarDTO} is only materialized for the rows a caller returns.
+ * <p>
+ * Filters answer with a {@link BitSet} of rows and aggregations count codes into a {@code long}
+ * array, so neither allocates per car.
+ */
+public final class CarFleetSnapshot {
+
+    static final int NULL_CODE = -1;
+    private static final long NULL_TIME = Long.MIN_VALUE;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final int PARALLEL_CHUNK = 1 << 16;
+
+    /**
+     * Dictionary-encoded columns. {@code CREATED_MONTH} is {@code yyyy-MM} of {@code dateCreated}.
+     */
+    public enum Attribute {
+        MODEL, MANUFACTURER, COLOR, ENGINE, CREATED_MONTH
+    }
+
+    private final int size;
+    private final long[] ids;
+    private final long[] versions;
+    private final long[] dateCreated;
+    private final long[] dateUpdated;
+    private final byte[] chassis;
+    private final int[] chassisOffsets;
+    private final EnumMap<Attribute, int[]> codes;
+    private final EnumMap<Attribute, String[]> dictionaries;
+
+    private CarFleetSnapshot(Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, builder.size);
+        this.versions = Arrays.copyOf(builder.versions, builder.size);
+        this.dateCreated = Arrays.copyOf(builder.dateCreated, builder.size);
+        this.dateUpdated = Arrays.copyOf(builder.dateUpdated, builder.size);
+        this.chassis = Arrays.copyOf(builder.chassis, builder.chassisOffsets[builder.size]);
+        this.chassisOffsets = Arrays.copyOf(builder.chassisOffsets, builder.size + 1);
+        this.codes = new EnumMap<>(Attribute.class);
+        this.dictionaries = new EnumMap<>(Attribute.class);
+        for (var attribute : Attribute.values()) {
+            this.codes.put(attribute, Arrays.copyOf(builder.codes.get(attribute), builder.size));
+            this.dictionaries.put(attribute, builder.dictionaries.get(attribute).values.toArray(String[]::new));
+        }
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    public static CarFleetSnapshot empty() {
+        return builder(0).build();
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public long id(int row) {
+        return this.ids[row];
+    }
+
+    public String chassis(int row) {
+        int start = this.chassisOffsets[row];
+        return new String(this.chassis, start, this.chassisOffsets[row + 1] - start, StandardCharsets.UTF_8);
+    }
+
+    @Nullable
+    public String value(int row, Attribute attribute) {
+        int code = this.codes.get(attribute)[row];
+        return code == NULL_CODE ? null : this.dictionaries.get(attribute)[code];
+    }
+
+    public CarDTO car(int row) {
+        return CarDTO.builder()
+                .id(this.ids[row])
+                .model(this.value(row, Attribute.MODEL))
+                .manufacturer(this.value(row, Attribute.MANUFACTURER))
+                .color(this.value(row, Attribute.COLOR))
+                .engine(this.value(row, Attribute.ENGINE))
+                .chassis(this.chassis(row))
+                .version(this.versions[row])
+                .dateCreated(toTime(this.dateCreated[row]))
+                .dateUpdated(toTime(this.dateUpdated[row]))
+                .build();
+    }
+
+    /**
+     * Cars of rows {@code [offset, offset + limit)}, in id order.
+     */
+    public List<CarDTO> slice(long offset, int limit) {
+        if (offset >= this.size) {
+            return List.of();
+        }
+        int end = (int) Math.min(this.size, offset + limit);
+        var cars = new ArrayList<CarDTO>(end - (int) offset);
+        for (int row = (int) offset; row < end; row++) {
+            cars.add(this.car(row));
+        }
+        return cars;
+    }
+
+    /**
+     * Cars of the set rows of {@code rows}, skipping the first {@code offset}.
+     */
+    public List<CarDTO> cars(BitSet rows, long offset, int limit) {
+        var cars = new ArrayList<CarDTO>(Math.min(limit, rows.cardinality()));
+        long skipped = 0;
+        for (int row = rows.nextSetBit(0); row >= 0 && cars.size() < limit; row = rows.nextSetBit(row + 1)) {
+            if (skipped++ >= offset) {
+                cars.add(this.car(row));
+            }
+        }
+        return cars;
+    }
+
+    public BitSet all() {
+        var rows = new BitSet(this.size);
+        rows.set(0, this.size);
+        return rows;
+    }
+
+    /**
+     * Rows whose {@code attribute} equals {@code value}, ignoring case. The value is looked up
+     * once in the dictionary; the scan itself compares {@code int} codes.
+     */
+    public BitSet rowsWhere(Attribute attribute, String value) {
+        var dictionary = this.dictionaries.get(attribute);
+        var wanted = new BitSet(dictionary.length);
+        for (int code = 0; code < dictionary.length; code++) {
+            if (dictionary[code].equalsIgnoreCase(value)) {
+                wanted.set(code);
+            }
+        }
+        var rows = new BitSet(this.size);
+        if (wanted.isEmpty()) {
+            return rows;
+        }
+        var column = this.codes.get(attribute);
+        for (int row = 0; row < this.size; row++) {
+            int code = column[row];
+            if (code != NULL_CODE && wanted.get(code)) {
+                rows.set(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Rows whose chassis contains {@code term}, compared on the packed bytes without decoding.
+     */
+    public BitSet rowsWithChassisContaining(String term) {
+        var needle = term.getBytes(StandardCharsets.UTF_8);
+        var rows = new BitSet(this.size);
+        for (int row = 0; row < this.size; row++) {
+            if (contains(this.chassis, this.chassisOffsets[row], this.chassisOffsets[row + 1], needle)) {
+                rows.set(row);
+            }
+        }
+        return rows;
+    }
+
+    public Map<String, Long> countBy(Attribute attribute) {
+        return this.countBy(attribute, this.all());
+    }
+
+    /**
+     * Same as {@link #countBy(Attribute)}, split into chunks of rows counted in parallel on the
+     * common fork-join pool and summed. Each chunk counts into its own array, so there is no
+     * contention between workers.
+     */
+    public Map<String, Long> parallelCountBy(Attribute attribute) {
+        var dictionary = this.dictionaries.get(attribute);
+        var column = this.codes.get(attribute);
+        int chunks = (this.size + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+        var counts = IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    var local = new long[dictionary.length];
+                    int end = Math.min(this.size, (chunk + 1) * PARALLEL_CHUNK);
+                    for (int row = chunk * PARALLEL_CHUNK; row < end; row++) {
+                        int code = column[row];
+                        if (code != NULL_CODE) {
+                            local[code]++;
+                        }
+                    }
+                    return local;
+                })
+                .reduce((left, right) -> {
+                    for (int code = 0; code < left.length; code++) {
+                        left[code] += right[code];
+                    }
+                    return left;
+                })
+                .orElseGet(() -> new long[dictionary.length]);
+        return ranked(dictionary, counts);
+    }
+
+    /**
+     * Number of {@code rows} per value of {@code attribute}, most frequent first. Rows without a
+     * value are not counted.
+     */
+    public Map<String, Long> countBy(Attribute attribute, BitSet rows) {
+        var dictionary = this.dictionaries.get(attribute);
+        var column = this.codes.get(attribute);
+        var counts = new long[dictionary.length];
+        for (int row = rows.nextSetBit(0); row >= 0 && row < this.size; row = rows.nextSetBit(row + 1)) {
+            int code = column[row];
+            if (code != NULL_CODE) {
+                counts[code]++;
+            }
+        }
+        return ranked(dictionary, counts);
+    }
+
+    int dictionarySize(Attribute attribute) {
+        return this.dictionaries.get(attribute).length;
+    }
+
+    private static Map<String, Long> ranked(String[] dictionary, long[] counts) {
+        var order = new ArrayList<Integer>(dictionary.length);
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                order.add(code);
+            }
+        }
+        order.sort((a, b) -> Long.compare(counts[b], counts[a]));
+        var result = new LinkedHashMap<String, Long>();
+        order.forEach(code -> result.put(dictionary[code], counts[code]));
+        return result;
+    }
+
+    private static boolean contains(byte[] bytes, int from, int to, byte[] needle) {
+        int last = to - needle.length;
+        outer:
+        for (int i = from; i <= last; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (bytes[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static long toNanos(@Nullable LocalDateTime time) {
+        if (Objects.isNull(time)) {
+            return NULL_TIME;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * NANOS_PER_SECOND + time.getNano();
+    }
+
+    @Nullable
+    private static LocalDateTime toTime(long nanos) {
+        if (nanos == NULL_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND),
+                (int) Math.floorMod(nanos, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+
+    /**
+     * Appends cars in the order they are added, growing its columns as needed. Not thread-safe.
+     */
+    public static final class Builder {
+
+        private final EnumMap<Attribute, int[]> codes = new EnumMap<>(Attribute.class);
+        private final EnumMap<Attribute, Dictionary> dictionaries = new EnumMap<>(Attribute.class);
+        private int size;
+        private long[] ids;
+        private long[] versions;
+        private long[] dateCreated;
+        private long[] dateUpdated;
+        private byte[] chassis;
+        private int[] chassisOffsets;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(16, expectedSize);
+            this.ids = new long[capacity];
+            this.versions = new long[capacity];
+            this.dateCreated = new long[capacity];
+            this.dateUpdated = new long[capacity];
+            this.chassis = new byte[capacity * 17];
+            this.chassisOffsets = new int[capacity + 1];
+            for (var attribute : Attribute.values()) {
+                this.codes.put(attribute, new int[capacity]);
+                this.dictionaries.put(attribute, new Dictionary());
+            }
+        }
+
+        public Builder add(Car car) {
+            return this.add(car.getId(), car.getModel(), car.getManufacturer(), car.getColor(), car.getEngine(),
+                    car.getChassis(), car.getVersion(), car.getDateCreated(), car.getDateUpdated());
+        }
+
+        public Builder add(CarDTO car) {
+            return this.add(car.getId(), car.getModel(), car.getManufacturer(), car.getColor(), car.getEngine(),
+                    car.getChassis(), car.getVersion(), car.getDateCreated(), car.getDateUpdated());
+        }
+
+        public CarFleetSnapshot build() {
+            return new CarFleetSnapshot(this);
+        }
+
+        private Builder add(Long id, @Nullable String model, @Nullable String manufacturer, @Nullable String color,
+                            @Nullable String engine, String chassis, @Nullable Long version,
+                            @Nullable LocalDateTime dateCreated, @Nullable LocalDateTime dateUpdated) {
+            if (this.size == this.ids.length) {
+                this.grow();
+            }
+            int row = this.size++;
+            this.ids[row] = id;
+            this.versions[row] = Objects.requireNonNullElse(version, 0L);
+            this.dateCreated[row] = toNanos(dateCreated);
+            this.dateUpdated[row] = toNanos(dateUpdated);
+            this.code(Attribute.MODEL, row, model);
+            this.code(Attribute.MANUFACTURER, row, manufacturer);
+            this.code(Attribute.COLOR, row, color);
+            this.code(Attribute.ENGINE, row, engine);
+            this.code(Attribute.CREATED_MONTH, row, Objects.isNull(dateCreated) ? null : YearMonth.from(dateCreated).toString());
+
+            var bytes = chassis.getBytes(StandardCharsets.UTF_8);
+            int start = this.chassisOffsets[row];
+            if (start + bytes.length > this.chassis.length) {
+                this.chassis = Arrays.copyOf(this.chassis, Math.max(this.chassis.length * 2, start + bytes.length));
+            }
+            System.arraycopy(bytes, 0, this.chassis, start, bytes.length);
+            this.chassisOffsets[row + 1] = start + bytes.length;
+            return this;
+        }
+
+        private void code(Attribute attribute, int row, @Nullable String value) {
+            this.codes.get(attribute)[row] = this.dictionaries.get(attribute).code(value);
+        }
+
+        private void grow() {
+            int capacity = this.ids.length * 2;
+            this.ids = Arrays.copyOf(this.ids, capacity);
+            this.versions = Arrays.copyOf(this.versions, capacity);
+            this.dateCreated = Arrays.copyOf(this.dateCreated, capacity);
+            this.dateUpdated = Arrays.copyOf(this.dateUpdated, capacity);
+            this.chassisOffsets = Arrays.copyOf(this.chassisOffsets, capacity + 1);
+            this.codes.replaceAll((attribute, column) -> Arrays.copyOf(column, capacity));
+        }
+    }
+
+    /**
+     * Distinct values of one attribute, in first-seen order.
+     */
+    private static final class Dictionary {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int code(@Nullable String value) {
+            if (Objects.isNull(value)) {
+                return NULL_CODE;
+            }
+            return this.codes.computeIfAbsent(value, key -> {
+                this.values.add(key);
+                return this.values.size() - 1;
+            });
+        }
+    }
+}
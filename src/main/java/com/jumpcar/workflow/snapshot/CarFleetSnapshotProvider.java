@@ -0,0 +1,92 @@
+package com.jumpcar.workflow.snapshot;
+
+import com.jumpcar.domain.event.CarChangedEvent;
+import com.jumpcar.domain.repository.CarRepository;
+import com.jumpcar.workflow.loading.CarPages;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the current {@link CarFleetSnapshot}. A committed car change marks it stale; the next
+ * caller rebuilds it from {@link CarRepository} in id order, one keyset page at a time, unless
+ * the snapshot is younger than {@code car.snapshot.max-staleness}. That bounds rebuilds to one
+ * per window under a steady stream of writes, at the price of serving data up to that old.
+ * Rebuilds are serialized by a {@link ReentrantLock}, not a monitor, so a virtual thread blocked
+ * on the load does not pin its carrier; other callers keep the previous snapshot meanwhile, and
+ * only the very first build makes them wait.
+ */
+@Slf4j
+@Singleton
+public class CarFleetSnapshotProvider {
+
+    private final CarRepository carRepository;
+    private final int pageSize;
+    private final long maxStalenessNanos;
+    private volatile CarFleetSnapshot snapshot;
+    private volatile long builtAtNanos;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile boolean stale = true;
+
+    @Inject
+    public CarFleetSnapshotProvider(CarRepository carRepository,
+                                    @Value("${car.snapshot.load-page-size:1000}") int pageSize,
+                                    @Value("${car.snapshot.max-staleness:5s}") Duration maxStaleness) {
+        this.carRepository = carRepository;
+        this.pageSize = pageSize;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+    }
+
+    public CarFleetSnapshot current() {
+        var current = this.snapshot;
+        if (!this.needsRebuild(current)) {
+            return current;
+        }
+        if (Objects.isNull(current)) {
+            this.rebuildLock.lock();
+        } else if (!this.rebuildLock.tryLock()) {
+            // another caller is rebuilding: serve the previous snapshot rather than wait for the load
+            return current;
+        }
+        try {
+            if (this.needsRebuild(this.snapshot)) {
+                this.rebuild();
+            }
+            return this.snapshot;
+        } finally {
+            this.rebuildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCarChanged(CarChangedEvent event) {
+        this.stale = true;
+    }
+
+    private boolean needsRebuild(@Nullable CarFleetSnapshot current) {
+        return Objects.isNull(current) || (this.stale && System.nanoTime() - this.builtAtNanos >= this.maxStalenessNanos);
+    }
+
+    private void rebuild() {
+        // Cleared first, so a change committed while the load runs triggers the next rebuild.
+        this.stale = false;
+        long start = System.nanoTime();
+        var builder = CarFleetSnapshot.builder(Objects.isNull(this.snapshot) ? this.pageSize : this.snapshot.size());
+        try {
+            CarPages.forEach(this.carRepository, this.pageSize, page -> page.forEach(builder::add));
+        } catch (RuntimeException e) {
+            this.stale = true;
+            throw e;
+        }
+        this.snapshot = builder.build();
+        this.builtAtNanos = System.nanoTime();
+        log.debug("Car fleet snapshot built: {} cars in {} ms", this.snapshot.size(), Duration.ofNanos(this.builtAtNanos - start).toMillis());
+    }
+}
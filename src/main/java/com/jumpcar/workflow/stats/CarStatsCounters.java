@@ -0,0 +1,132 @@
+package com.jumpcar.workflow.stats;
+
+import com.jumpcar.domain.event.CarChangedEvent;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.enums.ChangeType;
+import com.jumpcar.domain.model.enums.StatsDimension;
+import com.jumpcar.workflow.loading.TouchedWhileLoading;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Singleton;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Pre-aggregated car counts per {@link StatsDimension}, for {@code car.stats.counters.enabled}.
+ * Filled at startup by {@link CarStatsCountersLoader} and updated after each commit from
+ * {@link CarChangedEvent}. An update only carries the new state, so the counted values of each
+ * chassis are remembered to take the old ones back out; that costs a map entry per car.
+ */
+@Singleton
+@Requires(property = "car.stats.counters.enabled", value = "true")
+public class CarStatsCounters {
+
+    private final Map<String, Counted> countedByChassis = new HashMap<>();
+    private final EnumMap<StatsDimension, Map<String, Long>> counts = new EnumMap<>(StatsDimension.class);
+    private final TouchedWhileLoading touchedWhileLoading = new TouchedWhileLoading();
+
+    public CarStatsCounters() {
+        for (var dimension : StatsDimension.values()) {
+            this.counts.put(dimension, new HashMap<>());
+        }
+    }
+
+    public synchronized long total() {
+        return this.countedByChassis.size();
+    }
+
+    /**
+     * Cars per value of {@code dimension}, most frequent first.
+     */
+    public synchronized Map<String, Long> counts(StatsDimension dimension) {
+        var entries = new ArrayList<>(this.counts.get(dimension).entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        var result = new LinkedHashMap<String, Long>();
+        entries.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    @TransactionalEventListener
+    public synchronized void onCarChanged(CarChangedEvent event) {
+        if (Objects.nonNull(event.getPreviousChassis())) {
+            this.touchedWhileLoading.mark(event.getPreviousChassis());
+            this.remove(event.getPreviousChassis());
+        }
+        this.touchedWhileLoading.mark(event.getChassis());
+        this.remove(event.getChassis());
+        if (event.getType() != ChangeType.DELETED && Objects.nonNull(event.getCar())) {
+            this.add(event.getChassis(), event.getCar());
+        }
+    }
+
+    /**
+     * Starts the startup load. Until {@link #endLoad()}, chassis changed by an event are
+     * remembered so that {@link #load} does not count the older state, or a deleted car, it read
+     * from the database.
+     */
+    synchronized void beginLoad() {
+        this.touchedWhileLoading.begin();
+    }
+
+    /**
+     * Counts cars read at startup, skipping any already counted or changed by an event.
+     */
+    synchronized void load(Collection<CarDTO> cars) {
+        for (var car : cars) {
+            if (!this.touchedWhileLoading.contains(car.getChassis()) && !this.countedByChassis.containsKey(car.getChassis())) {
+                this.add(car.getChassis(), car);
+            }
+        }
+    }
+
+    synchronized void endLoad() {
+        this.touchedWhileLoading.end();
+    }
+
+    private void add(String chassis, CarDTO car) {
+        var counted = new Counted(car.getManufacturer(), car.getColor(), car.getEngine(),
+                Objects.isNull(car.getDateCreated()) ? null : YearMonth.from(car.getDateCreated()).toString());
+        this.countedByChassis.put(chassis, counted);
+        for (var dimension : StatsDimension.values()) {
+            var value = counted.value(dimension);
+            if (Objects.nonNull(value)) {
+                this.counts.get(dimension).merge(value, 1L, Long::sum);
+            }
+        }
+    }
+
+    private void remove(String chassis) {
+        var counted = this.countedByChassis.remove(chassis);
+        if (Objects.isNull(counted)) {
+            return;
+        }
+        for (var dimension : StatsDimension.values()) {
+            var value = counted.value(dimension);
+            if (Objects.nonNull(value)) {
+                this.counts.get(dimension).computeIfPresent(value, (key, count) -> count > 1 ? count - 1 : null);
+            }
+        }
+    }
+
+    private record Counted(@Nullable String manufacturer, @Nullable String color, @Nullable String engine,
+                           @Nullable String month) {
+
+        @Nullable
+        String value(StatsDimension dimension) {
+            return switch (dimension) {
+                case MANUFACTURER -> this.manufacturer;
+                case COLOR -> this.color;
+                case ENGINE -> this.engine;
+                case MONTH -> this.month;
+            };
+        }
+    }
+}
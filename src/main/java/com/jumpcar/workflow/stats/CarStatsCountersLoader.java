@@ -0,0 +1,52 @@
+package com.jumpcar.workflow.stats;
+
+import com.jumpcar.domain.repository.CarRepository;
+import com.jumpcar.workflow.loading.CarPages;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.jumpcar.workflow.converter.CarConverter.INSTANCE;
+
+/**
+ * Counts every car into {@link CarStatsCounters} at startup, in id order, one keyset page at a
+ * time. Runs synchronously so the counters are complete before the first request.
+ */
+@Slf4j
+@Singleton
+@Requires(property = "car.stats.counters.enabled", value = "true")
+public class CarStatsCountersLoader {
+
+    private final CarRepository carRepository;
+    private final CarStatsCounters carStatsCounters;
+    private final int pageSize;
+
+    @Inject
+    public CarStatsCountersLoader(CarRepository carRepository,
+                                  CarStatsCounters carStatsCounters,
+                                  @Value("${car.stats.counters.load-page-size:1000}") int pageSize) {
+        this.carRepository = carRepository;
+        this.carStatsCounters = carStatsCounters;
+        this.pageSize = pageSize;
+    }
+
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        this.load();
+    }
+
+    void load() {
+        log.info("Starting car stats counters load");
+        this.carStatsCounters.beginLoad();
+        try {
+            CarPages.forEach(this.carRepository, this.pageSize, page -> this.carStatsCounters.load(INSTANCE.toCarDTO(page)));
+        } finally {
+            this.carStatsCounters.endLoad();
+        }
+        log.info("Finish car stats counters load: {} cars", this.carStatsCounters.total());
+    }
+}
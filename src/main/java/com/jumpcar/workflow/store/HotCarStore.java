@@ -0,0 +1,385 @@
+package com.jumpcar.workflow.store;
+
+import com.jumpcar.domain.event.CarChangedEvent;
+import com.jumpcar.domain.exception.BusinessException;
+import com.jumpcar.domain.exception.ConcurrencyLimitException;
+import com.jumpcar.domain.exception.ConflictException;
+import com.jumpcar.domain.exception.NotFoundException;
+import com.jumpcar.domain.exception.PreconditionFailedException;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.dto.CarListStateDTO;
+import com.jumpcar.domain.model.enums.ChangeType;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * All cars in memory, for {@code car.store.mode: memory}. Reads are lock-free lookups in a
+ * {@link ConcurrentHashMap} by chassis and a {@link ConcurrentSkipListMap} by id. Writes lock the
+ * stripe of each chassis they touch, apply the change and queue it for {@link HotCarStoreFlusher}
+ * in the same critical section, so the queue holds the changes of a chassis in the order memory
+ * saw them. The queue is bounded: when the database falls behind, writers wait up to
+ * {@code car.store.offer-timeout} and then fail with 503 instead of growing the backlog.
+ * <p>
+ * A created car has no id until its insert is flushed. Until then it is found by chassis and
+ * listed after the cars that have one, in creation order, but not returned by id-keyed scrolling.
+ * It is tracked by a pending key instead, which its writes carry and a rename keeps, so the id
+ * of the insert reaches the car under whatever chassis it has by then.
+ */
+@Slf4j
+@Singleton
+@Requires(property = "car.store.mode", value = "memory")
+public class HotCarStore {
+
+    private static final int STRIPES = 64;
+
+    private final ConcurrentHashMap<String, CarDTO> byChassis = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, CarDTO> byId = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<Long, CarDTO> withoutId = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<String, Long> pendingKeys = new ConcurrentHashMap<>();
+    private final AtomicLong nextPendingKey = new AtomicLong();
+    private final AtomicLong versionSum = new AtomicLong();
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private final BlockingQueue<PendingWrite> pendingWrites;
+    private final Duration offerTimeout;
+    private volatile boolean closed;
+
+    @Inject
+    public HotCarStore(@Value("${car.store.queue-capacity:10000}") int queueCapacity,
+                       @Value("${car.store.offer-timeout:1s}") Duration offerTimeout) {
+        this.pendingWrites = new ArrayBlockingQueue<>(queueCapacity);
+        this.offerTimeout = offerTimeout;
+        for (int i = 0; i < STRIPES; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Nullable
+    public CarDTO get(String chassis) {
+        return this.byChassis.get(chassis);
+    }
+
+    public int size() {
+        return this.byChassis.size();
+    }
+
+    public List<CarDTO> list() {
+        return this.ordered().toList();
+    }
+
+    public List<CarDTO> slice(long offset, int limit) {
+        return this.ordered().skip(offset).limit(limit).toList();
+    }
+
+    public List<CarDTO> after(long afterId, int limit) {
+        return this.byId.tailMap(afterId, false).values().stream().limit(limit).toList();
+    }
+
+    public List<CarDTO> searchByChassis(String term, long offset, int limit) {
+        Predicate<CarDTO> matches = car -> car.getChassis().contains(term);
+        return this.ordered().filter(matches).skip(offset).limit(limit).toList();
+    }
+
+    public CarListStateDTO state() {
+        return CarListStateDTO.builder()
+                .count(this.byChassis.size())
+                .maxId(this.byId.isEmpty() ? null : this.byId.lastKey())
+                .versionSum(this.versionSum.get())
+                .build();
+    }
+
+    public CarDTO create(String chassis, CarDTO car) {
+        var lock = this.stripe(chassis);
+        lock.lock();
+        try {
+            if (this.byChassis.containsKey(chassis)) {
+                throw new BusinessException("Car already exists for chassis: " + chassis);
+            }
+            var created = car.toBuilder()
+                    .id(null)
+                    .chassis(chassis)
+                    .version(0L)
+                    .dateCreated(LocalDateTime.now())
+                    .dateUpdated(null)
+                    .build();
+            long pendingKey = this.nextPendingKey.incrementAndGet();
+            this.enqueue(new PendingWrite(chassis, null, created, pendingKey));
+            this.replace(null, created, pendingKey);
+            return created;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Applies the non-null fields of {@code patch}, checking {@code patch.version} when set.
+     */
+    public CarDTO update(String chassis, @Nullable String newChassis, CarDTO patch) {
+        var target = Objects.requireNonNullElse(newChassis, chassis);
+        this.lockBoth(chassis, target);
+        try {
+            var current = this.byChassis.get(chassis);
+            if (Objects.isNull(current)) {
+                throw new NotFoundException("Car not found for chassis: " + chassis);
+            }
+            if (Objects.nonNull(patch.getVersion()) && !patch.getVersion().equals(current.getVersion())) {
+                throw new ConflictException("Car was modified concurrently, expected version " + patch.getVersion() + " for chassis: " + chassis);
+            }
+            var renamed = !target.equals(chassis);
+            if (renamed && this.byChassis.containsKey(target)) {
+                throw new BusinessException("Car already exists for chassis: " + newChassis);
+            }
+            var updated = current.toBuilder()
+                    .model(patched(patch.getModel(), current.getModel()))
+                    .manufacturer(patched(patch.getManufacturer(), current.getManufacturer()))
+                    .color(patched(patch.getColor(), current.getColor()))
+                    .engine(patched(patch.getEngine(), current.getEngine()))
+                    .chassis(target)
+                    .version(current.getVersion() + 1)
+                    .dateUpdated(LocalDateTime.now())
+                    .build();
+            var pendingKey = this.pendingKeys.get(chassis);
+            this.enqueue(new PendingWrite(target, renamed ? chassis : null, updated, pendingKey));
+            this.replace(current, updated, pendingKey);
+            return updated;
+        } finally {
+            this.unlockBoth(chassis, target);
+        }
+    }
+
+    /**
+     * Creates the car, or applies the non-null fields of {@code car} to the stored one without a
+     * version check, like the batch upsert.
+     *
+     * @return {@code true} when the car already existed
+     */
+    public boolean upsert(String chassis, CarDTO car) {
+        var lock = this.stripe(chassis);
+        lock.lock();
+        try {
+            var current = this.byChassis.get(chassis);
+            CarDTO next;
+            if (Objects.isNull(current)) {
+                next = car.toBuilder()
+                        .id(null)
+                        .chassis(chassis)
+                        .version(0L)
+                        .dateCreated(LocalDateTime.now())
+                        .dateUpdated(null)
+                        .build();
+            } else {
+                next = current.toBuilder()
+                        .model(patched(car.getModel(), current.getModel()))
+                        .manufacturer(patched(car.getManufacturer(), current.getManufacturer()))
+                        .color(patched(car.getColor(), current.getColor()))
+                        .engine(patched(car.getEngine(), current.getEngine()))
+                        .version(current.getVersion() + 1)
+                        .dateUpdated(LocalDateTime.now())
+                        .build();
+            }
+            var pendingKey = Objects.isNull(current) ? this.nextPendingKey.incrementAndGet() : this.pendingKeys.get(chassis);
+            this.enqueue(new PendingWrite(chassis, null, next, pendingKey));
+            this.replace(current, next, pendingKey);
+            return Objects.nonNull(current);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean delete(String chassis) {
+        return this.delete(chassis, null);
+    }
+
+    /**
+     * Removes the car, checking {@code version} when set; a mismatch throws
+     * {@link PreconditionFailedException}.
+     */
+    public boolean delete(String chassis, @Nullable Long version) {
+        var lock = this.stripe(chassis);
+        lock.lock();
+        try {
+            var current = this.byChassis.get(chassis);
+            if (Objects.isNull(current)) {
+                return false;
+            }
+            if (Objects.nonNull(version) && !version.equals(Objects.requireNonNullElse(current.getVersion(), 0L))) {
+                throw new PreconditionFailedException("Car was modified concurrently, expected version " + version + " for chassis: " + chassis);
+            }
+            this.enqueue(new PendingWrite(chassis, null, null, null));
+            this.replace(current, null, null);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Keeps the store in line with writes that reached the database without going through it.
+     * Every service routes its writes through the store in memory mode, so this is a safety net;
+     * its own write-behind changes are already applied.
+     */
+    @TransactionalEventListener
+    public void onCarChanged(CarChangedEvent event) {
+        if (event.isWriteBehind()) {
+            return;
+        }
+        var previous = Objects.requireNonNullElse(event.getPreviousChassis(), event.getChassis());
+        this.lockBoth(previous, event.getChassis());
+        try {
+            this.replace(this.byChassis.get(previous), null, null);
+            if (event.getType() != ChangeType.DELETED && Objects.nonNull(event.getCar())) {
+                this.replace(this.byChassis.get(event.getChassis()), event.getCar(), null);
+            }
+        } finally {
+            this.unlockBoth(previous, event.getChassis());
+        }
+    }
+
+    /**
+     * Records the id the database gave a flushed insert, if the car with that pending key still
+     * exists without one. The car may have been renamed since, so its stripe is locked by the
+     * chassis it has now and checked again once held.
+     */
+    void assignId(long pendingKey, Long id) {
+        while (true) {
+            var current = this.withoutId.get(pendingKey);
+            if (Objects.isNull(current)) {
+                return;
+            }
+            var lock = this.stripe(current.getChassis());
+            lock.lock();
+            try {
+                if (this.withoutId.get(pendingKey) == current) {
+                    this.replace(current, current.toBuilder().id(id).build(), null);
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    void load(Collection<CarDTO> cars) {
+        for (var car : cars) {
+            var lock = this.stripe(car.getChassis());
+            lock.lock();
+            try {
+                if (!this.byChassis.containsKey(car.getChassis())) {
+                    this.replace(null, car, null);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    int drainTo(List<PendingWrite> batch, int maxWrites) {
+        return this.pendingWrites.drainTo(batch, maxWrites);
+    }
+
+    int pendingCount() {
+        return this.pendingWrites.size();
+    }
+
+    /**
+     * Rejects further writes, so a final flush can empty the queue.
+     */
+    void close() {
+        this.closed = true;
+    }
+
+    private Stream<CarDTO> ordered() {
+        return Stream.concat(this.byId.values().stream(), this.withoutId.values().stream());
+    }
+
+    private void enqueue(PendingWrite write) {
+        if (this.closed) {
+            throw new ConcurrencyLimitException("Car store is shutting down, try again later");
+        }
+        try {
+            if (!this.pendingWrites.offer(write, this.offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                log.error("Car write-behind queue full, rejecting write for chassis {}", write.chassis());
+                throw new ConcurrencyLimitException("Too many pending car writes, try again later");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrencyLimitException("Interrupted while queueing a car write", e);
+        }
+    }
+
+    /**
+     * Swaps {@code previous} for {@code next} in every index; either may be {@code null}.
+     * A {@code next} without id is kept under {@code pendingKey}, or a new key when that is
+     * {@code null}. Callers hold the stripe lock of both chassis.
+     */
+    private void replace(@Nullable CarDTO previous, @Nullable CarDTO next, @Nullable Long pendingKey) {
+        if (Objects.nonNull(previous)) {
+            this.byChassis.remove(previous.getChassis(), previous);
+            if (Objects.nonNull(previous.getId())) {
+                this.byId.remove(previous.getId(), previous);
+            } else {
+                var previousKey = this.pendingKeys.remove(previous.getChassis());
+                if (Objects.nonNull(previousKey)) {
+                    this.withoutId.remove(previousKey, previous);
+                }
+            }
+            this.versionSum.addAndGet(-Objects.requireNonNullElse(previous.getVersion(), 0L));
+        }
+        if (Objects.nonNull(next)) {
+            this.byChassis.put(next.getChassis(), next);
+            if (Objects.nonNull(next.getId())) {
+                this.byId.put(next.getId(), next);
+            } else {
+                long key = Objects.nonNull(pendingKey) ? pendingKey : this.nextPendingKey.incrementAndGet();
+                this.pendingKeys.put(next.getChassis(), key);
+                this.withoutId.put(key, next);
+            }
+            this.versionSum.addAndGet(Objects.requireNonNullElse(next.getVersion(), 0L));
+        }
+    }
+
+    private static String patched(@Nullable String value, @Nullable String current) {
+        return Objects.nonNull(value) ? value : current;
+    }
+
+    private ReentrantLock stripe(String chassis) {
+        return this.stripes[Math.floorMod(chassis.hashCode(), STRIPES)];
+    }
+
+    private void lockBoth(String first, String second) {
+        int a = Math.floorMod(first.hashCode(), STRIPES);
+        int b = Math.floorMod(second.hashCode(), STRIPES);
+        this.stripes[Math.min(a, b)].lock();
+        if (a != b) {
+            this.stripes[Math.max(a, b)].lock();
+        }
+    }
+
+    private void unlockBoth(String first, String second) {
+        int a = Math.floorMod(first.hashCode(), STRIPES);
+        int b = Math.floorMod(second.hashCode(), STRIPES);
+        if (a != b) {
+            this.stripes[Math.max(a, b)].unlock();
+        }
+        this.stripes[Math.min(a, b)].unlock();
+    }
+}
@@ -0,0 +1,173 @@
+package com.jumpcar.workflow.store;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.JDBCConnectionException;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Drains the {@link HotCarStore} queue into the database every {@code car.store.flush-interval},
+ * {@code car.store.batch-size} writes per transaction. A failed batch is kept and retried in
+ * order. Transient failures (no connection, pool acquire or lock timeouts) never count as
+ * attempts, so an unreachable database only delays writes. Any other failure counts, and after
+ * {@code car.store.max-attempts} of them the batch is retried one write at a time: each write
+ * that fails again with a non-transient failure is dropped and logged, even when it is the only
+ * write in the batch, so one bad write cannot hold back the queue behind it.
+ * <p>
+ * On shutdown the store stops accepting writes and the queue is flushed before the datasource
+ * closes, for up to {@code car.store.shutdown-timeout}. Writes still queued when the process
+ * dies are lost; the store is rebuilt from the database on the next start.
+ */
+@Slf4j
+@Singleton
+@Requires(property = "car.store.mode", value = "memory")
+public class HotCarStoreFlusher {
+
+    private final HotCarStore hotCarStore;
+    private final HotCarStoreWriter hotCarStoreWriter;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration flushInterval;
+    private final Duration shutdownTimeout;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final List<PendingWrite> batch = new ArrayList<>();
+    private final LongAdder dropped = new LongAdder();
+    private int failedAttempts;
+
+    @Inject
+    public HotCarStoreFlusher(HotCarStore hotCarStore,
+                              HotCarStoreWriter hotCarStoreWriter,
+                              @Value("${car.store.batch-size:500}") int batchSize,
+                              @Value("${car.store.max-attempts:5}") int maxAttempts,
+                              @Value("${car.store.flush-interval:100ms}") Duration flushInterval,
+                              @Value("${car.store.shutdown-timeout:30s}") Duration shutdownTimeout) {
+        this.hotCarStore = hotCarStore;
+        this.hotCarStoreWriter = hotCarStoreWriter;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.flushInterval = flushInterval;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @Scheduled(fixedDelay = "${car.store.flush-interval:100ms}")
+    void flush() {
+        if (!this.flushLock.tryLock()) {
+            return;
+        }
+        try {
+            this.drain();
+        } finally {
+            this.flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void close() throws InterruptedException {
+        this.hotCarStore.close();
+        long deadline = System.nanoTime() + this.shutdownTimeout.toNanos();
+        this.flushLock.lock();
+        try {
+            while (!this.drain() && System.nanoTime() < deadline) {
+                Thread.sleep(this.flushInterval.toMillis());
+            }
+            int lost = this.batch.size() + this.hotCarStore.pendingCount();
+            if (lost > 0) {
+                log.error("Car store closed with {} writes not persisted", lost);
+            } else {
+                log.info("Car store flushed on shutdown");
+            }
+        } finally {
+            this.flushLock.unlock();
+        }
+    }
+
+    public long droppedCount() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * @return {@code true} once the queue is empty, {@code false} if a batch is waiting for a retry
+     */
+    private boolean drain() {
+        while (true) {
+            if (this.batch.isEmpty() && this.hotCarStore.drainTo(this.batch, this.batchSize) == 0) {
+                return true;
+            }
+            try {
+                this.write(this.batch);
+                this.batch.clear();
+                this.failedAttempts = 0;
+            } catch (Exception e) {
+                if (isTransient(e)) {
+                    log.error("Database unavailable, keeping {} car writes for a retry: {}", this.batch.size(), e.getMessage());
+                    return false;
+                }
+                this.failedAttempts++;
+                log.error("Error flushing {} car writes, attempt {}: {}", this.batch.size(), this.failedAttempts, e.getMessage());
+                if (this.failedAttempts < this.maxAttempts || !this.writeOneByOne()) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the batch one write at a time, in order, dropping the writes that fail. Stops at the
+     * first transient failure and keeps the writes not tried yet.
+     *
+     * @return {@code true} once every write of the batch was written or dropped
+     */
+    private boolean writeOneByOne() {
+        var iterator = this.batch.iterator();
+        while (iterator.hasNext()) {
+            var write = iterator.next();
+            try {
+                this.write(List.of(write));
+            } catch (Exception e) {
+                if (isTransient(e)) {
+                    return false;
+                }
+                log.error("Dropping car write that keeps failing: {}: {}", write, e.getMessage());
+                this.dropped.increment();
+            }
+            iterator.remove();
+        }
+        this.failedAttempts = 0;
+        return true;
+    }
+
+    /**
+     * True when {@code e} was caused by the database being unreachable or busy rather than by the
+     * data: a connection failure (SQL state class 08), a pool acquire timeout or a lock timeout.
+     */
+    static boolean isTransient(Throwable e) {
+        for (var cause = e; Objects.nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof SQLTransientException || cause instanceof SQLNonTransientConnectionException
+                    || cause instanceof JDBCConnectionException) {
+                return true;
+            }
+            if (cause instanceof SQLException sql && Objects.nonNull(sql.getSQLState()) && sql.getSQLState().startsWith("08")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void write(List<PendingWrite> writes) {
+        this.hotCarStoreWriter.write(writes).forEach(this.hotCarStore::assignId);
+    }
+}
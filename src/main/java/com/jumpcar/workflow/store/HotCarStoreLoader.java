@@ -0,0 +1,48 @@
+package com.jumpcar.workflow.store;
+
+import com.jumpcar.domain.repository.CarRepository;
+import com.jumpcar.workflow.loading.CarPages;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.jumpcar.workflow.converter.CarConverter.INSTANCE;
+
+/**
+ * Rebuilds {@link HotCarStore} from the database in id order, one keyset page at a time. Unlike
+ * the search index this runs synchronously at startup, before the server accepts requests,
+ * because every read is served from the store.
+ */
+@Slf4j
+@Singleton
+@Requires(property = "car.store.mode", value = "memory")
+public class HotCarStoreLoader {
+
+    private final CarRepository carRepository;
+    private final HotCarStore hotCarStore;
+    private final int pageSize;
+
+    @Inject
+    public HotCarStoreLoader(CarRepository carRepository,
+                             HotCarStore hotCarStore,
+                             @Value("${car.store.load-page-size:1000}") int pageSize) {
+        this.carRepository = carRepository;
+        this.hotCarStore = hotCarStore;
+        this.pageSize = pageSize;
+    }
+
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        this.load();
+    }
+
+    void load() {
+        log.info("Starting car store load");
+        CarPages.forEach(this.carRepository, this.pageSize, page -> this.hotCarStore.load(INSTANCE.toCarDTO(page)));
+        log.info("Finish car store load: {} cars", this.hotCarStore.size());
+    }
+}
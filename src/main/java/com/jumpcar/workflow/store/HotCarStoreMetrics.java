@@ -0,0 +1,32 @@
+package com.jumpcar.workflow.store;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+@Singleton
+@Requires(property = "car.store.mode", value = "memory")
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+public class HotCarStoreMetrics implements MeterBinder {
+
+    private final HotCarStore hotCarStore;
+    private final HotCarStoreFlusher hotCarStoreFlusher;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("car.store.size", this.hotCarStore, HotCarStore::size)
+                .description("Cars held in memory")
+                .register(registry);
+        Gauge.builder("car.store.pending", this.hotCarStore, HotCarStore::pendingCount)
+                .description("Car writes waiting to be flushed to the database")
+                .register(registry);
+        FunctionCounter.builder("car.store.dropped", this.hotCarStoreFlusher, HotCarStoreFlusher::droppedCount)
+                .description("Car writes dropped after failing on their own")
+                .register(registry);
+    }
+}
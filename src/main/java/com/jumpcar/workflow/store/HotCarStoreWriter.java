@@ -0,0 +1,74 @@
+package com.jumpcar.workflow.store;
+
+import com.jumpcar.domain.event.CarChangedEvent;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.enums.ChangeType;
+import com.jumpcar.domain.repository.CarRepository;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.transaction.annotation.Transactional;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.jumpcar.workflow.converter.CarConverter.INSTANCE;
+
+/**
+ * Writes a batch of {@link PendingWrite}s in one transaction. Each write carries the car's full
+ * state, so it is applied as an upsert (or an idempotent delete) and can be retried as a whole
+ * after a failure. Publishes a {@code writeBehind} {@link CarChangedEvent} per write, which
+ * records the change feed and refreshes the caches once the batch commits.
+ */
+@Singleton
+@Requires(property = "car.store.mode", value = "memory")
+@RequiredArgsConstructor(onConstructor = @__(@Inject))
+public class HotCarStoreWriter {
+
+    private final CarRepository carRepository;
+    private final ApplicationEventPublisher<CarChangedEvent> carChangedEventPublisher;
+
+    /**
+     * @return ids assigned to inserted cars, by the pending key of their write
+     */
+    @Transactional
+    public Map<Long, Long> write(List<PendingWrite> writes) {
+        var insertedIds = new HashMap<Long, Long>();
+        for (var write : writes) {
+            if (Objects.isNull(write.car())) {
+                if (this.carRepository.deleteByChassis(write.chassis()) > 0) {
+                    this.publish(ChangeType.DELETED, write.chassis(), null, null);
+                }
+                continue;
+            }
+            var car = write.car();
+            var key = Objects.requireNonNullElse(write.previousChassis(), write.chassis());
+            var patched = this.carRepository.findAndPatchByChassis(key,
+                    car.getModel(), car.getManufacturer(), car.getColor(), car.getEngine(), write.chassis(), null);
+            if (patched.isPresent()) {
+                this.publish(ChangeType.UPDATED, write.chassis(), write.previousChassis(), INSTANCE.toCarDTO(patched.get()));
+            } else {
+                var saved = this.carRepository.saveAndFlush(INSTANCE.toCar(car));
+                if (Objects.nonNull(write.pendingKey())) {
+                    insertedIds.put(write.pendingKey(), saved.getId());
+                }
+                this.publish(ChangeType.CREATED, saved.getChassis(), null, INSTANCE.toCarDTO(saved));
+            }
+        }
+        return insertedIds;
+    }
+
+    private void publish(ChangeType type, String chassis, String previousChassis, CarDTO carDTO) {
+        this.carChangedEventPublisher.publishEvent(CarChangedEvent.builder()
+                .type(type)
+                .chassis(chassis)
+                .previousChassis(previousChassis)
+                .car(carDTO)
+                .writeBehind(true)
+                .build());
+    }
+}
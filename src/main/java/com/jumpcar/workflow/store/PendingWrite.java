@@ -0,0 +1,16 @@
+package com.jumpcar.workflow.store;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * A change applied to {@link HotCarStore} and not yet written to the database: the car's full
+ * state after the change, or {@code null} for a delete.
+ *
+ * @param chassis         normalized chassis after the change
+ * @param previousChassis normalized chassis before it, when the change renamed the car
+ * @param pendingKey      store key of a car that has no id yet, so the id of its insert finds it
+ *                        even after a rename
+ */
+record PendingWrite(String chassis, @Nullable String previousChassis, @Nullable CarDTO car, @Nullable Long pendingKey) {
+}
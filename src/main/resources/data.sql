@@ -1,5 +1,7 @@
+CREATE SEQUENCE IF NOT EXISTS car_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS car (
-   id SERIAL NOT NULL,
+   id BIGINT NOT NULL,
    manufacturer VARCHAR(100) NOT NULL,
    model VARCHAR(100) NOT NULL,
    color VARCHAR(50) NOT NULL,
@@ -7,5 +9,27 @@ CREATE TABLE IF NOT EXISTS car (
    chassis VARCHAR(50) NOT NULL,
    date_created TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
    date_updated TIMESTAMP NULL,
-   CONSTRAINT id_pkey PRIMARY KEY (id)
-);
\ No newline at end of file
+   version BIGINT NOT NULL DEFAULT 0,
+   CONSTRAINT id_pkey PRIMARY KEY (id),
+   CONSTRAINT uk_car_chassis UNIQUE (chassis)
+);
+
+CREATE TABLE IF NOT EXISTS car_change (
+   id BIGINT NOT NULL,
+   type VARCHAR(10) NOT NULL,
+   chassis VARCHAR(50) NOT NULL,
+   previous_chassis VARCHAR(50) NULL,
+   date_changed TIMESTAMP NOT NULL,
+   CONSTRAINT car_change_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_car_change_date_changed ON car_change (date_changed);
+
+CREATE TABLE IF NOT EXISTS car_change_position (
+   id INT NOT NULL,
+   position BIGINT NOT NULL,
+   CONSTRAINT car_change_position_pkey PRIMARY KEY (id)
+);
+
+INSERT INTO car_change_position (id, position)
+SELECT 1, 0 WHERE NOT EXISTS (SELECT 1 FROM car_change_position);
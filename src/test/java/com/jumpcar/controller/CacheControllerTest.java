@@ -0,0 +1,40 @@
+package com.jumpcar.controller;
+
+import com.jumpcar.domain.model.dto.CacheStatsDTO;
+import com.jumpcar.workflow.cache.CarCache;
+import io.micronaut.http.HttpStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CacheControllerTest {
+
+    @Mock
+    private CarCache carCache;
+
+    @InjectMocks
+    private CacheController cacheController;
+
+    @Test
+    void getCarCacheStatsShouldReturnStatsWithStatus200() {
+        var stats = CacheStatsDTO.builder()
+                .size(1)
+                .hitCount(3)
+                .missCount(1)
+                .hitRate(0.75)
+                .build();
+
+        when(carCache.stats()).thenReturn(stats);
+
+        var response = cacheController.getCarCacheStats();
+
+        assertEquals(HttpStatus.OK, response.status());
+        assertEquals(stats, response.body());
+    }
+}
@@ -2,21 +2,48 @@ package com.jumpcar.controller;
 
 import com.jumpcar.domain.exception.BusinessException;
 import com.jumpcar.domain.exception.NotFoundException;
+import com.jumpcar.domain.exception.PreconditionFailedException;
+import com.jumpcar.domain.model.dto.CarBatchResultDTO;
+import com.jumpcar.domain.model.dto.CarBatchSummaryDTO;
+import com.jumpcar.domain.model.dto.CarChangeDTO;
+import com.jumpcar.domain.model.dto.CarChangeFeedDTO;
 import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.dto.CarListStateDTO;
+import com.jumpcar.domain.model.dto.CarScrollDTO;
+import com.jumpcar.domain.model.dto.CarSearchResultDTO;
+import com.jumpcar.domain.model.dto.CarStatsDTO;
+import com.jumpcar.domain.model.enums.BatchItemStatus;
+import com.jumpcar.domain.model.enums.ChangeType;
+import com.jumpcar.domain.model.enums.StatsDimension;
+import com.jumpcar.domain.model.enums.StatsSource;
+import com.jumpcar.domain.service.CarBatchService;
+import com.jumpcar.domain.service.CarChangeService;
+import com.jumpcar.domain.service.CarExportService;
+import com.jumpcar.domain.service.CarProjectionService;
+import com.jumpcar.domain.service.CarSearchService;
 import com.jumpcar.domain.service.CarService;
+import com.jumpcar.domain.service.CarStatsService;
+import com.jumpcar.workflow.converter.CursorConverter;
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpStatus;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +52,24 @@ class CarControllerTest {
     @Mock
     private CarService carService;
 
+    @Mock
+    private CarExportService carExportService;
+
+    @Mock
+    private CarBatchService carBatchService;
+
+    @Mock
+    private CarSearchService carSearchService;
+
+    @Mock
+    private CarChangeService carChangeService;
+
+    @Mock
+    private CarStatsService carStatsService;
+
+    @Mock
+    private CarProjectionService carProjectionService;
+
     @InjectMocks
     private CarController carController;
 
@@ -44,6 +89,50 @@ class CarControllerTest {
         assertEquals(carDTO, response.body());
     }
 
+    @Test
+    void newCarBatchShouldReturnItemResultsWithStatus200() {
+        var cars = List.of(CarDTO.builder().chassis("ABC123").build());
+        var results = List.of(CarBatchResultDTO.builder()
+                .index(0)
+                .id(1L)
+                .chassis("ABC123")
+                .status(BatchItemStatus.CREATED)
+                .build());
+
+        when(carBatchService.newCarBatch(cars)).thenReturn(results);
+
+        var response = carController.newCarBatch(cars);
+
+        assertEquals(HttpStatus.OK, response.status());
+        assertEquals(results, response.body());
+    }
+
+    @Test
+    void upsertCarBatchShouldReturnSummaryWithStatus200() {
+        var cars = List.of(CarDTO.builder().chassis("ABC123").build());
+        var summary = CarBatchSummaryDTO.builder().received(1).updated(1).failures(List.of()).build();
+
+        when(carBatchService.upsertCarBatch(cars)).thenReturn(summary);
+
+        var response = carController.upsertCarBatch(cars);
+
+        assertEquals(HttpStatus.OK, response.status());
+        assertEquals(summary, response.body());
+    }
+
+    @Test
+    void deleteCarBatchShouldReturnSummaryWithStatus200() {
+        var chassis = List.of("ABC123");
+        var summary = CarBatchSummaryDTO.builder().received(1).deleted(1).failures(List.of()).build();
+
+        when(carBatchService.deleteCarBatch(chassis)).thenReturn(summary);
+
+        var response = carController.deleteCarBatch(chassis);
+
+        assertEquals(HttpStatus.OK, response.status());
+        assertEquals(summary, response.body());
+    }
+
     @Test
     void getAllCarsShouldReturnCarListWithStatus200() {
         var cars = List.of(
@@ -59,12 +148,52 @@ class CarControllerTest {
                         .build()
         );
 
-        when(carService.listAllCar()).thenReturn(cars);
+        when(carService.getCarListState()).thenReturn(CarListStateDTO.builder().count(2).maxId(2L).versionSum(0L).build());
+        when(carExportService.exportAllCar()).thenReturn(Flux.fromIterable(cars));
 
-        var response = carController.getAllCars();
+        var response = carController.getAllCars(null, HttpRequest.GET("/car"));
 
         assertEquals(HttpStatus.OK, response.status());
-        assertEquals(cars, response.body());
+        assertEquals(cars, Flux.from(response.body()).collectList().block());
+        assertEquals("W/\"2-2-0\"", response.getHeaders().get(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void getAllCarsShouldReturn304WithoutExportingWhenListETagMatches() {
+        when(carService.getCarListState()).thenReturn(CarListStateDTO.builder().count(2).maxId(2L).versionSum(0L).build());
+
+        var response = carController.getAllCars(null, HttpRequest.GET("/car").header(HttpHeaders.IF_NONE_MATCH, "W/\"2-2-0\""));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.status());
+        verifyNoInteractions(carExportService);
+    }
+
+    @Test
+    void getAllCarsWithFieldsShouldExportTheProjectionUnderItsOwnETag() {
+        var cars = List.of(CarDTO.builder().chassis("ABC123").build());
+        when(carProjectionService.getCarListState()).thenReturn(CarListStateDTO.builder().count(2).maxId(2L).versionSum(0L).build());
+        when(carProjectionService.exportAllCar("chassis")).thenReturn(Flux.fromIterable(cars));
+
+        var response = carController.getAllCars("chassis", HttpRequest.GET("/car?fields=chassis"));
+
+        assertEquals(cars, Flux.from(response.body()).collectList().block());
+        assertEquals("W/\"2-2-0-chassis\"", response.getHeaders().get(HttpHeaders.ETAG));
+        verify(carService, never()).getCarListState();
+        verifyNoInteractions(carExportService);
+    }
+
+    @Test
+    void getAllCarsWithPaginationAndFieldsShouldTagTheSelectedValues() {
+        var before = Page.of(List.of(CarDTO.builder().chassis("ABC123").color("RED").build()), Pageable.from(0, 10), 1L);
+        var after = Page.of(List.of(CarDTO.builder().chassis("ABC123").color("BLUE").build()), Pageable.from(0, 10), 1L);
+        when(carProjectionService.listAllCarWithPagination(0, 10, "chassis,color")).thenReturn(before, after);
+
+        var first = carController.getAllCarsWithPagination(0, 10, "chassis,color", HttpRequest.GET("/car/pagination"));
+        var second = carController.getAllCarsWithPagination(0, 10, "chassis,color", HttpRequest.GET("/car/pagination"));
+
+        assertEquals(before, first.body());
+        assertNotEquals(first.getHeaders().get(HttpHeaders.ETAG), second.getHeaders().get(HttpHeaders.ETAG));
+        verify(carService, never()).listAllCarWithPagination(anyInt(), anyInt());
     }
 
     @Test
@@ -80,12 +209,103 @@ class CarControllerTest {
 
         when(carService.listAllCarWithPagination(page, size)).thenReturn(pagedCars);
 
-        var response = carController.getAllCarsWithPagination(page, size);
+        var response = carController.getAllCarsWithPagination(page, size, null, HttpRequest.GET("/car/pagination"));
 
         assertEquals(HttpStatus.OK, response.status());
         assertEquals(pagedCars, response.body());
     }
 
+    @Test
+    void scrollCarsShouldReturnScrollWithStatus200() {
+        var scroll = CarScrollDTO.builder()
+                .content(List.of(CarDTO.builder().id(1L).build()))
+                .size(1)
+                .nextCursor("Y2FyOjE")
+                .build();
+
+        when(carService.scrollCar(null, 1)).thenReturn(scroll);
+
+        var response = carController.scrollCars(null, 1, HttpRequest.GET("/car/scroll"));
+
+        assertEquals(HttpStatus.OK, response.status());
+        assertEquals(scroll, response.body());
+
+        var etag = response.getHeaders().get(HttpHeaders.ETAG);
+        assertTrue(etag.startsWith("W/"));
+        var notModified = carController.scrollCars(null, 1, HttpRequest.GET("/car/scroll").header(HttpHeaders.IF_NONE_MATCH, etag));
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.status());
+    }
+
+    @Test
+    void listCarChangesShouldReturnFeedWithStatus200() {
+        var feed = CarChangeFeedDTO.builder()
+                .changes(List.of())
+                .nextToken("Y2hhbmdlOjA")
+                .build();
+
+        when(carChangeService.listChanges(null, 100)).thenReturn(feed);
+
+        var response = carController.listCarChanges(null, 100);
+
+        assertEquals(HttpStatus.OK, response.status());
+        assertEquals(feed, response.body());
+    }
+
+    @Test
+    void getCarStatsShouldReturnCountsWithStatus200() {
+        var stats = CarStatsDTO.builder()
+                .dimension(StatsDimension.COLOR)
+                .source(StatsSource.DATABASE)
+                .total(3)
+                .counts(Map.of("RED", 3L))
+                .build();
+        when(carStatsService.getStats("color", null)).thenReturn(stats);
+
+        var response = carController.getCarStats("color", null);
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(stats, response.body());
+    }
+
+    @Test
+    void streamCarChangesShouldNameEventsByType() {
+        var change = CarChangeDTO.builder().type(ChangeType.UPDATED).chassis("ABC123").build();
+
+        when(carChangeService.streamChanges()).thenReturn(Flux.just(change));
+
+        var events = Flux.from(carController.streamCarChanges()).collectList().block();
+
+        assertEquals(1, events.size());
+        assertEquals("updated", events.get(0).getName());
+        assertEquals(change, events.get(0).getData());
+    }
+
+    @Test
+    void streamCarChangesShouldUseTheChangeTokenAsEventId() {
+        var change = CarChangeDTO.builder().sequence(42L).type(ChangeType.CREATED).chassis("ABC123").build();
+
+        when(carChangeService.streamChanges()).thenReturn(Flux.just(change));
+
+        var events = Flux.from(carController.streamCarChanges()).collectList().block();
+
+        assertEquals(CursorConverter.encodeChange(42L), events.get(0).getId());
+    }
+
+    @Test
+    void searchCarByChassisShouldReturnCarsWithStatus200() {
+        var cars = List.of(CarDTO.builder()
+                .id(1L)
+                .chassis("ABC123")
+                .build());
+
+        when(carService.searchCarByChassis("BC1", 0, 10)).thenReturn(cars);
+
+        var response = carController.searchCarByChassis("BC1", 0, 10);
+
+        assertEquals(HttpStatus.OK, response.status());
+        assertEquals(cars, response.body());
+    }
+
     @Test
     void getCarByChassisShouldReturnCarWithStatus200() {
         var chassis = "ABC123";
@@ -97,10 +317,43 @@ class CarControllerTest {
 
         when(carService.getCarByChassis(chassis)).thenReturn(carDTO);
 
-        var response = carController.getCarByChassis(chassis);
+        var response = carController.getCarByChassis(chassis, HttpRequest.GET("/car/chassis/" + chassis));
 
         assertEquals(HttpStatus.OK, response.status());
         assertEquals(carDTO, response.body());
+        assertEquals("\"1-0\"", response.getHeaders().get(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void getCarByChassisShouldReturn304WhenETagMatches() {
+        var chassis = "ABC123";
+        var carDTO = CarDTO.builder().id(1L).version(3L).build();
+
+        when(carService.getCarByChassis(chassis)).thenReturn(carDTO);
+
+        var response = carController.getCarByChassis(chassis,
+                HttpRequest.GET("/car/chassis/" + chassis).header(HttpHeaders.IF_NONE_MATCH, "\"1-2\", \"1-3\""));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.status());
+        assertNull(response.body());
+    }
+
+    @Test
+    void getCarByChassisShouldReturn304WhenNotModifiedSinceDate() {
+        var chassis = "ABC123";
+        var updated = LocalDateTime.of(2024, 5, 1, 10, 0, 0, 500_000_000);
+        var carDTO = CarDTO.builder().id(1L).version(1L).dateUpdated(updated).build();
+        var since = updated.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC);
+
+        when(carService.getCarByChassis(chassis)).thenReturn(carDTO);
+
+        var notModified = carController.getCarByChassis(chassis, HttpRequest.GET("/car/chassis/" + chassis)
+                .header(HttpHeaders.IF_MODIFIED_SINCE, DateTimeFormatter.RFC_1123_DATE_TIME.format(since)));
+        var modified = carController.getCarByChassis(chassis, HttpRequest.GET("/car/chassis/" + chassis)
+                .header(HttpHeaders.IF_MODIFIED_SINCE, DateTimeFormatter.RFC_1123_DATE_TIME.format(since.minusSeconds(1))));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.status());
+        assertEquals(HttpStatus.OK, modified.status());
     }
 
     @Test
@@ -108,12 +361,34 @@ class CarControllerTest {
         var chassis = "ABC123";
         doNothing().when(carService).deleteCarByChassis(chassis);
 
-        var response = carController.deleteCarByChassis(chassis);
+        var response = carController.deleteCarByChassis(chassis, HttpRequest.DELETE("/car/chassis/" + chassis));
 
         assertEquals(HttpStatus.NO_CONTENT, response.status());
         verify(carService).deleteCarByChassis(chassis);
     }
 
+    @Test
+    void deleteCarByChassisShouldThrowPreconditionFailedWhenIfMatchIsNotACarTag() {
+        var chassis = "ABC123";
+        var request = HttpRequest.DELETE("/car/chassis/" + chassis).header(HttpHeaders.IF_MATCH, "W/\"1-1\"");
+
+        assertThrows(PreconditionFailedException.class, () -> carController.deleteCarByChassis(chassis, request));
+        verifyNoInteractions(carService);
+    }
+
+    @Test
+    void deleteCarByChassisShouldPinVersionCheckedByIfMatch() {
+        var chassis = "ABC123";
+        var request = HttpRequest.DELETE("/car/chassis/" + chassis).header(HttpHeaders.IF_MATCH, "\"1-2\"");
+
+        var response = carController.deleteCarByChassis(chassis, request);
+
+        assertEquals(HttpStatus.NO_CONTENT, response.status());
+        verify(carService).deleteCarByChassis(chassis, 2L);
+        verify(carService, never()).deleteCarByChassis(chassis);
+        verify(carService, never()).getCarByChassis(any());
+    }
+
     @Test
     void updateCarByChassisShouldReturnUpdatedCarWithStatus200() {
         var chassis = "ABC123";
@@ -125,10 +400,37 @@ class CarControllerTest {
 
         when(carService.updateCarByChassis(chassis, carDTO)).thenReturn(carDTO);
 
-        var response = carController.updateCarByChassis(chassis, carDTO);
+        var response = carController.updateCarByChassis(chassis, carDTO, HttpRequest.PATCH("/car/chassis/" + chassis, carDTO));
 
         assertEquals(HttpStatus.OK, response.status());
         assertEquals(carDTO, response.body());
+        verify(carService, never()).getCarByChassis(any());
+    }
+
+    @Test
+    void updateCarByChassisShouldPinVersionCheckedByIfMatch() {
+        var chassis = "ABC123";
+        var carDTO = CarDTO.builder().color("RED").build();
+        var request = HttpRequest.PATCH("/car/chassis/" + chassis, carDTO).header(HttpHeaders.IF_MATCH, "\"1-2\"");
+
+        when(carService.updateCarByChassis(chassis, carDTO, 2L)).thenReturn(CarDTO.builder().id(1L).version(3L).build());
+
+        var response = carController.updateCarByChassis(chassis, carDTO, request);
+
+        assertEquals("\"1-3\"", response.getHeaders().get(HttpHeaders.ETAG));
+        verify(carService, never()).getCarByChassis(any());
+        verify(carService, never()).updateCarByChassis(chassis, carDTO);
+    }
+
+    @Test
+    void updateCarByChassisShouldPropagatePreconditionFailedFromTheVersionedUpdate() {
+        var chassis = "ABC123";
+        var carDTO = CarDTO.builder().color("RED").build();
+        var request = HttpRequest.PATCH("/car/chassis/" + chassis, carDTO).header(HttpHeaders.IF_MATCH, "\"1-2\"");
+
+        when(carService.updateCarByChassis(chassis, carDTO, 2L)).thenThrow(new PreconditionFailedException("stale"));
+
+        assertThrows(PreconditionFailedException.class, () -> carController.updateCarByChassis(chassis, carDTO, request));
     }
 
     @Test
@@ -150,6 +452,20 @@ class CarControllerTest {
 
         when(carService.getCarByChassis(chassis)).thenThrow(new NotFoundException("Car not found"));
 
-        assertThrows(NotFoundException.class, () -> carController.getCarByChassis(chassis));
+        assertThrows(NotFoundException.class, () -> carController.getCarByChassis(chassis, HttpRequest.GET("/car/chassis/" + chassis)));
+    }
+
+    @Test
+    void searchCarShouldPassAllFiltersToService() {
+        var result = CarSearchResultDTO.builder().total(1).page(0).size(10).content(List.of()).build();
+
+        when(carSearchService.searchCar(argThat(criteria -> "fia".equals(criteria.getManufacturer())
+                && "red".equals(criteria.getColor()) && "1.0".equals(criteria.getEngine())
+                && criteria.getQ() == null && criteria.getSize() == 10))).thenReturn(result);
+
+        var response = carController.searchCar(null, null, "fia", "red", "1.0", 0, 10);
+
+        assertEquals(HttpStatus.OK, response.status());
+        assertEquals(result, response.body());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+package com.jumpcar.controller;
+
+import com.jumpcar.domain.exception.NotFoundException;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.service.CarReactiveService;
+import io.micronaut.http.HttpStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CarReactiveControllerTest {
+
+    @Mock
+    private CarReactiveService carReactiveService;
+
+    @InjectMocks
+    private CarReactiveController carReactiveController;
+
+    @Test
+    void newCarShouldReturnCreatedCarWithStatus201() {
+        var carDTO = CarDTO.builder().chassis("ABC123").build();
+
+        when(carReactiveService.newCar(carDTO)).thenReturn(Mono.just(carDTO));
+
+        var response = carReactiveController.newCar(carDTO).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.CREATED, response.status());
+        assertEquals(carDTO, response.body());
+    }
+
+    @Test
+    void getAllCarsShouldStreamEveryCar() {
+        var cars = List.of(CarDTO.builder().chassis("ABC123").build(), CarDTO.builder().chassis("XYZ999").build());
+
+        when(carReactiveService.listAllCar()).thenReturn(Flux.fromIterable(cars));
+
+        assertEquals(cars, carReactiveController.getAllCars().collectList().block());
+    }
+
+    @Test
+    void getCarByChassisShouldPropagateNotFound() {
+        when(carReactiveService.getCarByChassis("ABC123")).thenReturn(Mono.error(new NotFoundException("Car not found")));
+
+        var mono = carReactiveController.getCarByChassis("ABC123");
+
+        assertThrows(NotFoundException.class, mono::block);
+    }
+
+    @Test
+    void deleteCarByChassisShouldReturnStatus204() {
+        when(carReactiveService.deleteCarByChassis("ABC123")).thenReturn(Mono.empty());
+
+        var response = carReactiveController.deleteCarByChassis("ABC123").block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.NO_CONTENT, response.status());
+    }
+}
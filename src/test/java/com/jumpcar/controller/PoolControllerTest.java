@@ -0,0 +1,43 @@
+package com.jumpcar.controller;
+
+import com.jumpcar.domain.model.dto.PoolStatsDTO;
+import com.jumpcar.workflow.pool.PoolDiagnostics;
+import io.micronaut.http.HttpStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PoolControllerTest {
+
+    @Mock
+    private PoolDiagnostics poolDiagnostics;
+
+    @InjectMocks
+    private PoolController poolController;
+
+    @Test
+    void getPoolStatsShouldReturnStatsWithStatus200() {
+        var stats = List.of(PoolStatsDTO.builder()
+                .name("default")
+                .maximumPoolSize(10)
+                .active(2)
+                .idle(8)
+                .total(10)
+                .build());
+
+        when(poolDiagnostics.stats()).thenReturn(stats);
+
+        var response = poolController.getPoolStats();
+
+        assertEquals(HttpStatus.OK, response.status());
+        assertEquals(stats, response.body());
+    }
+}
@@ -0,0 +1,25 @@
+package com.jumpcar.domain.exception;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import org.junit.jupiter.api.Test;
+
+import static com.jumpcar.AppConstants.EXCEPTION_METRIC;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessExceptionHandlerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final BusinessExceptionHandler handler = new BusinessExceptionHandler(this.registry);
+
+    @Test
+    void handleShouldReturn400AndCountTheException() {
+        var response = this.handler.handle(HttpRequest.GET("/car"), new BusinessException("Chassis cannot be null or blank"));
+        this.handler.handle(HttpRequest.GET("/car"), new BusinessException("Chassis cannot be null or blank"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatus());
+        assertEquals("Chassis cannot be null or blank", response.body().getMessage());
+        assertEquals(2.0, this.registry.get(EXCEPTION_METRIC).tag("type", "business").counter().count());
+    }
+}
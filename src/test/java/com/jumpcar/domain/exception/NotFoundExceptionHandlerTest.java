@@ -0,0 +1,25 @@
+package com.jumpcar.domain.exception;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import org.junit.jupiter.api.Test;
+
+import static com.jumpcar.AppConstants.EXCEPTION_METRIC;
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotFoundExceptionHandlerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final NotFoundExceptionHandler handler = new NotFoundExceptionHandler(this.registry);
+
+    @Test
+    void handleShouldReturn404AndCountTheException() {
+        var response = this.handler.handle(HttpRequest.GET("/car/chassis/ABC123"), new NotFoundException("Car not found for chassis: ABC123"));
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatus());
+        assertEquals("Car not found for chassis: ABC123", response.body().getMessage());
+        assertEquals(1.0, this.registry.get(EXCEPTION_METRIC).tag("type", "not_found").counter().count());
+        assertNull(this.registry.find(EXCEPTION_METRIC).tag("type", "business").counter());
+    }
+}
@@ -0,0 +1,186 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.exception.BusinessException;
+import com.jumpcar.domain.model.dto.CarBatchResultDTO;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.entity.Car;
+import com.jumpcar.domain.model.enums.BatchItemStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CarBatchServiceImplTest {
+
+    @Mock
+    private CarBatchWriter carBatchWriter;
+
+    private CarBatchServiceImpl carBatchService;
+
+    @BeforeEach
+    void setUp() {
+        this.carBatchService = new CarBatchServiceImpl(this.carBatchWriter, 2);
+    }
+
+    @Test
+    void newCarBatchShouldInsertInChunks() {
+        when(this.carBatchWriter.findExistingChassis(anyCollection())).thenReturn(Set.of());
+        when(this.carBatchWriter.insertAll(any())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+        var result = this.carBatchService.newCarBatch(List.of(car("A1"), car("A2"), car("A3")));
+
+        assertEquals(3, result.size());
+        assertTrue(result.stream().allMatch(item -> item.getStatus() == BatchItemStatus.CREATED));
+        assertEquals(2L, result.get(2).getIndex());
+        verify(this.carBatchWriter, times(2)).insertAll(any());
+    }
+
+    @Test
+    void newCarBatchShouldReportInvalidDuplicatedAndExistingCars() {
+        var service = new CarBatchServiceImpl(this.carBatchWriter, 10);
+        when(this.carBatchWriter.findExistingChassis(anyCollection())).thenReturn(Set.of("B2"));
+        when(this.carBatchWriter.insertAll(any())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+        var result = service.newCarBatch(List.of(car("a1"), car(" "), car("A1"), car("B2")));
+
+        assertEquals(BatchItemStatus.CREATED, result.get(0).getStatus());
+        assertEquals(BatchItemStatus.FAILED, result.get(1).getStatus());
+        assertEquals(BatchItemStatus.FAILED, result.get(2).getStatus());
+        assertEquals(BatchItemStatus.FAILED, result.get(3).getStatus());
+        verify(this.carBatchWriter).insertAll(argThat(cars -> cars.size() == 1));
+    }
+
+    @Test
+    void newCarBatchShouldIsolateFailingRowWhenChunkFails() {
+        when(this.carBatchWriter.findExistingChassis(anyCollection())).thenReturn(Set.of());
+        when(this.carBatchWriter.insertAll(any())).thenAnswer(invocation -> {
+            List<Car> cars = invocation.getArgument(0);
+            if (cars.stream().anyMatch(car -> "BAD".equals(car.getChassis()))) {
+                throw new RuntimeException("Database error");
+            }
+            return withIds(cars);
+        });
+
+        var result = this.carBatchService.newCarBatch(List.of(car("OK1"), car("BAD")));
+
+        assertEquals(BatchItemStatus.CREATED, result.get(0).getStatus());
+        assertEquals(BatchItemStatus.FAILED, result.get(1).getStatus());
+        assertEquals("Database error", result.get(1).getMessage());
+    }
+
+    @Test
+    void newCarBatchShouldThrowBusinessExceptionWhenBatchIsNull() {
+        assertThrows(BusinessException.class, () -> this.carBatchService.newCarBatch(null));
+    }
+
+    @Test
+    void newCarBatchStreamShouldKeepIndexesAcrossChunks() {
+        when(this.carBatchWriter.findExistingChassis(anyCollection())).thenReturn(Set.of());
+        when(this.carBatchWriter.insertAll(any())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+        var result = Flux.from(this.carBatchService.newCarBatchStream(Flux.just(car("A1"), car("A2"), car("A3"))))
+                .collectList()
+                .block();
+
+        assertNotNull(result);
+        assertEquals(List.of(0L, 1L, 2L), result.stream().map(item -> item.getIndex()).toList());
+    }
+
+    @Test
+    void upsertCarBatchShouldCountInsertedAndUpdatedPerChunk() {
+        when(this.carBatchWriter.upsertAll(any())).thenAnswer(invocation -> {
+            List<Car> cars = invocation.getArgument(0);
+            return cars.stream().map(Car::getChassis).filter(chassis -> chassis.startsWith("OLD")).collect(Collectors.toSet());
+        });
+
+        var result = this.carBatchService.upsertCarBatch(List.of(car("old1"), car("NEW1"), car("NEW2"), car(" "), car("new1")));
+
+        assertEquals(5, result.getReceived());
+        assertEquals(2, result.getInserted());
+        assertEquals(1, result.getUpdated());
+        assertEquals(2, result.getFailed());
+        assertEquals(List.of(3L, 4L), result.getFailures().stream().map(CarBatchResultDTO::getIndex).toList());
+        verify(this.carBatchWriter, times(2)).upsertAll(any());
+        verify(this.carBatchWriter).upsertAll(argThat(cars -> "OLD1".equals(cars.get(0).getChassis())));
+    }
+
+    @Test
+    void upsertCarBatchShouldIsolateFailingRowWhenChunkFails() {
+        when(this.carBatchWriter.upsertAll(any())).thenAnswer(invocation -> {
+            List<Car> cars = invocation.getArgument(0);
+            if (cars.stream().anyMatch(car -> "BAD".equals(car.getChassis()))) {
+                throw new RuntimeException("Database error");
+            }
+            return Set.of();
+        });
+
+        var result = this.carBatchService.upsertCarBatch(List.of(car("OK1"), car("BAD")));
+
+        assertEquals(1, result.getInserted());
+        assertEquals(1, result.getFailed());
+        assertEquals("BAD", result.getFailures().get(0).getChassis());
+        assertEquals("Database error", result.getFailures().get(0).getMessage());
+    }
+
+    @Test
+    void deleteCarBatchShouldDeleteNormalizedChassisInChunks() {
+        when(this.carBatchWriter.deleteAll(any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size() - 1);
+
+        var result = this.carBatchService.deleteCarBatch(List.of("a1", "A1", "A2", "A3", ""));
+
+        assertEquals(5, result.getReceived());
+        assertEquals(1, result.getDeleted());
+        assertEquals(1, result.getFailed());
+        verify(this.carBatchWriter).deleteAll(List.of("A1", "A2"));
+        verify(this.carBatchWriter).deleteAll(List.of("A3"));
+    }
+
+    @Test
+    void deleteCarBatchShouldReportEveryChassisOfAFailedChunk() {
+        when(this.carBatchWriter.deleteAll(List.of("A1", "A2"))).thenReturn(2);
+        when(this.carBatchWriter.deleteAll(List.of("A3", "A4"))).thenThrow(new RuntimeException("Lock timeout"));
+        when(this.carBatchWriter.deleteAll(List.of("A5"))).thenReturn(1);
+
+        var result = this.carBatchService.deleteCarBatch(List.of("A1", "A2", "A3", "A4", "A5"));
+
+        assertEquals(3, result.getDeleted());
+        assertEquals(2, result.getFailed());
+        assertEquals(List.of(2L, 3L), result.getFailures().stream().map(CarBatchResultDTO::getIndex).toList());
+        assertEquals(List.of("A3", "A4"), result.getFailures().stream().map(CarBatchResultDTO::getChassis).toList());
+        assertEquals("Lock timeout", result.getFailures().get(0).getMessage());
+    }
+
+    @Test
+    void upsertAndDeleteCarBatchShouldThrowBusinessExceptionWhenNull() {
+        assertThrows(BusinessException.class, () -> this.carBatchService.upsertCarBatch(null));
+        assertThrows(BusinessException.class, () -> this.carBatchService.deleteCarBatch(null));
+    }
+
+    private static CarDTO car(String chassis) {
+        return CarDTO.builder()
+                .chassis(chassis)
+                .model("TOYOTA")
+                .manufacturer("Corolla")
+                .build();
+    }
+
+    private static List<Car> withIds(List<Car> cars) {
+        long id = 1;
+        for (var car : cars) {
+            car.setId(id++);
+        }
+        return cars;
+    }
+}
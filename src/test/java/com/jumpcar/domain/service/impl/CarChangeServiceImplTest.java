@@ -0,0 +1,123 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.exception.BusinessException;
+import com.jumpcar.domain.model.dto.CarChangeDTO;
+import com.jumpcar.domain.model.entity.Car;
+import com.jumpcar.domain.model.entity.CarChange;
+import com.jumpcar.domain.model.enums.ChangeType;
+import com.jumpcar.domain.repository.CarChangeRepository;
+import com.jumpcar.domain.repository.CarRepository;
+import com.jumpcar.workflow.converter.CursorConverter;
+import com.jumpcar.workflow.push.CarChangeBroadcaster;
+import io.micronaut.data.model.Pageable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CarChangeServiceImplTest {
+
+    @Mock
+    private CarChangeRepository carChangeRepository;
+
+    @Mock
+    private CarRepository carRepository;
+
+    @Mock
+    private CarChangeBroadcaster carChangeBroadcaster;
+
+    private CarChangeServiceImpl carChangeService;
+
+    @BeforeEach
+    void setUp() {
+        this.carChangeService = new CarChangeServiceImpl(this.carChangeRepository, this.carRepository, this.carChangeBroadcaster);
+    }
+
+    @Test
+    void listChangesWithoutTokenShouldReturnHeadToken() {
+        when(this.carChangeRepository.findMaxId()).thenReturn(42L);
+
+        var feed = this.carChangeService.listChanges(null, 100);
+
+        assertTrue(feed.getChanges().isEmpty());
+        assertFalse(feed.isHasMore());
+        assertEquals(42L, CursorConverter.decodeChange(feed.getNextToken()));
+        verify(this.carChangeRepository, never()).findByIdGreaterThan(anyLong(), any());
+    }
+
+    @Test
+    void listChangesShouldAttachCurrentCarsAndTombstones() {
+        var since = CursorConverter.encodeChange(10L);
+        var updated = CarChange.builder().id(11L).type(ChangeType.UPDATED).chassis("ABC123").dateChanged(LocalDateTime.now()).build();
+        var deleted = CarChange.builder().id(12L).type(ChangeType.DELETED).chassis("XYZ789").dateChanged(LocalDateTime.now()).build();
+        var car = Car.builder().id(1L).chassis("ABC123").model("COROLLA").build();
+
+        when(this.carChangeRepository.findByIdGreaterThan(eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(updated, deleted));
+        when(this.carRepository.findByChassisIn(List.of("ABC123", "XYZ789"))).thenReturn(List.of(car));
+
+        var feed = this.carChangeService.listChanges(since, 100);
+
+        assertEquals(2, feed.getChanges().size());
+        assertEquals("COROLLA", feed.getChanges().get(0).getCar().getModel());
+        assertEquals(ChangeType.DELETED, feed.getChanges().get(1).getType());
+        assertNull(feed.getChanges().get(1).getCar());
+        assertEquals(12L, CursorConverter.decodeChange(feed.getNextToken()));
+        assertFalse(feed.isHasMore());
+    }
+
+    @Test
+    void listChangesShouldReportMoreWhenPageIsFull() {
+        var first = CarChange.builder().id(1L).type(ChangeType.CREATED).chassis("ABC123").build();
+        var second = CarChange.builder().id(2L).type(ChangeType.CREATED).chassis("XYZ789").build();
+
+        when(this.carChangeRepository.findByIdGreaterThan(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+        when(this.carRepository.findByChassisIn(List.of("ABC123"))).thenReturn(List.of());
+
+        var feed = this.carChangeService.listChanges(CursorConverter.encodeChange(0L), 1);
+
+        assertEquals(1, feed.getChanges().size());
+        assertTrue(feed.isHasMore());
+        assertEquals(1L, CursorConverter.decodeChange(feed.getNextToken()));
+    }
+
+    @Test
+    void listChangesShouldKeepTokenWhenNothingIsNew() {
+        var since = CursorConverter.encodeChange(5L);
+        when(this.carChangeRepository.findByIdGreaterThan(eq(5L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        var feed = this.carChangeService.listChanges(since, 100);
+
+        assertTrue(feed.getChanges().isEmpty());
+        assertEquals(since, feed.getNextToken());
+        verifyNoInteractions(this.carRepository);
+    }
+
+    @Test
+    void listChangesShouldRejectInvalidInput() {
+        assertThrows(BusinessException.class, () -> this.carChangeService.listChanges(null, 0));
+        assertThrows(BusinessException.class, () -> this.carChangeService.listChanges(null, CarChangeServiceImpl.MAX_CHANGES_SIZE + 1));
+        assertThrows(BusinessException.class, () -> this.carChangeService.listChanges(CursorConverter.encode(1L), 10));
+        verifyNoInteractions(this.carRepository);
+    }
+
+    @Test
+    void streamChangesShouldDelegateToBroadcaster() {
+        var stream = Flux.<CarChangeDTO>empty();
+        when(this.carChangeBroadcaster.stream()).thenReturn(stream);
+
+        assertSame(stream, this.carChangeService.streamChanges());
+    }
+}
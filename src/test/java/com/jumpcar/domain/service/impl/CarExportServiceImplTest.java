@@ -0,0 +1,90 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.model.entity.Car;
+import com.jumpcar.workflow.routing.CarReadRouter;
+import io.micronaut.http.server.exceptions.InternalServerException;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CarExportServiceImplTest {
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private SessionFactory replicaSessionFactory;
+
+    @Mock
+    private CarReadRouter carReadRouter;
+
+    @Mock
+    private StatelessSession session;
+
+    @Mock
+    private Query<Car> query;
+
+    private CarExportServiceImpl carExportService;
+
+    @BeforeEach
+    void setUp() {
+        this.carExportService = new CarExportServiceImpl(this.sessionFactory, this.replicaSessionFactory, this.carReadRouter, 100);
+        lenient().when(this.sessionFactory.openStatelessSession()).thenReturn(this.session);
+    }
+
+    @Test
+    void exportAllCarShouldStreamCarsAndCloseSession() {
+        when(this.session.createQuery(CarExportServiceImpl.EXPORT_QUERY, Car.class)).thenReturn(this.query);
+        when(this.query.setFetchSize(100)).thenReturn(this.query);
+        when(this.query.setReadOnly(true)).thenReturn(this.query);
+        when(this.query.stream()).thenReturn(Stream.of(
+                Car.builder().id(1L).chassis("ABC123").build(),
+                Car.builder().id(2L).chassis("XYZ789").build()));
+
+        var result = Flux.from(this.carExportService.exportAllCar()).collectList().block();
+
+        assertNotNull(result);
+        assertEquals(2, result.size());
+        assertEquals("XYZ789", result.get(1).getChassis());
+        verify(this.session).close();
+    }
+
+    @Test
+    void exportAllCarShouldStreamFromReplicaWhenListReadsAreRouted() {
+        when(this.carReadRouter.listFromReplica()).thenReturn(true);
+        when(this.replicaSessionFactory.openStatelessSession()).thenReturn(this.session);
+        when(this.session.createQuery(CarExportServiceImpl.EXPORT_QUERY, Car.class)).thenReturn(this.query);
+        when(this.query.setFetchSize(100)).thenReturn(this.query);
+        when(this.query.setReadOnly(true)).thenReturn(this.query);
+        when(this.query.stream()).thenReturn(Stream.of(Car.builder().id(1L).chassis("ABC123").build()));
+
+        var result = Flux.from(this.carExportService.exportAllCar()).collectList().block();
+
+        assertEquals(1, result.size());
+        verifyNoInteractions(this.sessionFactory);
+        verify(this.session).close();
+    }
+
+    @Test
+    void exportAllCarShouldThrowInternalServerExceptionAndCloseSession() {
+        when(this.session.createQuery(CarExportServiceImpl.EXPORT_QUERY, Car.class))
+                .thenThrow(new RuntimeException("Database error"));
+
+        var export = Flux.from(this.carExportService.exportAllCar());
+
+        assertThrows(InternalServerException.class, export::blockLast);
+        verify(this.session).close();
+    }
+}
@@ -0,0 +1,80 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.model.dto.CarBatchResultDTO;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.enums.BatchItemStatus;
+import com.jumpcar.workflow.store.HotCarStore;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarHotStoreBatchServiceImplTest {
+
+    private final HotCarStore store = new HotCarStore(100, Duration.ofMillis(10));
+
+    private final CarHotStoreBatchServiceImpl carBatchService = new CarHotStoreBatchServiceImpl(this.store);
+
+    @Test
+    void newCarBatchShouldCreateInStoreAndReportFailures() {
+        this.store.create("XYZ789", car("XYZ789", "UNO"));
+
+        var results = this.carBatchService.newCarBatch(Arrays.asList(
+                car(" abc123 ", "COROLLA"), car("ABC123", "COROLLA"), car("xyz789", "UNO"), null));
+
+        assertEquals(BatchItemStatus.CREATED, results.get(0).getStatus());
+        assertEquals("ABC123", results.get(0).getChassis());
+        assertEquals(BatchItemStatus.FAILED, results.get(1).getStatus());
+        assertEquals(BatchItemStatus.FAILED, results.get(2).getStatus());
+        assertEquals(BatchItemStatus.FAILED, results.get(3).getStatus());
+        assertEquals("COROLLA", this.store.get("ABC123").getModel());
+    }
+
+    @Test
+    void newCarBatchStreamShouldNumberResultsAcrossTheStream() {
+        var results = Flux.from(this.carBatchService.newCarBatchStream(Flux.just(car("ABC123", "COROLLA"), car("XYZ789", "UNO"))))
+                .collectList()
+                .block();
+
+        assertEquals(List.of(0L, 1L), results.stream().map(CarBatchResultDTO::getIndex).toList());
+        assertEquals(2, this.store.size());
+    }
+
+    @Test
+    void upsertCarBatchShouldUpdateExistingAndInsertNewCars() {
+        this.store.create("ABC123", car("ABC123", "COROLLA"));
+
+        var summary = this.carBatchService.upsertCarBatch(List.of(car("abc123", "CIVIC"), car("XYZ789", "UNO"), car("XYZ789", "UNO")));
+
+        assertEquals(1, summary.getInserted());
+        assertEquals(1, summary.getUpdated());
+        assertEquals(1, summary.getFailed());
+        assertEquals("CIVIC", this.store.get("ABC123").getModel());
+        assertEquals(1L, this.store.get("ABC123").getVersion());
+    }
+
+    @Test
+    void deleteCarBatchShouldDeleteFromStore() {
+        this.store.create("ABC123", car("ABC123", "COROLLA"));
+
+        var summary = this.carBatchService.deleteCarBatch(Arrays.asList("abc123", "ABC123", "XYZ789", " "));
+
+        assertEquals(1, summary.getDeleted());
+        assertEquals(1, summary.getFailed());
+        assertNull(this.store.get("ABC123"));
+    }
+
+    private static CarDTO car(String chassis, String model) {
+        return CarDTO.builder()
+                .chassis(chassis)
+                .model(model)
+                .manufacturer("TOYOTA")
+                .color("BLACK")
+                .engine("2.0")
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.exception.BusinessException;
+import com.jumpcar.domain.exception.NotFoundException;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.workflow.converter.CursorConverter;
+import com.jumpcar.workflow.store.HotCarStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CarHotStoreServiceImplTest {
+
+    @Mock
+    private HotCarStore hotCarStore;
+
+    @InjectMocks
+    private CarHotStoreServiceImpl carService;
+
+    @Test
+    void newCarShouldCreateWithNormalizedChassis() {
+        var carDTO = CarDTO.builder().chassis(" abc123 ").build();
+        var created = CarDTO.builder().chassis("ABC123").build();
+        when(this.hotCarStore.create("ABC123", carDTO)).thenReturn(created);
+
+        assertSame(created, this.carService.newCar(carDTO));
+    }
+
+    @Test
+    void getCarByChassisShouldThrowWhenMissing() {
+        when(this.hotCarStore.get("ABC123")).thenReturn(null);
+
+        assertThrows(NotFoundException.class, () -> this.carService.getCarByChassis("abc123"));
+        assertThrows(BusinessException.class, () -> this.carService.getCarByChassis(" "));
+    }
+
+    @Test
+    void updateCarByChassisShouldNormalizeBothChassis() {
+        var patch = CarDTO.builder().chassis("def456").build();
+        var updated = CarDTO.builder().chassis("DEF456").build();
+        when(this.hotCarStore.update("ABC123", "DEF456", patch)).thenReturn(updated);
+
+        assertSame(updated, this.carService.updateCarByChassis("abc123", patch));
+    }
+
+    @Test
+    void scrollCarShouldReturnNextCursorWhenMoreCarsExist() {
+        var cars = List.of(CarDTO.builder().id(1L).build(), CarDTO.builder().id(2L).build());
+        when(this.hotCarStore.after(0L, 2)).thenReturn(cars);
+
+        var scroll = this.carService.scrollCar(null, 1);
+
+        assertEquals(1, scroll.getSize());
+        assertEquals(CursorConverter.encode(1L), scroll.getNextCursor());
+        assertThrows(BusinessException.class, () -> this.carService.scrollCar(null, 0));
+    }
+
+    @Test
+    void listAllCarWithPaginationShouldSliceStore() {
+        when(this.hotCarStore.slice(20L, 10)).thenReturn(List.of());
+        when(this.hotCarStore.size()).thenReturn(25);
+
+        var page = this.carService.listAllCarWithPagination(2, 10);
+
+        assertEquals(25, page.getTotalSize());
+        verify(this.hotCarStore).slice(20L, 10);
+    }
+}
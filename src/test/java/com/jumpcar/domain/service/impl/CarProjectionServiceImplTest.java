@@ -0,0 +1,117 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.exception.BusinessException;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.dto.CarListStateDTO;
+import com.jumpcar.domain.repository.CarReplicaRepository;
+import com.jumpcar.workflow.projection.CarProjection;
+import com.jumpcar.workflow.routing.CarReadRouter;
+import jakarta.persistence.Tuple;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CarProjectionServiceImplTest {
+
+    private static final String QUERY = "select c.model, c.chassis from Car c order by c.id";
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private SessionFactory replicaSessionFactory;
+
+    @Mock
+    private CarReadRouter carReadRouter;
+
+    @Mock
+    private CarReplicaRepository carReplicaRepository;
+
+    @Mock
+    private StatelessSession session;
+
+    @Mock
+    private Query<Tuple> query;
+
+    @Mock
+    private Query<Long> countQuery;
+
+    private CarProjectionServiceImpl carProjectionService;
+
+    @BeforeEach
+    void setUp() {
+        this.carProjectionService = new CarProjectionServiceImpl(this.sessionFactory, this.replicaSessionFactory, this.carReadRouter, 100);
+    }
+
+    @Test
+    void exportAllCarShouldSelectOnlyTheRequestedColumns() {
+        var row = tuple("UNO", "ABC123");
+        when(this.sessionFactory.openStatelessSession()).thenReturn(this.session);
+        when(this.session.createQuery(QUERY, Tuple.class)).thenReturn(this.query);
+        when(this.query.setFetchSize(100)).thenReturn(this.query);
+        when(this.query.setReadOnly(true)).thenReturn(this.query);
+        when(this.query.stream()).thenReturn(Stream.of(row));
+
+        var result = Flux.from(this.carProjectionService.exportAllCar("chassis, model")).collectList().block();
+
+        assertEquals(List.of(CarDTO.builder().model("UNO").chassis("ABC123").build()), result);
+        verify(this.session).close();
+    }
+
+    @Test
+    void listAllCarWithPaginationShouldPageTheProjection() {
+        var row = tuple("UNO", "ABC123");
+        when(this.carReadRouter.listFromReplica()).thenReturn(true);
+        when(this.replicaSessionFactory.openStatelessSession()).thenReturn(this.session);
+        when(this.session.createQuery(QUERY, Tuple.class)).thenReturn(this.query);
+        when(this.query.setFirstResult(20)).thenReturn(this.query);
+        when(this.query.setMaxResults(10)).thenReturn(this.query);
+        when(this.query.setReadOnly(true)).thenReturn(this.query);
+        when(this.query.list()).thenReturn(List.of(row));
+        when(this.session.createQuery(CarProjection.COUNT_QUERY, Long.class)).thenReturn(this.countQuery);
+        when(this.countQuery.getSingleResult()).thenReturn(21L);
+
+        var page = this.carProjectionService.listAllCarWithPagination(2, 10, "model,chassis");
+
+        assertEquals(21, page.getTotalSize());
+        assertEquals("ABC123", page.getContent().get(0).getChassis());
+        assertNull(page.getContent().get(0).getId());
+        verify(this.session).close();
+    }
+
+    @Test
+    void getCarListStateShouldReadTheRoutedRepository() {
+        var state = CarListStateDTO.builder().count(2).maxId(2L).versionSum(0L).build();
+        when(this.carReadRouter.forList()).thenReturn(this.carReplicaRepository);
+        when(this.carReplicaRepository.findListState()).thenReturn(state);
+
+        assertEquals(state, this.carProjectionService.getCarListState());
+    }
+
+    @Test
+    void unknownFieldShouldFailBeforeOpeningASession() {
+        assertThrows(BusinessException.class, () -> this.carProjectionService.exportAllCar("chassis,owner"));
+        assertThrows(BusinessException.class, () -> this.carProjectionService.listAllCarWithPagination(0, 10, " "));
+        verifyNoInteractions(this.sessionFactory, this.replicaSessionFactory);
+    }
+
+    private static Tuple tuple(String model, String chassis) {
+        var tuple = mock(Tuple.class);
+        when(tuple.get(0)).thenReturn(model);
+        when(tuple.get(1)).thenReturn(chassis);
+        return tuple;
+    }
+}
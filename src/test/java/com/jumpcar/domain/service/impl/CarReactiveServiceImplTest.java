@@ -0,0 +1,135 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.exception.BusinessException;
+import com.jumpcar.domain.exception.NotFoundException;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.entity.Car;
+import com.jumpcar.domain.repository.CarReactiveRepository;
+import com.jumpcar.domain.service.CarService;
+import com.jumpcar.workflow.cache.CarCache;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import io.micronaut.http.server.exceptions.InternalServerException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CarReactiveServiceImplTest {
+
+    @Mock
+    private CarReactiveRepository carReactiveRepository;
+
+    @Mock
+    private CarService carService;
+
+    @Mock
+    private CarCache carCache;
+
+    @InjectMocks
+    private CarReactiveServiceImpl carReactiveService;
+
+    @Test
+    void getCarByChassisShouldReadNormalizedChassisAndFillCache() {
+        var car = Car.builder().id(1L).chassis("ABC123").model("TOYOTA").build();
+
+        when(this.carReactiveRepository.findByChassis("ABC123")).thenReturn(Mono.just(car));
+
+        var result = this.carReactiveService.getCarByChassis(" abc123 ").block();
+
+        assertNotNull(result);
+        assertEquals("ABC123", result.getChassis());
+        verify(this.carCache).put("ABC123", result, 0L);
+    }
+
+    @Test
+    void getCarByChassisShouldReturnCachedCarWithoutQuerying() {
+        var cached = CarDTO.builder().id(1L).chassis("ABC123").build();
+
+        when(this.carCache.get("ABC123")).thenReturn(cached);
+
+        assertSame(cached, this.carReactiveService.getCarByChassis("ABC123").block());
+        verifyNoInteractions(this.carReactiveRepository);
+    }
+
+    @Test
+    void getCarByChassisShouldErrorWithNotFoundWhenCarDoesNotExist() {
+        when(this.carReactiveRepository.findByChassis("ABC123")).thenReturn(Mono.empty());
+
+        var mono = this.carReactiveService.getCarByChassis("ABC123");
+
+        assertThrows(NotFoundException.class, mono::block);
+        verify(this.carCache, never()).put(any(), any(), anyLong());
+    }
+
+    @Test
+    void getCarByChassisShouldErrorWithBusinessExceptionWhenChassisIsBlank() {
+        var mono = this.carReactiveService.getCarByChassis(" ");
+
+        assertThrows(BusinessException.class, mono::block);
+        verifyNoInteractions(this.carReactiveRepository);
+    }
+
+    @Test
+    void listAllCarShouldMapEveryRow() {
+        var cars = List.of(
+                Car.builder().id(1L).chassis("ABC123").build(),
+                Car.builder().id(2L).chassis("XYZ999").build());
+
+        when(this.carReactiveRepository.findAll()).thenReturn(Flux.fromIterable(cars));
+
+        var result = this.carReactiveService.listAllCar().collectList().block();
+
+        assertNotNull(result);
+        assertEquals(2, result.size());
+        assertEquals("XYZ999", result.get(1).getChassis());
+    }
+
+    @Test
+    void listAllCarShouldMapErrorToInternalServerException() {
+        when(this.carReactiveRepository.findAll()).thenReturn(Flux.error(new RuntimeException("Database error")));
+
+        var flux = this.carReactiveService.listAllCar();
+
+        assertThrows(InternalServerException.class, flux::blockLast);
+    }
+
+    @Test
+    void listAllCarWithPaginationShouldSortById() {
+        var pageable = Pageable.from(0, 10, Sort.of(Sort.Order.asc("id")));
+        var car = Car.builder().id(1L).chassis("ABC123").build();
+
+        when(this.carReactiveRepository.findAll(pageable)).thenReturn(Mono.just(Page.of(List.of(car), pageable, 1L)));
+
+        var result = this.carReactiveService.listAllCarWithPagination(0, 10).block();
+
+        assertNotNull(result);
+        assertEquals(1, result.getTotalSize());
+        assertEquals("ABC123", result.getContent().get(0).getChassis());
+    }
+
+    @Test
+    void writesShouldDelegateToBlockingService() {
+        var carDTO = CarDTO.builder().chassis("ABC123").build();
+
+        when(this.carService.newCar(carDTO)).thenReturn(carDTO);
+        when(this.carService.updateCarByChassis("ABC123", carDTO)).thenReturn(carDTO);
+
+        assertSame(carDTO, this.carReactiveService.newCar(carDTO).block());
+        assertSame(carDTO, this.carReactiveService.updateCarByChassis("ABC123", carDTO).block());
+        this.carReactiveService.deleteCarByChassis("ABC123").block();
+
+        verify(this.carService).deleteCarByChassis("ABC123");
+    }
+}
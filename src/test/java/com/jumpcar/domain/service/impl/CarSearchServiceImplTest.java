@@ -0,0 +1,47 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.exception.BusinessException;
+import com.jumpcar.domain.model.dto.CarSearchCriteriaDTO;
+import com.jumpcar.domain.model.dto.CarSearchResultDTO;
+import com.jumpcar.workflow.search.CarSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CarSearchServiceImplTest {
+
+    @Mock
+    private CarSearchIndex carSearchIndex;
+
+    @InjectMocks
+    private CarSearchServiceImpl carSearchService;
+
+    @Test
+    void searchCarShouldDelegateToIndex() {
+        var criteria = CarSearchCriteriaDTO.builder().manufacturer("fiat").page(0).size(10).build();
+        var result = CarSearchResultDTO.builder().total(0).build();
+
+        when(this.carSearchIndex.search(criteria)).thenReturn(result);
+
+        assertSame(result, this.carSearchService.searchCar(criteria));
+    }
+
+    @Test
+    void searchCarShouldRejectInvalidPaging() {
+        var negativePage = CarSearchCriteriaDTO.builder().page(-1).size(10).build();
+        var zeroSize = CarSearchCriteriaDTO.builder().page(0).size(0).build();
+        var hugeSize = CarSearchCriteriaDTO.builder().page(0).size(CarSearchServiceImpl.MAX_SEARCH_SIZE + 1).build();
+
+        assertThrows(BusinessException.class, () -> this.carSearchService.searchCar(null));
+        assertThrows(BusinessException.class, () -> this.carSearchService.searchCar(negativePage));
+        assertThrows(BusinessException.class, () -> this.carSearchService.searchCar(zeroSize));
+        assertThrows(BusinessException.class, () -> this.carSearchService.searchCar(hugeSize));
+        verifyNoInteractions(this.carSearchIndex);
+    }
+}
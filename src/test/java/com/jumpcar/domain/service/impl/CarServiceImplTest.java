@@ -1,20 +1,39 @@
 package com.jumpcar.domain.service.impl;
 
+import com.jumpcar.domain.event.CarChangedEvent;
 import com.jumpcar.domain.exception.BusinessException;
+import com.jumpcar.domain.exception.ConcurrencyLimitException;
+import com.jumpcar.domain.exception.ConflictException;
 import com.jumpcar.domain.exception.NotFoundException;
+import com.jumpcar.domain.exception.PreconditionFailedException;
 import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.dto.CarListStateDTO;
 import com.jumpcar.domain.model.entity.Car;
+import com.jumpcar.domain.model.enums.ChangeType;
+import com.jumpcar.domain.repository.CarReplicaRepository;
 import com.jumpcar.domain.repository.CarRepository;
+import com.jumpcar.workflow.cache.CarCache;
+import com.jumpcar.workflow.concurrency.ConcurrencyLimiter;
+import com.jumpcar.workflow.converter.CursorConverter;
+import com.jumpcar.workflow.routing.CarReadRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Sort;
 import io.micronaut.http.server.exceptions.InternalServerException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,19 +47,42 @@ class CarServiceImplTest {
     @Mock
     private CarRepository carRepository;
 
+    @Mock
+    private CarCache carCache;
+
+    @Mock
+    private CarReadRouter carReadRouter;
+
+    @Spy
+    private ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter(1, Duration.ofMillis(10));
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private ApplicationEventPublisher<CarChangedEvent> carChangedEventPublisher;
+
     @InjectMocks
     private CarServiceImpl carService;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(this.carReadRouter.forChassis(anyString())).thenReturn(this.carRepository);
+        lenient().when(this.carReadRouter.forList()).thenReturn(this.carRepository);
+    }
+
     @Test
     void newCarShouldSaveCarSuccessfully() {
         var carDTO = CarDTO.builder()
                 .id(1L)
+                .chassis("ABC123")
                 .model("TOYOTA")
                 .manufacturer("Corolla")
                 .build();
 
         var car = Car.builder()
                 .id(1L)
+                .chassis("ABC123")
                 .model("TOYOTA")
                 .manufacturer("Corolla")
                 .build();
@@ -52,6 +94,8 @@ class CarServiceImplTest {
         assertNotNull(result);
         assertEquals(carDTO.getChassis(), result.getChassis());
         verify(this.carRepository).save(any(Car.class));
+        verify(this.carChangedEventPublisher).publishEvent(argThat(event ->
+                event.getType() == ChangeType.CREATED && "ABC123".equals(event.getChassis())));
     }
 
     @Test
@@ -59,10 +103,25 @@ class CarServiceImplTest {
         assertThrows(BusinessException.class, () -> this.carService.newCar(null));
     }
 
+    @Test
+    void newCarShouldThrowBusinessExceptionWhenChassisAlreadyExists() {
+        var carDTO = CarDTO.builder()
+                .chassis("abc123")
+                .model("TOYOTA")
+                .manufacturer("Corolla")
+                .build();
+
+        when(this.carRepository.existsByChassis("ABC123")).thenReturn(true);
+
+        assertThrows(BusinessException.class, () -> this.carService.newCar(carDTO));
+        verify(this.carRepository, never()).save(any(Car.class));
+    }
+
     @Test
     void newCarShouldThrowException() {
         var carDTO = CarDTO.builder()
                 .id(1L)
+                .chassis("ABC123")
                 .model("TOYOTA")
                 .manufacturer("Corolla")
                 .build();
@@ -71,6 +130,23 @@ class CarServiceImplTest {
         assertThrows(InternalServerException.class, () -> this.carService.newCar(carDTO));
     }
 
+    @Test
+    void newCarShouldThrowBusinessExceptionWhenConcurrentInsertWinsTheChassis() {
+        var carDTO = CarDTO.builder()
+                .chassis("ABC123")
+                .model("TOYOTA")
+                .manufacturer("Corolla")
+                .build();
+
+        doThrow(new ConstraintViolationException("could not execute statement",
+                new SQLException("Unique index or primary key violation"), "PUBLIC.UK_CAR_CHASSIS ON PUBLIC.CAR(CHASSIS)"))
+                .when(this.carRepository).flush();
+
+        var exception = assertThrows(BusinessException.class, () -> this.carService.newCar(carDTO));
+        assertEquals("Car already exists for chassis: ABC123", exception.getMessage());
+        verifyNoInteractions(this.carChangedEventPublisher);
+    }
+
     @Test
     void getCarByChassisShouldReturnCarWhenFound() {
         String chassis = "ABC123";
@@ -81,20 +157,94 @@ class CarServiceImplTest {
                 .manufacturer("Corolla")
                 .build();
 
-        when(this.carRepository.findByChassisContainsIgnoreCase(chassis)).thenReturn(Optional.of(car));
+        when(this.carRepository.findByChassis(chassis)).thenReturn(Optional.of(car));
 
         CarDTO result = this.carService.getCarByChassis(chassis);
 
         assertNotNull(result);
         assertEquals(chassis, result.getChassis());
-        verify(this.carRepository).findByChassisContainsIgnoreCase(chassis);
+        verify(this.carRepository).findByChassis(chassis);
+    }
+
+    @Test
+    void getCarByChassisShouldReturnCachedCarWithoutRepositoryCall() {
+        var cached = CarDTO.builder().id(1L).chassis("ABC123").build();
+
+        when(this.carCache.get("ABC123")).thenReturn(cached);
+
+        var result = this.carService.getCarByChassis("abc123");
+
+        assertSame(cached, result);
+        verifyNoInteractions(this.carRepository);
+    }
+
+    @Test
+    void getCarByChassisShouldOnlyTakeAPermitOnCacheMiss() {
+        var cached = CarDTO.builder().id(1L).chassis("ABC123").build();
+        when(this.carCache.get("ABC123")).thenReturn(cached);
+
+        this.concurrencyLimiter.call("test", () -> {
+            assertSame(cached, this.carService.getCarByChassis("ABC123"));
+            assertThrows(ConcurrencyLimitException.class, () -> this.carService.getCarByChassis("XYZ789"));
+            return null;
+        });
+
+        verifyNoInteractions(this.carRepository);
+    }
+
+    @Test
+    void getCarByChassisShouldPopulateCacheOnMiss() {
+        var car = Car.builder().id(1L).chassis("ABC123").build();
+
+        when(this.carRepository.findByChassis("ABC123")).thenReturn(Optional.of(car));
+
+        var result = this.carService.getCarByChassis("ABC123");
+
+        verify(this.carCache).put("ABC123", result, 0L);
+    }
+
+    @Test
+    void getCarByChassisShouldRecordOneTimingPerCallIncludingFailures() {
+        when(this.carRepository.findByChassis("ABC123")).thenReturn(Optional.of(Car.builder().id(1L).chassis("ABC123").build()));
+
+        this.carService.getCarByChassis("ABC123");
+        assertThrows(BusinessException.class, () -> this.carService.getCarByChassis(" "));
+
+        assertEquals(2, this.meterRegistry.get(CarServiceImpl.SERVICE_TIMER).tag("operation", "getCarByChassis").timer().count());
+    }
+
+    @Test
+    void getCarByChassisShouldNotCacheReplicaReads() {
+        var replica = mock(CarReplicaRepository.class);
+        when(this.carReadRouter.forChassis("ABC123")).thenReturn(replica);
+        when(replica.findByChassis("ABC123")).thenReturn(Optional.of(Car.builder().id(1L).chassis("ABC123").build()));
+
+        assertEquals("ABC123", this.carService.getCarByChassis("ABC123").getChassis());
+        verify(this.carCache, never()).put(any(), any(), anyLong());
+    }
+
+    @Test
+    void getCarByChassisShouldLookupNormalizedChassis() {
+        var car = Car.builder()
+                .id(1L)
+                .chassis("ABC123")
+                .model("TOYOTA")
+                .manufacturer("Corolla")
+                .build();
+
+        when(this.carRepository.findByChassis("ABC123")).thenReturn(Optional.of(car));
+
+        CarDTO result = this.carService.getCarByChassis(" abc123 ");
+
+        assertEquals("ABC123", result.getChassis());
+        verify(this.carRepository).findByChassis("ABC123");
     }
 
     @Test
     void getCarByChassisShouldThrowNotFoundExceptionWhenCarNotFound() {
         String chassis = "XYZ789";
 
-        when(this.carRepository.findByChassisContainsIgnoreCase(chassis)).thenReturn(Optional.empty());
+        when(this.carRepository.findByChassis(chassis)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> this.carService.getCarByChassis(chassis));
     }
@@ -103,7 +253,7 @@ class CarServiceImplTest {
     void getCarByChassisShouldThrowInternalServerException() {
         String chassis = "XYZ789";
 
-        when(this.carRepository.findByChassisContainsIgnoreCase(anyString())).thenThrow(new RuntimeException("Database error"));
+        when(this.carRepository.findByChassis(anyString())).thenThrow(new RuntimeException("Database error"));
 
         assertThrows(InternalServerException.class, () -> this.carService.getCarByChassis(chassis));
     }
@@ -122,22 +272,66 @@ class CarServiceImplTest {
     void deleteCarByChassisShouldDeleteCarSuccessfully() {
         String chassis = "ABC123";
 
-        doNothing().when(this.carRepository).deleteByChassisContainsIgnoreCase(chassis);
+        when(this.carRepository.deleteByChassis(chassis)).thenReturn(1);
 
         this.carService.deleteCarByChassis(chassis);
 
-        verify(this.carRepository).deleteByChassisContainsIgnoreCase(chassis);
+        verify(this.carRepository).deleteByChassis(chassis);
+        verify(this.carChangedEventPublisher).publishEvent(argThat(event ->
+                event.getType() == ChangeType.DELETED && chassis.equals(event.getChassis())));
+    }
+
+    @Test
+    void deleteCarByChassisShouldNotPublishWhenNoCarWasDeleted() {
+        when(this.carRepository.deleteByChassis("ABC123")).thenReturn(0);
+
+        this.carService.deleteCarByChassis("ABC123");
+
+        verifyNoInteractions(this.carChangedEventPublisher);
     }
 
     @Test
     void deleteCarByChassisShouldThrowExceptionWhenErrorOccurs() {
         String chassis = "ABC123";
 
-        doThrow(new RuntimeException("Database error")).when(this.carRepository).deleteByChassisContainsIgnoreCase(chassis);
+        when(this.carRepository.deleteByChassis(chassis)).thenThrow(new RuntimeException("Database error"));
 
         assertThrows(InternalServerException.class, () -> this.carService.deleteCarByChassis(chassis));
     }
 
+    @Test
+    void deleteCarByChassisWithVersionShouldDeleteWhenVersionMatches() {
+        String chassis = "ABC123";
+
+        when(this.carRepository.deleteByChassisAndVersion(chassis, 2L)).thenReturn(1);
+
+        this.carService.deleteCarByChassis(chassis, 2L);
+
+        verify(this.carChangedEventPublisher).publishEvent(argThat(event ->
+                event.getType() == ChangeType.DELETED && chassis.equals(event.getChassis())));
+    }
+
+    @Test
+    void deleteCarByChassisWithVersionShouldThrowPreconditionFailedWhenVersionIsStale() {
+        String chassis = "ABC123";
+
+        when(this.carRepository.deleteByChassisAndVersion(chassis, 2L)).thenReturn(0);
+        when(this.carRepository.existsByChassis(chassis)).thenReturn(true);
+
+        assertThrows(PreconditionFailedException.class, () -> this.carService.deleteCarByChassis(chassis, 2L));
+        verify(this.carChangedEventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void deleteCarByChassisWithVersionShouldThrowNotFoundWhenCarIsMissing() {
+        String chassis = "ABC123";
+
+        when(this.carRepository.deleteByChassisAndVersion(chassis, 2L)).thenReturn(0);
+        when(this.carRepository.existsByChassis(chassis)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> this.carService.deleteCarByChassis(chassis, 2L));
+    }
+
     @Test
     void listAllCarWithPaginationShouldReturnPagedCars() {
         int page = 0;
@@ -159,36 +353,86 @@ class CarServiceImplTest {
     }
 
     @Test
-    void updateCarByChassisShouldUpdateCarSuccessfully() {
+    void updateCarByChassisShouldPatchOnlyGivenFieldsInOneStatement() {
         String chassis = "ABC123";
         var carDTO = CarDTO.builder()
-                .id(1L)
-                .chassis("ABC123")
-                .model("TOYOTA")
-                .manufacturer("Corolla")
-                .build();
-        var existingCar = Car.builder()
-                .id(1L)
-                .chassis("ABC123")
-                .model("TOYOTA")
-                .manufacturer("Corolla")
+                .color("RED")
+                .version(3L)
                 .build();
         var updatedCar = Car.builder()
                 .id(1L)
                 .chassis("ABC123")
                 .model("TOYOTA")
                 .manufacturer("Corolla")
+                .color("RED")
+                .version(4L)
                 .build();
 
-        when(this.carRepository.findByChassisContainsIgnoreCase(chassis)).thenReturn(Optional.of(existingCar));
-        when(this.carRepository.update(any(Car.class))).thenReturn(updatedCar);
+        when(this.carRepository.findAndPatchByChassis(chassis, null, null, "RED", null, null, 3L))
+                .thenReturn(Optional.of(updatedCar));
 
         CarDTO result = this.carService.updateCarByChassis(chassis, carDTO);
 
         assertNotNull(result);
         assertEquals(chassis, result.getChassis());
-        verify(this.carRepository).findByChassisContainsIgnoreCase(chassis);
-        verify(this.carRepository).update(any(Car.class));
+        assertEquals("TOYOTA", result.getModel());
+        assertEquals(4L, result.getVersion());
+        verify(this.carRepository, never()).findByChassis(any());
+        verify(this.carRepository, never()).update(any(Car.class));
+        verify(this.carChangedEventPublisher).publishEvent(argThat(event ->
+                event.getType() == ChangeType.UPDATED && chassis.equals(event.getChassis())
+                        && event.getPreviousChassis() == null));
+    }
+
+    @Test
+    void updateCarByChassisShouldPublishPreviousChassisWhenRenamed() {
+        var carDTO = CarDTO.builder().chassis(" new123 ").build();
+        var updatedCar = Car.builder().id(1L).chassis("NEW123").version(1L).build();
+
+        when(this.carRepository.existsByChassis("NEW123")).thenReturn(false);
+        when(this.carRepository.findAndPatchByChassis("OLD123", null, null, null, null, "NEW123", null))
+                .thenReturn(Optional.of(updatedCar));
+
+        this.carService.updateCarByChassis("old123", carDTO);
+
+        verify(this.carChangedEventPublisher).publishEvent(argThat(event ->
+                "NEW123".equals(event.getChassis()) && "OLD123".equals(event.getPreviousChassis())));
+    }
+
+    @Test
+    void updateCarByChassisShouldThrowBusinessExceptionWhenRenamingToExistingChassis() {
+        var carDTO = CarDTO.builder().chassis("NEW123").build();
+
+        when(this.carRepository.existsByChassis("NEW123")).thenReturn(true);
+
+        assertThrows(BusinessException.class, () -> this.carService.updateCarByChassis("OLD123", carDTO));
+        verify(this.carRepository, never()).findAndPatchByChassis(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void updateCarByChassisShouldThrowConflictExceptionWhenVersionIsStale() {
+        String chassis = "ABC123";
+        var carDTO = CarDTO.builder().color("RED").version(3L).build();
+
+        when(this.carRepository.findAndPatchByChassis(chassis, null, null, "RED", null, null, 3L))
+                .thenReturn(Optional.empty());
+        when(this.carRepository.existsByChassis(chassis)).thenReturn(true);
+
+        assertThrows(ConflictException.class, () -> this.carService.updateCarByChassis(chassis, carDTO));
+        verifyNoInteractions(this.carChangedEventPublisher);
+    }
+
+    @Test
+    void updateCarByChassisWithIfMatchVersionShouldThrowPreconditionFailedWhenVersionIsStale() {
+        String chassis = "ABC123";
+        var carDTO = CarDTO.builder().color("RED").build();
+
+        when(this.carRepository.findAndPatchByChassis(chassis, null, null, "RED", null, null, 3L))
+                .thenReturn(Optional.empty());
+        when(this.carRepository.existsByChassis(chassis)).thenReturn(true);
+
+        assertThrows(PreconditionFailedException.class, () -> this.carService.updateCarByChassis(chassis, carDTO, 3L));
+        verifyNoInteractions(this.carChangedEventPublisher);
     }
 
     @Test
@@ -200,7 +444,8 @@ class CarServiceImplTest {
                 .manufacturer("Corolla")
                 .build();
 
-        when(this.carRepository.findByChassisContainsIgnoreCase(chassis)).thenReturn(Optional.empty());
+        when(this.carRepository.findAndPatchByChassis(chassis, "TOYOTA", "Corolla", null, null, null, null))
+                .thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> this.carService.updateCarByChassis(chassis, carDTO));
     }
@@ -214,13 +459,12 @@ class CarServiceImplTest {
                 .manufacturer("Corolla")
                 .build();
 
-        when(this.carRepository.findByChassisContainsIgnoreCase(chassis)).thenThrow(new RuntimeException("Database error"));
+        when(this.carRepository.findAndPatchByChassis(chassis, "TOYOTA", "Corolla", null, null, null, null))
+                .thenThrow(new RuntimeException("Database error"));
 
         assertThrows(InternalServerException.class, () -> this.carService.updateCarByChassis(chassis, carDTO));
     }
 
-
-
     @Test
     void listAllCarWithPaginationShouldThrowInternalServerException() {
         int page = 0;
@@ -233,30 +477,73 @@ class CarServiceImplTest {
     }
 
     @Test
-    void listAllCarShouldReturnAllCarsSuccessfully() {
+    void searchCarByChassisShouldReturnMatchingCars() {
+        Pageable pageable = Pageable.from(0, 10, Sort.of(Sort.Order.asc("id")));
+        var cars = List.of(Car.builder().id(1L).chassis("ABC123").build());
+
+        when(this.carRepository.findByChassisContains("BC1", pageable)).thenReturn(cars);
+
+        var result = this.carService.searchCarByChassis("bc1", 0, 10);
+
+        assertEquals(1, result.size());
+        assertEquals("ABC123", result.get(0).getChassis());
+    }
+
+    @Test
+    void searchCarByChassisShouldThrowBusinessExceptionWhenTermIsBlank() {
+        assertThrows(BusinessException.class, () -> this.carService.searchCarByChassis(" ", 0, 10));
+    }
+
+    @Test
+    void scrollCarShouldReturnNextCursorWhenMoreCarsExist() {
+        Pageable pageable = Pageable.from(0, 3, Sort.of(Sort.Order.asc("id")));
         var cars = List.of(
-                Car.builder().id(1L).model("TOYOTA").manufacturer("Corolla").build(),
-                Car.builder().id(2L).model("HONDA").manufacturer("Civic").build()
-        );
+                Car.builder().id(11L).chassis("A").build(),
+                Car.builder().id(12L).chassis("B").build(),
+                Car.builder().id(13L).chassis("C").build());
 
-        when(this.carRepository.findAll()).thenReturn(cars);
+        when(this.carRepository.findByIdGreaterThan(10L, pageable)).thenReturn(cars);
 
-        var result = this.carService.listAllCar();
+        var result = this.carService.scrollCar(CursorConverter.encode(10L), 2);
 
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        verify(this.carRepository).findAll();
+        assertEquals(2, result.getSize());
+        assertEquals(12L, result.getContent().get(1).getId());
+        assertEquals(12L, CursorConverter.decode(result.getNextCursor()));
     }
 
     @Test
-    void listAllCarShouldReturnEmptyListWhenNoCarsFound() {
-        when(this.carRepository.findAll()).thenReturn(List.of());
+    void scrollCarShouldReturnNoCursorOnLastPage() {
+        Pageable pageable = Pageable.from(0, 11, Sort.of(Sort.Order.asc("id")));
 
-        var result = this.carService.listAllCar();
+        when(this.carRepository.findByIdGreaterThan(0L, pageable))
+                .thenReturn(List.of(Car.builder().id(1L).chassis("A").build()));
 
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-        verify(this.carRepository).findAll();
+        var result = this.carService.scrollCar(null, 10);
+
+        assertEquals(1, result.getSize());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void scrollCarShouldThrowBusinessExceptionWhenCursorIsInvalid() {
+        assertThrows(BusinessException.class, () -> this.carService.scrollCar("not-a-cursor", 10));
+    }
+
+    @Test
+    void scrollCarShouldThrowBusinessExceptionWhenSizeIsOutOfRange() {
+        assertThrows(BusinessException.class, () -> this.carService.scrollCar(null, 0));
+        assertThrows(BusinessException.class, () -> this.carService.scrollCar(null, CarServiceImpl.MAX_SCROLL_SIZE + 1));
+    }
+
+    @Test
+    void getCarListStateShouldReadTheRoutedRepository() {
+        var replica = mock(CarReplicaRepository.class);
+        var state = CarListStateDTO.builder().count(2).maxId(2L).versionSum(0L).build();
+        when(this.carReadRouter.forList()).thenReturn(replica);
+        when(replica.findListState()).thenReturn(state);
+
+        assertEquals(state, this.carService.getCarListState());
+        verify(this.carRepository, never()).findListState();
     }
 
 }
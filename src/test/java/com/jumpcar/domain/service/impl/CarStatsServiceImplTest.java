@@ -0,0 +1,119 @@
+package com.jumpcar.domain.service.impl;
+
+import com.jumpcar.domain.event.CarChangedEvent;
+import com.jumpcar.domain.exception.BusinessException;
+import com.jumpcar.domain.model.dto.CarCountDTO;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.dto.CarMonthCountDTO;
+import com.jumpcar.domain.model.enums.ChangeType;
+import com.jumpcar.domain.model.enums.StatsDimension;
+import com.jumpcar.domain.model.enums.StatsSource;
+import com.jumpcar.domain.repository.CarRepository;
+import com.jumpcar.workflow.routing.CarReadRouter;
+import com.jumpcar.workflow.snapshot.CarFleetSnapshot;
+import com.jumpcar.workflow.snapshot.CarFleetSnapshotProvider;
+import com.jumpcar.workflow.stats.CarStatsCounters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CarStatsServiceImplTest {
+
+    @Mock
+    private CarRepository carRepository;
+
+    @Mock
+    private CarReadRouter carReadRouter;
+
+    @Mock
+    private CarFleetSnapshotProvider carFleetSnapshotProvider;
+
+    private CarStatsServiceImpl carStatsService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(this.carReadRouter.forList()).thenReturn(this.carRepository);
+        this.carStatsService = new CarStatsServiceImpl(this.carReadRouter, this.carFleetSnapshotProvider, null, "database");
+    }
+
+    @Test
+    void databaseStatsShouldOrderGroupsByCountAndCountMissingValuesInTotal() {
+        when(this.carRepository.countByManufacturer()).thenReturn(List.of(
+                new CarCountDTO("FIAT", 2), new CarCountDTO(null, 1), new CarCountDTO("FORD", 5)));
+
+        var stats = this.carStatsService.getStats("Manufacturer", null);
+
+        assertEquals(StatsDimension.MANUFACTURER, stats.getDimension());
+        assertEquals(StatsSource.DATABASE, stats.getSource());
+        assertEquals(8, stats.getTotal());
+        assertEquals(List.of("FORD", "FIAT"), List.copyOf(stats.getCounts().keySet()));
+    }
+
+    @Test
+    void databaseMonthStatsShouldFormatYearAndMonth() {
+        when(this.carRepository.countByCreatedMonth()).thenReturn(List.of(
+                new CarMonthCountDTO(2024, 3, 4), new CarMonthCountDTO(2023, 12, 1)));
+
+        var stats = this.carStatsService.getStats("month", "database");
+
+        assertEquals(Map.of("2024-03", 4L, "2023-12", 1L), stats.getCounts());
+    }
+
+    @Test
+    void memoryStatsShouldCountTheSnapshot() {
+        var created = LocalDateTime.of(2024, 5, 1, 10, 0);
+        when(this.carFleetSnapshotProvider.current()).thenReturn(CarFleetSnapshot.builder(2)
+                .add(car("C1", "RED", created))
+                .add(car("C2", "RED", created))
+                .add(car("C3", null, created))
+                .build());
+
+        var colors = this.carStatsService.getStats("color", "memory");
+        var months = this.carStatsService.getStats("month", "memory");
+
+        assertEquals(3, colors.getTotal());
+        assertEquals(Map.of("RED", 2L), colors.getCounts());
+        assertEquals(Map.of("2024-05", 3L), months.getCounts());
+        verifyNoInteractions(this.carRepository);
+    }
+
+    @Test
+    void counterStatsShouldReadCounters() {
+        var counters = new CarStatsCounters();
+        counters.onCarChanged(CarChangedEvent.builder().type(ChangeType.CREATED).chassis("C1")
+                .car(car("C1", "RED", LocalDateTime.of(2024, 5, 1, 10, 0))).build());
+        var service = new CarStatsServiceImpl(this.carReadRouter, this.carFleetSnapshotProvider, counters, "counters");
+
+        var stats = service.getStats("engine", null);
+
+        assertEquals(StatsSource.COUNTERS, stats.getSource());
+        assertEquals(Map.of("1.0", 1L), stats.getCounts());
+    }
+
+    @Test
+    void counterStatsShouldFailWhenCountersAreDisabled() {
+        assertThrows(BusinessException.class, () -> this.carStatsService.getStats("color", "counters"));
+    }
+
+    @Test
+    void unknownDimensionOrSourceShouldFail() {
+        assertThrows(BusinessException.class, () -> this.carStatsService.getStats("model", null));
+        assertThrows(BusinessException.class, () -> this.carStatsService.getStats("color", "cache"));
+        verifyNoInteractions(this.carRepository, this.carFleetSnapshotProvider);
+    }
+
+    private static CarDTO car(String chassis, String color, LocalDateTime created) {
+        return CarDTO.builder().id((long) chassis.hashCode()).chassis(chassis).manufacturer("FIAT").model("UNO")
+                .color(color).engine("1.0").version(0L).dateCreated(created).build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.jumpcar.workflow.cache;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarCacheMetricsTest {
+
+    @Test
+    void bindToShouldExportHitsMissesAndSizeOfTheChassisCache() {
+        var registry = new SimpleMeterRegistry();
+        var carCache = new CarCache(10, Duration.ofMinutes(5));
+        new CarCacheMetrics(carCache).bindTo(registry);
+
+        carCache.put("ABC123", CarDTO.builder().chassis("ABC123").build(), carCache.generation("ABC123"));
+        carCache.get("ABC123");
+        carCache.get("XYZ789");
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", CarCacheMetrics.CACHE_NAME).tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", CarCacheMetrics.CACHE_NAME).tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.size").tag("cache", CarCacheMetrics.CACHE_NAME).gauge().value());
+    }
+}
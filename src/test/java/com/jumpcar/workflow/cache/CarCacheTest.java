@@ -0,0 +1,72 @@
+package com.jumpcar.workflow.cache;
+
+import com.jumpcar.domain.event.CarChangedEvent;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.enums.ChangeType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarCacheTest {
+
+    private final CarCache carCache = new CarCache(2, Duration.ofMinutes(5));
+
+    @Test
+    void getShouldCountHitsAndMisses() {
+        this.put("ABC123", CarDTO.builder().chassis("ABC123").build());
+
+        assertNotNull(this.carCache.get("ABC123"));
+        assertNull(this.carCache.get("XYZ789"));
+
+        var stats = this.carCache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+    }
+
+    @Test
+    void putShouldEvictWhenMaximumSizeIsReached() {
+        this.put("A", CarDTO.builder().chassis("A").build());
+        this.put("B", CarDTO.builder().chassis("B").build());
+        this.put("C", CarDTO.builder().chassis("C").build());
+        this.carCache.cleanUp();
+
+        var stats = this.carCache.stats();
+        assertEquals(2, stats.getSize());
+        assertEquals(1, stats.getEvictionCount());
+    }
+
+    @Test
+    void onCarChangedShouldInvalidateCurrentAndPreviousChassis() {
+        this.put("OLD", CarDTO.builder().chassis("OLD").build());
+        this.put("NEW", CarDTO.builder().chassis("NEW").build());
+
+        this.carCache.onCarChanged(CarChangedEvent.builder()
+                .type(ChangeType.UPDATED)
+                .chassis("NEW")
+                .previousChassis("OLD")
+                .build());
+
+        assertNull(this.carCache.get("OLD"));
+        assertNull(this.carCache.get("NEW"));
+    }
+
+    @Test
+    void putShouldSkipARowReadBeforeAConcurrentInvalidation() {
+        long generation = this.carCache.generation("ABC123");
+
+        this.carCache.onCarChanged(CarChangedEvent.builder().type(ChangeType.UPDATED).chassis("ABC123").build());
+        this.carCache.put("ABC123", CarDTO.builder().chassis("ABC123").color("stale").build(), generation);
+
+        assertNull(this.carCache.get("ABC123"));
+
+        this.put("ABC123", CarDTO.builder().chassis("ABC123").color("fresh").build());
+
+        assertEquals("fresh", this.carCache.get("ABC123").getColor());
+    }
+
+    private void put(String chassis, CarDTO carDTO) {
+        this.carCache.put(chassis, carDTO, this.carCache.generation(chassis));
+    }
+}
@@ -0,0 +1,128 @@
+package com.jumpcar.workflow.coalescing;
+
+import com.jumpcar.domain.event.CarChangedEvent;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.type.Argument;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingInterceptorTest {
+
+    @Mock
+    private MethodInvocationContext<Object, Object> context;
+
+    @Mock
+    private MethodInvocationContext<Object, Object> nestedContext;
+
+    @Test
+    void interceptShouldJoinAnIdenticalCallInFlight() throws Exception {
+        var interceptor = new CoalescingInterceptor(true);
+        var release = new CountDownLatch(1);
+        stubCall(this.context, "ABC123");
+        stubCall(this.nestedContext, "ABC123");
+        when(this.context.proceed()).thenAnswer(invocation -> {
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return "car";
+        });
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var leader = executor.submit(() -> interceptor.intercept(this.context));
+            while (interceptor.inFlightCount() == 0) {
+                Thread.onSpinWait();
+            }
+            var follower = executor.submit(() -> interceptor.intercept(this.nestedContext));
+            while (interceptor.coalescedCount() == 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertEquals("car", leader.get(5, TimeUnit.SECONDS));
+            assertEquals("car", follower.get(5, TimeUnit.SECONDS));
+        }
+        verify(this.nestedContext, never()).proceed();
+        assertEquals(1, interceptor.executedCount());
+    }
+
+    @Test
+    void interceptShouldJoinACallForTheSameNormalizedChassis() throws Exception {
+        var interceptor = new CoalescingInterceptor(true);
+        var release = new CountDownLatch(1);
+        stubCall(this.context, "ABC123");
+        stubCall(this.nestedContext, " abc123 ");
+        when(this.context.proceed()).thenAnswer(invocation -> {
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return "car";
+        });
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var leader = executor.submit(() -> interceptor.intercept(this.context));
+            while (interceptor.inFlightCount() == 0) {
+                Thread.onSpinWait();
+            }
+            var follower = executor.submit(() -> interceptor.intercept(this.nestedContext));
+            while (interceptor.coalescedCount() == 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertEquals("car", leader.get(5, TimeUnit.SECONDS));
+            assertEquals("car", follower.get(5, TimeUnit.SECONDS));
+        }
+        verify(this.nestedContext, never()).proceed();
+        assertEquals(1, interceptor.executedCount());
+    }
+
+    @Test
+    void interceptShouldRunCallsWithDifferentArguments() {
+        var interceptor = new CoalescingInterceptor(true);
+        stubCall(this.context, "ABC123");
+        stubCall(this.nestedContext, "XYZ789");
+        when(this.nestedContext.proceed()).thenReturn("inner");
+        when(this.context.proceed()).thenAnswer(invocation -> interceptor.intercept(this.nestedContext) + "-outer");
+
+        assertEquals("inner-outer", interceptor.intercept(this.context));
+        assertEquals(2, interceptor.executedCount());
+        assertEquals(0, interceptor.coalescedCount());
+    }
+
+    @Test
+    void carChangeShouldDetachCallsInFlight() {
+        var interceptor = new CoalescingInterceptor(true);
+        stubCall(this.context, "ABC123");
+        stubCall(this.nestedContext, "ABC123");
+        when(this.nestedContext.proceed()).thenReturn("after write");
+        when(this.context.proceed()).thenAnswer(invocation -> {
+            interceptor.onCarChanged(CarChangedEvent.builder().chassis("ABC123").build());
+            return interceptor.intercept(this.nestedContext);
+        });
+
+        assertEquals("after write", interceptor.intercept(this.context));
+        assertEquals(0, interceptor.coalescedCount());
+    }
+
+    @Test
+    void disabledInterceptorShouldOnlyProceed() {
+        var interceptor = new CoalescingInterceptor(false);
+        when(this.context.proceed()).thenReturn("car");
+
+        assertEquals("car", interceptor.intercept(this.context));
+        assertEquals(0, interceptor.executedCount());
+    }
+
+    private static void stubCall(MethodInvocationContext<Object, Object> context, String chassis) {
+        when(context.getDeclaringType()).thenReturn(Object.class);
+        when(context.getMethodName()).thenReturn("getCarByChassis");
+        when(context.getArguments()).thenReturn(new Argument[]{Argument.of(String.class, "chassis")});
+        when(context.getParameterValues()).thenReturn(new Object[]{chassis});
+    }
+}
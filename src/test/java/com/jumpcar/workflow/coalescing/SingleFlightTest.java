@@ -0,0 +1,117 @@
+package com.jumpcar.workflow.coalescing;
+
+import com.jumpcar.domain.exception.NotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void concurrentCallsWithTheSameKeyShouldShareOneExecution() throws Exception {
+        var release = new CountDownLatch(1);
+        var calls = new AtomicInteger();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var leader = executor.submit(() -> this.singleFlight.execute("ABC123", () -> {
+                calls.incrementAndGet();
+                await(release);
+                return "car";
+            }));
+            while (this.singleFlight.inFlightCount() == 0) {
+                Thread.onSpinWait();
+            }
+            var followers = new ArrayList<Future<String>>();
+            for (int i = 0; i < 10; i++) {
+                followers.add(executor.submit(() -> this.singleFlight.execute("ABC123", () -> {
+                    calls.incrementAndGet();
+                    return "other";
+                })));
+            }
+            while (this.singleFlight.coalescedCount() < 10) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertEquals("car", leader.get(5, TimeUnit.SECONDS));
+            for (var follower : followers) {
+                assertEquals("car", follower.get(5, TimeUnit.SECONDS));
+            }
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, this.singleFlight.executedCount());
+        assertEquals(0, this.singleFlight.inFlightCount());
+    }
+
+    @Test
+    void followersShouldGetTheLeadersException() throws Exception {
+        var release = new CountDownLatch(1);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var leader = executor.submit(() -> this.singleFlight.execute("ABC123", () -> {
+                await(release);
+                throw new NotFoundException("Car not found for chassis: ABC123");
+            }));
+            while (this.singleFlight.inFlightCount() == 0) {
+                Thread.onSpinWait();
+            }
+            var follower = executor.submit(() -> this.singleFlight.execute("ABC123", () -> "car"));
+            while (this.singleFlight.coalescedCount() == 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            var leaderFailure = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            var followerFailure = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(NotFoundException.class, leaderFailure.getCause());
+            assertSame(leaderFailure.getCause(), followerFailure.getCause());
+        }
+    }
+
+    @Test
+    void sequentialCallsAndDifferentKeysShouldNotShare() {
+        assertEquals("first", this.singleFlight.execute("ABC123", () -> "first"));
+        assertEquals("second", this.singleFlight.execute("ABC123", () -> "second"));
+        assertEquals("third", this.singleFlight.execute("XYZ789", () -> "third"));
+
+        assertEquals(3, this.singleFlight.executedCount());
+        assertEquals(0, this.singleFlight.coalescedCount());
+    }
+
+    @Test
+    void detachedCallShouldNotBeJoined() throws Exception {
+        var release = new CountDownLatch(1);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var leader = executor.submit(() -> this.singleFlight.execute("ABC123", () -> {
+                await(release);
+                return "before write";
+            }));
+            while (this.singleFlight.inFlightCount() == 0) {
+                Thread.onSpinWait();
+            }
+
+            this.singleFlight.detachAll();
+
+            assertEquals("after write", this.singleFlight.execute("ABC123", () -> "after write"));
+            release.countDown();
+            assertEquals("before write", leader.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(0, this.singleFlight.coalescedCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
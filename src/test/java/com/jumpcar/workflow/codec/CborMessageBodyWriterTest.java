@@ -0,0 +1,64 @@
+package com.jumpcar.workflow.codec;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.jumpcar.domain.model.dto.CarDTO;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.MediaType;
+import io.micronaut.serde.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.jumpcar.AppConstants.APPLICATION_CBOR;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CborMessageBodyWriterTest {
+
+    private final ObjectMapper objectMapper = ObjectMapper.getDefault();
+    private final CborMessageBodyWriter writer = new CborMessageBodyWriter(this.objectMapper);
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void writeToShouldEncodeCarListAsCbor() throws IOException {
+        var cars = List.of(CarDTO.builder()
+                .id(1L)
+                .model("COROLLA")
+                .manufacturer("TOYOTA")
+                .chassis("ABC123")
+                .build());
+        var out = new ByteArrayOutputStream();
+
+        this.writer.writeTo((Argument) Argument.listOf(CarDTO.class), MediaType.of(APPLICATION_CBOR), cars, null, out);
+
+        var fields = readFirstObject(out.toByteArray());
+        assertEquals("ABC123", fields.get("chassis"));
+        assertEquals("COROLLA", fields.get("model"));
+        assertEquals(1L, ((Number) fields.get("id")).longValue());
+        assertTrue(out.size() < this.objectMapper.writeValueAsBytes(cars).length);
+    }
+
+    private static Map<String, Object> readFirstObject(byte[] cbor) throws IOException {
+        var fields = new HashMap<String, Object>();
+        try (var parser = new CBORFactory().createParser(cbor)) {
+            assertEquals(JsonToken.START_ARRAY, parser.nextToken());
+            assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var name = parser.currentName();
+                var token = parser.nextToken();
+                if (token == JsonToken.VALUE_STRING) {
+                    fields.put(name, parser.getText());
+                } else if (token.isNumeric()) {
+                    fields.put(name, parser.getNumberValue());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,60 @@
+package com.jumpcar.workflow.concurrency;
+
+import com.jumpcar.domain.exception.ConcurrencyLimitException;
+import io.micronaut.aop.MethodInvocationContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitInterceptorTest {
+
+    @Mock
+    private MethodInvocationContext<Object, Object> context;
+
+    @Mock
+    private MethodInvocationContext<Object, Object> nestedContext;
+
+    private final ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, Duration.ofMillis(10));
+
+    private final ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(this.limiter);
+
+    @Test
+    void interceptShouldProceedAndReleasePermit() {
+        when(this.context.proceed()).thenReturn("car");
+
+        assertEquals("car", this.interceptor.intercept(this.context));
+        assertEquals(1, this.limiter.availablePermits());
+    }
+
+    @Test
+    void interceptShouldRejectWhenNoPermitIsAvailable() {
+        when(this.context.proceed()).thenAnswer(invocation -> this.interceptor.intercept(this.nestedContext));
+
+        assertThrows(ConcurrencyLimitException.class, () -> this.interceptor.intercept(this.context));
+        assertEquals(1, this.limiter.availablePermits());
+    }
+
+    @Test
+    void interceptShouldReleasePermitWhenInvocationFails() {
+        when(this.context.proceed()).thenThrow(new RuntimeException("Database error"));
+
+        assertThrows(RuntimeException.class, () -> this.interceptor.intercept(this.context));
+        assertEquals(1, this.limiter.availablePermits());
+    }
+
+    @Test
+    void limiterCallShouldShareThePermitsOfLimitedMethods() {
+        when(this.context.proceed()).thenAnswer(invocation -> this.limiter.call("getCarByChassis", () -> "car"));
+
+        assertThrows(ConcurrencyLimitException.class, () -> this.interceptor.intercept(this.context));
+        assertEquals("car", this.limiter.call("getCarByChassis", () -> "car"));
+        assertEquals(1, this.limiter.availablePermits());
+    }
+}
@@ -0,0 +1,63 @@
+package com.jumpcar.workflow.migration;
+
+import com.jumpcar.domain.event.CarChangedEvent;
+import com.jumpcar.domain.model.enums.ChangeType;
+import com.jumpcar.domain.repository.CarChangeRepository;
+import com.jumpcar.workflow.changes.CarChangeRecorder;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest(transactional = false)
+@Property(name = "datasources.default.url", value = "jdbc:h2:mem:car-change-position-migration;DB_CLOSE_DELAY=-1")
+class CarChangePositionMigrationTest {
+
+    @Inject
+    private CarChangePositionMigration migration;
+
+    @Inject
+    private CarChangeRecorder carChangeRecorder;
+
+    @Inject
+    private CarChangeRepository carChangeRepository;
+
+    @Inject
+    @Named("default")
+    private SessionFactory sessionFactory;
+
+    @AfterEach
+    void tearDown() {
+        this.execute("DELETE FROM car_change");
+    }
+
+    @Test
+    void migrateShouldCreateTheCounterOnceAndKeepItsPosition() {
+        this.execute("DELETE FROM car_change");
+        this.execute("DELETE FROM car_change_position");
+
+        this.migration.migrate();
+        var first = CarChangedEvent.builder().type(ChangeType.CREATED).chassis("ABC123").build();
+        this.carChangeRecorder.onCarChanged(first);
+        this.migration.migrate();
+        var second = CarChangedEvent.builder().type(ChangeType.UPDATED).chassis("ABC123").build();
+        this.carChangeRecorder.onCarChanged(second);
+
+        assertEquals(1L, first.getSequence());
+        assertEquals(2L, second.getSequence());
+        assertEquals(2L, this.carChangeRepository.findMaxId());
+    }
+
+    private void execute(String sql) {
+        try (var session = this.sessionFactory.openStatelessSession()) {
+            var transaction = session.beginTransaction();
+            session.createNativeMutationQuery(sql).executeUpdate();
+            transaction.commit();
+        }
+    }
+}
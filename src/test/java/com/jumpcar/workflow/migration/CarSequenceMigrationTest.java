@@ -0,0 +1,60 @@
+package com.jumpcar.workflow.migration;
+
+import com.jumpcar.domain.model.entity.Car;
+import com.jumpcar.domain.repository.CarRepository;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest(transactional = false)
+@Property(name = "datasources.default.url", value = "jdbc:h2:mem:car-sequence-migration;DB_CLOSE_DELAY=-1")
+class CarSequenceMigrationTest {
+
+    @Inject
+    private CarSequenceMigration migration;
+
+    @Inject
+    private CarRepository carRepository;
+
+    @Inject
+    @Named("default")
+    private SessionFactory sessionFactory;
+
+    @AfterEach
+    void tearDown() {
+        this.execute("DELETE FROM car");
+    }
+
+    @Test
+    void migrateShouldMoveTheSequencePastExistingIds() {
+        this.execute("INSERT INTO car (id, chassis, model, manufacturer, color, engine, version) "
+                + "VALUES (1000, 'ABC123', 'UNO', 'FIAT', 'RED', '1.0', 0)");
+
+        this.migration.migrate();
+        var car = this.carRepository.save(Car.builder().chassis("XYZ789").model("UNO").manufacturer("FIAT").build());
+
+        assertTrue(car.getId() > 1000);
+    }
+
+    @Test
+    void restartValueShouldLeaveAWholeAllocationBlockAboveMaxId() {
+        assertEquals(101, CarSequenceMigration.restartValue(0));
+        assertEquals(201, CarSequenceMigration.restartValue(120));
+        assertEquals(201, CarSequenceMigration.restartValue(149));
+        assertEquals(251, CarSequenceMigration.restartValue(150));
+    }
+
+    private void execute(String sql) {
+        try (var session = this.sessionFactory.openStatelessSession()) {
+            var transaction = session.beginTransaction();
+            session.createNativeMutationQuery(sql).executeUpdate();
+            transaction.commit();
+        }
+    }
+}
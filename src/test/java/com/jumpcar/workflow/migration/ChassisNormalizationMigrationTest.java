@@ -0,0 +1,66 @@
+package com.jumpcar.workflow.migration;
+
+import com.jumpcar.domain.repository.CarRepository;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest(transactional = false)
+@Property(name = "datasources.default.url", value = "jdbc:h2:mem:chassis-migration;DB_CLOSE_DELAY=-1")
+class ChassisNormalizationMigrationTest {
+
+    @Inject
+    private ChassisNormalizationMigration migration;
+
+    @Inject
+    private CarRepository carRepository;
+
+    @Inject
+    @Named("default")
+    private SessionFactory sessionFactory;
+
+    @AfterEach
+    void tearDown() {
+        this.execute("DELETE FROM car");
+    }
+
+    @Test
+    void migrateShouldNormalizeChassisStoredBeforeNormalization() {
+        this.insert(" abc123 ");
+
+        this.migration.migrate();
+
+        assertTrue(this.carRepository.findByChassis("ABC123").isPresent());
+    }
+
+    @Test
+    void migrateShouldFailWhenChassisDifferOnlyByCase() {
+        this.insert("abc123");
+        this.insert("ABC123");
+
+        var exception = assertThrows(IllegalStateException.class, () -> this.migration.migrate());
+
+        assertTrue(exception.getMessage().contains("ABC123"));
+        assertTrue(this.carRepository.existsByChassis("abc123"));
+        assertEquals(2, this.carRepository.count());
+    }
+
+    private void insert(String chassis) {
+        this.execute("INSERT INTO car (id, chassis, model, manufacturer, color, engine, version) "
+                + "VALUES (NEXT VALUE FOR car_seq, '" + chassis + "', 'UNO', 'FIAT', 'RED', '1.0', 0)");
+    }
+
+    private void execute(String sql) {
+        try (var session = this.sessionFactory.openStatelessSession()) {
+            var transaction = session.beginTransaction();
+            session.createNativeMutationQuery(sql).executeUpdate();
+            transaction.commit();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.jumpcar.workflow.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PoolDiagnosticsTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private HikariDataSource hikariDataSource;
+
+    @Mock
+    private HikariPoolMXBean pool;
+
+    @Test
+    void statsShouldCombinePoolCountsAndAcquireLatency() throws SQLException {
+        var registry = new SimpleMeterRegistry();
+        registry.timer("hikaricp.connections.acquire", "pool", "default").record(Duration.ofMillis(4));
+        registry.timer("hikaricp.connections.acquire", "pool", "default").record(Duration.ofMillis(8));
+
+        when(this.dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        when(this.dataSource.unwrap(HikariDataSource.class)).thenReturn(this.hikariDataSource);
+        when(this.hikariDataSource.getHikariPoolMXBean()).thenReturn(this.pool);
+        when(this.hikariDataSource.getPoolName()).thenReturn("default");
+        when(this.hikariDataSource.getMaximumPoolSize()).thenReturn(10);
+        when(this.pool.getActiveConnections()).thenReturn(3);
+        when(this.pool.getIdleConnections()).thenReturn(7);
+        when(this.pool.getTotalConnections()).thenReturn(10);
+        when(this.pool.getThreadsAwaitingConnection()).thenReturn(5);
+
+        var stats = new PoolDiagnostics(List.of(this.dataSource), registry).stats();
+
+        assertEquals(1, stats.size());
+        var pool = stats.get(0);
+        assertEquals("default", pool.getName());
+        assertEquals(3, pool.getActive());
+        assertEquals(7, pool.getIdle());
+        assertEquals(5, pool.getWaiting());
+        assertEquals(2, pool.getAcquireCount());
+        assertEquals(6.0, pool.getAcquireMeanMillis(), 0.01);
+        assertEquals(8.0, pool.getAcquireMaxMillis(), 0.01);
+        assertEquals(0, pool.getTimeoutCount());
+    }
+
+    @Test
+    void statsShouldSkipDataSourcesThatAreNotHikari() throws SQLException {
+        when(this.dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(false);
+
+        assertTrue(new PoolDiagnostics(List.of(this.dataSource), new SimpleMeterRegistry()).stats().isEmpty());
+    }
+}
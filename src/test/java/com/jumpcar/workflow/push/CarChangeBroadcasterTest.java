@@ -0,0 +1,107 @@
+package com.jumpcar.workflow.push;
+
+import com.jumpcar.domain.event.CarChangedEvent;
+import com.jumpcar.domain.model.dto.CarChangeDTO;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.enums.ChangeType;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarChangeBroadcasterTest {
+
+    @Test
+    void changesShouldReachEverySubscriber() {
+        var broadcaster = new CarChangeBroadcaster(16, CarChangeBroadcaster.OverflowPolicy.DROP);
+        var first = new ArrayList<CarChangeDTO>();
+        var second = new ArrayList<CarChangeDTO>();
+        var firstSubscription = broadcaster.stream().subscribe(first::add);
+        var secondSubscription = broadcaster.stream().subscribe(second::add);
+
+        broadcaster.onCarChanged(event(ChangeType.CREATED, "ABC123"));
+
+        assertEquals(2, broadcaster.subscriberCount());
+        assertEquals(1, first.size());
+        assertEquals("ABC123", second.get(0).getChassis());
+        assertEquals("TOYOTA", second.get(0).getCar().getModel());
+        assertEquals(7L, second.get(0).getSequence());
+
+        firstSubscription.dispose();
+        secondSubscription.dispose();
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void slowSubscriberShouldDropOldestChanges() {
+        var broadcaster = new CarChangeBroadcaster(2, CarChangeBroadcaster.OverflowPolicy.DROP);
+        var slow = new SlowSubscriber();
+        broadcaster.stream().subscribe(slow);
+
+        for (int i = 1; i <= 5; i++) {
+            broadcaster.onCarChanged(event(ChangeType.UPDATED, "CAR" + i));
+        }
+        slow.request(10);
+
+        assertEquals(List.of("CAR4", "CAR5"), slow.received.stream().map(CarChangeDTO::getChassis).toList());
+        assertEquals(3, broadcaster.droppedCount());
+        assertFalse(slow.completed);
+    }
+
+    @Test
+    void slowSubscriberShouldBeDisconnected() {
+        var broadcaster = new CarChangeBroadcaster(2, CarChangeBroadcaster.OverflowPolicy.DISCONNECT);
+        var slow = new SlowSubscriber();
+        broadcaster.stream().subscribe(slow);
+
+        for (int i = 1; i <= 5; i++) {
+            broadcaster.onCarChanged(event(ChangeType.UPDATED, "CAR" + i));
+        }
+        slow.request(10);
+
+        assertTrue(slow.completed);
+        assertEquals(1, broadcaster.disconnectedCount());
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void changesWithoutSubscribersShouldBeIgnored() {
+        var broadcaster = new CarChangeBroadcaster(2, CarChangeBroadcaster.OverflowPolicy.DROP);
+
+        assertDoesNotThrow(() -> broadcaster.onCarChanged(event(ChangeType.DELETED, "ABC123")));
+        assertEquals(0, broadcaster.droppedCount());
+    }
+
+    private static CarChangedEvent event(ChangeType type, String chassis) {
+        return CarChangedEvent.builder()
+                .type(type)
+                .chassis(chassis)
+                .car(CarDTO.builder().chassis(chassis).model("TOYOTA").build())
+                .sequence(7L)
+                .build();
+    }
+
+    private static final class SlowSubscriber extends BaseSubscriber<CarChangeDTO> {
+
+        private final List<CarChangeDTO> received = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        protected void hookOnSubscribe(org.reactivestreams.Subscription subscription) {
+            // request nothing until the test asks
+        }
+
+        @Override
+        protected void hookOnNext(CarChangeDTO value) {
+            this.received.add(value);
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            this.completed = true;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.jumpcar.workflow.routing;
+
+import com.jumpcar.domain.event.CarChangedEvent;
+import com.jumpcar.domain.model.enums.ChangeType;
+import com.jumpcar.domain.repository.CarReplicaRepository;
+import com.jumpcar.domain.repository.CarRepository;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.context.ServerRequestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static com.jumpcar.AppConstants.READ_CONSISTENCY_HEADER;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class CarReadRouterTest {
+
+    @Mock
+    private CarRepository carRepository;
+
+    @Mock
+    private CarReplicaRepository carReplicaRepository;
+
+    @Test
+    void readsShouldGoToPrimaryWhenReplicaIsDisabled() {
+        var router = this.router(false, Duration.ofSeconds(2));
+
+        assertSame(this.carRepository, router.forChassis("ABC123"));
+        assertSame(this.carRepository, router.forList());
+    }
+
+    @Test
+    void readsShouldGoToPrimaryWhenNoReplicaIsConfigured() {
+        var router = new CarReadRouter(this.carRepository, null, true, Duration.ofSeconds(2));
+
+        assertSame(this.carRepository, router.forChassis("ABC123"));
+        assertSame(this.carRepository, router.forList());
+    }
+
+    @Test
+    void readsShouldGoToReplicaWhenNothingWasWritten() {
+        var router = this.router(true, Duration.ofSeconds(2));
+
+        assertSame(this.carReplicaRepository, router.forChassis("ABC123"));
+        assertSame(this.carReplicaRepository, router.forList());
+    }
+
+    @Test
+    void readsAfterWriteShouldGoToPrimaryWithinWindow() {
+        var router = this.router(true, Duration.ofMinutes(1));
+
+        router.onApplicationEvent(this.event("ABC123", "OLD123"));
+
+        assertSame(this.carRepository, router.forChassis("ABC123"));
+        assertSame(this.carRepository, router.forChassis("OLD123"));
+        assertSame(this.carReplicaRepository, router.forChassis("XYZ999"));
+        assertSame(this.carRepository, router.forList());
+    }
+
+    @Test
+    void readsAfterWriteShouldGoToReplicaOnceWindowHasPassed() throws InterruptedException {
+        var router = this.router(true, Duration.ofMillis(20));
+
+        router.onApplicationEvent(this.event("ABC123", null));
+        Thread.sleep(50);
+
+        assertSame(this.carReplicaRepository, router.forChassis("ABC123"));
+        assertSame(this.carReplicaRepository, router.forList());
+    }
+
+    @Test
+    void strongConsistencyHeaderShouldRouteToPrimary() {
+        var router = this.router(true, Duration.ofSeconds(2));
+        var request = HttpRequest.GET("/car/chassis/ABC123").header(READ_CONSISTENCY_HEADER, "strong");
+
+        ServerRequestContext.with(request, () -> {
+            assertSame(this.carRepository, router.forChassis("ABC123"));
+            assertSame(this.carRepository, router.forList());
+        });
+    }
+
+    @Test
+    void listRoutingShouldStayOnTheReplicaForTheRestOfTheRequest() {
+        var router = this.router(true, Duration.ofMinutes(1));
+        var request = HttpRequest.GET("/car?fields=chassis");
+
+        ServerRequestContext.with(request, () -> {
+            assertSame(this.carReplicaRepository, router.forList());
+            router.onApplicationEvent(this.event("ABC123", null));
+            assertTrue(router.listFromReplica());
+            assertSame(this.carReplicaRepository, router.forList());
+        });
+        assertSame(this.carRepository, router.forList());
+    }
+
+    private CarReadRouter router(boolean enabled, Duration window) {
+        return new CarReadRouter(this.carRepository, this.carReplicaRepository, enabled, window);
+    }
+
+    private CarChangedEvent event(String chassis, String previousChassis) {
+        return CarChangedEvent.builder()
+                .type(ChangeType.UPDATED)
+                .chassis(chassis)
+                .previousChassis(previousChassis)
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.jumpcar.workflow.search;
+
+import com.jumpcar.domain.event.CarChangedEvent;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.dto.CarSearchCriteriaDTO;
+import com.jumpcar.domain.model.enums.ChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarSearchIndexTest {
+
+    private CarSearchIndex carSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        this.carSearchIndex = new CarSearchIndex();
+        this.carSearchIndex.put(car("C1", "Uno Mille", "Fiat", "Red", "1.0"));
+        this.carSearchIndex.put(car("C2", "Palio", "Fiat", "Red", "1.4"));
+        this.carSearchIndex.put(car("C3", "Gol", "Volkswagen", "Red", "1.0"));
+        this.carSearchIndex.put(car("C4", "Argo", "Fiat", "Black", "1.0"));
+    }
+
+    @Test
+    void searchShouldCombineFieldFiltersAndCountFacets() {
+        var result = this.carSearchIndex.search(criteria().manufacturer("fiat").color("red").engine("1.0").build());
+
+        assertEquals(1, result.getTotal());
+        assertEquals("C1", result.getContent().get(0).getChassis());
+        assertEquals(Map.of("Fiat", 1L), result.getManufacturerFacets());
+        assertEquals(Map.of("Red", 1L), result.getColorFacets());
+    }
+
+    @Test
+    void searchShouldMatchPrefixes() {
+        var result = this.carSearchIndex.search(criteria().manufacturer("volks").build());
+        assertEquals(List.of("C3"), chassis(result.getContent()));
+
+        var byModelWord = this.carSearchIndex.search(criteria().model("mil").build());
+        assertEquals(List.of("C1"), chassis(byModelWord.getContent()));
+    }
+
+    @Test
+    void searchShouldMatchFreeTextAcrossFields() {
+        var result = this.carSearchIndex.search(criteria().q("fiat red").build());
+
+        assertEquals(2, result.getTotal());
+        assertEquals(List.of("C1", "C2"), chassis(result.getContent()));
+    }
+
+    @Test
+    void searchWithoutFiltersShouldReturnEverythingWithFacetsOrderedByCount() {
+        var result = this.carSearchIndex.search(criteria().size(2).page(1).build());
+
+        assertEquals(4, result.getTotal());
+        assertEquals(List.of("C3", "C4"), chassis(result.getContent()));
+        assertEquals(List.of("Fiat", "Volkswagen"), List.copyOf(result.getManufacturerFacets().keySet()));
+        assertEquals(3L, result.getManufacturerFacets().get("Fiat"));
+    }
+
+    @Test
+    void searchShouldReturnNothingWhenAFilterMatchesNothing() {
+        var result = this.carSearchIndex.search(criteria().manufacturer("fiat").color("blue").build());
+
+        assertEquals(0, result.getTotal());
+        assertTrue(result.getContent().isEmpty());
+        assertTrue(result.getManufacturerFacets().isEmpty());
+    }
+
+    @Test
+    void onCarChangedShouldReindexUpdatesRenamesAndDeletes() {
+        this.carSearchIndex.onCarChanged(CarChangedEvent.builder()
+                .type(ChangeType.UPDATED)
+                .chassis("C9")
+                .previousChassis("C1")
+                .car(car("C9", "Uno Mille", "Fiat", "Blue", "1.0"))
+                .build());
+        this.carSearchIndex.onCarChanged(CarChangedEvent.builder()
+                .type(ChangeType.DELETED)
+                .chassis("C2")
+                .build());
+
+        assertEquals(0, this.carSearchIndex.search(criteria().color("red").manufacturer("fiat").build()).getTotal());
+        assertEquals(List.of("C9"), chassis(this.carSearchIndex.search(criteria().color("blue").build()).getContent()));
+        assertEquals(3, this.carSearchIndex.size());
+    }
+
+    @Test
+    void loadShouldNotOverwriteCarsChangedWhileLoading() {
+        var index = new CarSearchIndex();
+        index.beginLoad();
+        index.put(car("C1", "Uno", "Fiat", "Blue", "1.0"));
+        index.remove("C2");
+        index.load(List.of(car("C1", "Uno", "Fiat", "Red", "1.0"), car("C2", "Palio", "Fiat", "Red", "1.4"),
+                car("C3", "Gol", "Volkswagen", "Red", "1.0")));
+        index.endLoad();
+
+        assertEquals(2, index.size());
+        assertEquals(List.of("C3"), chassis(index.search(criteria().color("red").build()).getContent()));
+    }
+
+    @Test
+    void repeatedUpdatesShouldCompactWithoutLosingCars() {
+        for (int i = 0; i < 5_000; i++) {
+            this.carSearchIndex.put(car("C1", "Uno", "Fiat", i % 2 == 0 ? "Red" : "Blue", "1.0"));
+        }
+
+        assertEquals(4, this.carSearchIndex.size());
+        assertEquals(List.of("C1"), chassis(this.carSearchIndex.search(criteria().color("blue").build()).getContent()));
+        assertEquals(2, this.carSearchIndex.search(criteria().color("red").build()).getTotal());
+    }
+
+    private static CarSearchCriteriaDTO.CarSearchCriteriaDTOBuilder criteria() {
+        return CarSearchCriteriaDTO.builder().page(0).size(10);
+    }
+
+    private static List<String> chassis(List<CarDTO> cars) {
+        return cars.stream().map(CarDTO::getChassis).toList();
+    }
+
+    private static CarDTO car(String chassis, String model, String manufacturer, String color, String engine) {
+        return CarDTO.builder()
+                .chassis(chassis)
+                .model(model)
+                .manufacturer(manufacturer)
+                .color(color)
+                .engine(engine)
+                .build();
+    }
+}
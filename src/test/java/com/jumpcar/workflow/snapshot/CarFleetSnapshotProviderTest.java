@@ -0,0 +1,90 @@
+package com.jumpcar.workflow.snapshot;
+
+import com.jumpcar.domain.event.CarChangedEvent;
+import com.jumpcar.domain.model.entity.Car;
+import com.jumpcar.domain.repository.CarRepository;
+import io.micronaut.data.model.Pageable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CarFleetSnapshotProviderTest {
+
+    @Mock
+    private CarRepository carRepository;
+
+    @Test
+    void currentShouldLoadEveryKeysetPageOnce() {
+        when(this.carRepository.findByIdGreaterThan(eq(0L), any(Pageable.class))).thenReturn(List.of(car(1L), car(2L)));
+        when(this.carRepository.findByIdGreaterThan(eq(2L), any(Pageable.class))).thenReturn(List.of(car(3L)));
+        var provider = new CarFleetSnapshotProvider(this.carRepository, 2, Duration.ZERO);
+
+        var snapshot = provider.current();
+
+        assertEquals(3, snapshot.size());
+        assertEquals("C3", snapshot.chassis(2));
+        assertSame(snapshot, provider.current());
+        verify(this.carRepository, times(2)).findByIdGreaterThan(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void changeShouldRebuildOnlyOnceMaxStalenessHasPassed() {
+        when(this.carRepository.findByIdGreaterThan(eq(0L), any(Pageable.class))).thenReturn(List.of(car(1L)));
+        var fresh = new CarFleetSnapshotProvider(this.carRepository, 10, Duration.ofHours(1));
+        var first = fresh.current();
+
+        fresh.onCarChanged(CarChangedEvent.builder().build());
+
+        assertSame(first, fresh.current());
+
+        var eager = new CarFleetSnapshotProvider(this.carRepository, 10, Duration.ZERO);
+        var before = eager.current();
+        eager.onCarChanged(CarChangedEvent.builder().build());
+
+        assertNotSame(before, eager.current());
+    }
+
+    @Test
+    void currentShouldServePreviousSnapshotWhileAnotherCallerRebuilds() throws Exception {
+        var loading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(this.carRepository.findByIdGreaterThan(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(car(1L)))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    release.await();
+                    return List.of(car(1L), car(2L));
+                });
+        var provider = new CarFleetSnapshotProvider(this.carRepository, 10, Duration.ZERO);
+        var before = provider.current();
+        provider.onCarChanged(CarChangedEvent.builder().build());
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var rebuilding = executor.submit(provider::current);
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            provider.onCarChanged(CarChangedEvent.builder().build());
+
+            assertSame(before, provider.current());
+
+            release.countDown();
+            assertEquals(2, rebuilding.get(5, TimeUnit.SECONDS).size());
+        }
+    }
+
+    private static Car car(Long id) {
+        return Car.builder().id(id).chassis("C" + id).model("Uno").manufacturer("Fiat").color("Red").engine("1.0").version(0L).build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.jumpcar.workflow.snapshot;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.entity.Car;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static com.jumpcar.workflow.snapshot.CarFleetSnapshot.Attribute.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarFleetSnapshotTest {
+
+    private final CarFleetSnapshot snapshot = CarFleetSnapshot.builder(2)
+            .add(car(1L, "C1", "Uno", "Fiat", "Red"))
+            .add(car(2L, "C2", "Palio", "Fiat", "Red"))
+            .add(car(3L, "C3", "Gol", "Volkswagen", "Red"))
+            .add(car(4L, "Ç4", "Argo", "Fiat", null))
+            .build();
+
+    @Test
+    void carShouldRoundTripEveryColumn() {
+        var created = LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123_456_789);
+        var car = Car.builder().id(7L).model("Onix").manufacturer("Chevrolet").color("Black").engine("1.0")
+                .chassis("9BW123").version(3L).dateCreated(created).build();
+
+        var single = CarFleetSnapshot.builder(1).add(car).build().car(0);
+
+        assertEquals(CarDTO.builder().id(7L).model("Onix").manufacturer("Chevrolet").color("Black").engine("1.0")
+                .chassis("9BW123").version(3L).dateCreated(created).build(), single);
+    }
+
+    @Test
+    void valuesShouldBeStoredOncePerAttribute() {
+        assertEquals(4, this.snapshot.size());
+        assertEquals(2, this.snapshot.dictionarySize(MANUFACTURER));
+        assertEquals(1, this.snapshot.dictionarySize(COLOR));
+        assertNull(this.snapshot.value(3, COLOR));
+        assertEquals("Ç4", this.snapshot.chassis(3));
+    }
+
+    @Test
+    void sliceShouldReturnRowsInOrder() {
+        assertEquals(List.of("C2", "C3"), chassis(this.snapshot.slice(1, 2)));
+        assertEquals(List.of("Ç4"), chassis(this.snapshot.slice(3, 10)));
+        assertTrue(this.snapshot.slice(4, 10).isEmpty());
+    }
+
+    @Test
+    void filtersShouldCombineAsBitSets() {
+        BitSet rows = this.snapshot.rowsWhere(MANUFACTURER, "fiat");
+        rows.and(this.snapshot.rowsWhere(COLOR, "RED"));
+
+        assertEquals(List.of("C1", "C2"), chassis(this.snapshot.cars(rows, 0, 10)));
+        assertEquals(List.of("C2"), chassis(this.snapshot.cars(rows, 1, 10)));
+        assertTrue(this.snapshot.rowsWhere(MANUFACTURER, "Ford").isEmpty());
+    }
+
+    @Test
+    void chassisSearchShouldMatchSubstrings() {
+        assertEquals(List.of("C3"), chassis(this.snapshot.cars(this.snapshot.rowsWithChassisContaining("3"), 0, 10)));
+        assertEquals(List.of("Ç4"), chassis(this.snapshot.cars(this.snapshot.rowsWithChassisContaining("Ç"), 0, 10)));
+    }
+
+    @Test
+    void countByShouldOrderByCountAndSkipMissingValues() {
+        assertEquals(List.of(Map.entry("Fiat", 3L), Map.entry("Volkswagen", 1L)),
+                List.copyOf(this.snapshot.countBy(MANUFACTURER).entrySet()));
+        assertEquals(Map.of("Red", 3L), this.snapshot.countBy(COLOR));
+        assertEquals(Map.of("Red", 1L), this.snapshot.countBy(COLOR, this.snapshot.rowsWhere(MANUFACTURER, "Volkswagen")));
+    }
+
+    @Test
+    void parallelCountByShouldMatchSequentialCount() {
+        var builder = CarFleetSnapshot.builder(200_000);
+        for (long i = 0; i < 200_000; i++) {
+            builder.add(CarDTO.builder().id(i).chassis("C" + i).color(i % 3 == 0 ? "Red" : "Blue")
+                    .dateCreated(LocalDateTime.of(2024, 1 + (int) (i % 2), 1, 0, 0)).build());
+        }
+        var large = builder.build();
+
+        assertEquals(large.countBy(COLOR), large.parallelCountBy(COLOR));
+        assertEquals(Map.of("2024-01", 100_000L, "2024-02", 100_000L), large.parallelCountBy(CREATED_MONTH));
+        assertTrue(CarFleetSnapshot.empty().parallelCountBy(COLOR).isEmpty());
+    }
+
+    @Test
+    void emptySnapshotShouldAnswerEveryQuery() {
+        var empty = CarFleetSnapshot.empty();
+
+        assertEquals(0, empty.size());
+        assertTrue(empty.slice(0, 10).isEmpty());
+        assertTrue(empty.countBy(MODEL).isEmpty());
+        assertTrue(empty.rowsWithChassisContaining("A").isEmpty());
+    }
+
+    private static CarDTO car(Long id, String chassis, String model, String manufacturer, String color) {
+        return CarDTO.builder().id(id).chassis(chassis).model(model).manufacturer(manufacturer).color(color).engine("1.0").version(0L).build();
+    }
+
+    private static List<String> chassis(List<CarDTO> cars) {
+        return cars.stream().map(CarDTO::getChassis).toList();
+    }
+}
@@ -0,0 +1,81 @@
+package com.jumpcar.workflow.stats;
+
+import com.jumpcar.domain.event.CarChangedEvent;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.enums.ChangeType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static com.jumpcar.domain.model.enums.StatsDimension.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarStatsCountersTest {
+
+    private final CarStatsCounters counters = new CarStatsCounters();
+
+    @Test
+    void loadShouldCountEveryDimension() {
+        this.counters.load(List.of(car("C1", "FIAT", "RED"), car("C2", "FIAT", "BLACK"), car("C3", "FORD", "RED")));
+
+        assertEquals(3, this.counters.total());
+        assertEquals(List.of("FIAT", "FORD"), List.copyOf(this.counters.counts(MANUFACTURER).keySet()));
+        assertEquals(Map.of("RED", 2L, "BLACK", 1L), this.counters.counts(COLOR));
+        assertEquals(Map.of("1.0", 3L), this.counters.counts(ENGINE));
+        assertEquals(Map.of("2024-05", 3L), this.counters.counts(MONTH));
+    }
+
+    @Test
+    void updateShouldMoveTheCarBetweenValues() {
+        this.counters.load(List.of(car("C1", "FIAT", "RED"), car("C2", "FIAT", "RED")));
+
+        this.counters.onCarChanged(event(ChangeType.UPDATED, "C1", null, car("C1", "FIAT", "BLUE")));
+
+        assertEquals(2, this.counters.total());
+        assertEquals(Map.of("RED", 1L, "BLUE", 1L), this.counters.counts(COLOR));
+    }
+
+    @Test
+    void renameAndDeleteShouldTakeTheOldValuesOut() {
+        this.counters.load(List.of(car("C1", "FIAT", "RED"), car("C2", "FORD", "RED")));
+
+        this.counters.onCarChanged(event(ChangeType.UPDATED, "C9", "C1", car("C9", "FIAT", "RED")));
+        this.counters.onCarChanged(event(ChangeType.DELETED, "C2", null, null));
+
+        assertEquals(1, this.counters.total());
+        assertEquals(Map.of("FIAT", 1L), this.counters.counts(MANUFACTURER));
+        assertEquals(Map.of("RED", 1L), this.counters.counts(COLOR));
+    }
+
+    @Test
+    void loadShouldNotRecountCarsAlreadyCountedFromEvents() {
+        this.counters.onCarChanged(event(ChangeType.CREATED, "C1", null, car("C1", "FIAT", "BLUE")));
+
+        this.counters.load(List.of(car("C1", "FIAT", "RED")));
+
+        assertEquals(Map.of("BLUE", 1L), this.counters.counts(COLOR));
+    }
+
+    @Test
+    void loadShouldSkipCarsDeletedWhileLoading() {
+        this.counters.beginLoad();
+        this.counters.onCarChanged(event(ChangeType.DELETED, "C1", null, null));
+
+        this.counters.load(List.of(car("C1", "FIAT", "RED"), car("C2", "FORD", "RED")));
+        this.counters.endLoad();
+
+        assertEquals(1, this.counters.total());
+        assertEquals(Map.of("FORD", 1L), this.counters.counts(MANUFACTURER));
+    }
+
+    private static CarChangedEvent event(ChangeType type, String chassis, String previousChassis, CarDTO car) {
+        return CarChangedEvent.builder().type(type).chassis(chassis).previousChassis(previousChassis).car(car).build();
+    }
+
+    private static CarDTO car(String chassis, String manufacturer, String color) {
+        return CarDTO.builder().chassis(chassis).manufacturer(manufacturer).model("UNO").color(color).engine("1.0")
+                .dateCreated(LocalDateTime.of(2024, 5, 10, 8, 0)).build();
+    }
+}
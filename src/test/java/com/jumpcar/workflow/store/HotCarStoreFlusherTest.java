@@ -0,0 +1,229 @@
+package com.jumpcar.workflow.store;
+
+import com.jumpcar.domain.exception.ConcurrencyLimitException;
+import com.jumpcar.domain.model.dto.CarDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HotCarStoreFlusherTest {
+
+    @Mock
+    private HotCarStoreWriter hotCarStoreWriter;
+
+    private final HotCarStore store = new HotCarStore(100, Duration.ofMillis(10));
+
+    @Test
+    void flushShouldWriteQueuedChangesInOrderAndAssignIds() {
+        var database = new FakeDatabase();
+        when(this.hotCarStoreWriter.write(anyList())).thenAnswer(invocation -> database.write(invocation.getArgument(0)));
+        var flusher = this.flusher(2);
+
+        this.store.create("ABC123", car("ABC123"));
+        this.store.update("ABC123", null, CarDTO.builder().color("RED").build());
+        this.store.create("XYZ789", car("XYZ789"));
+        flusher.flush();
+
+        assertEquals(0, this.store.pendingCount());
+        assertEquals("RED", database.rows.get("ABC123").getColor());
+        assertEquals(database.rows.get("XYZ789").getId(), this.store.get("XYZ789").getId());
+        verify(this.hotCarStoreWriter, times(2)).write(anyList());
+    }
+
+    @Test
+    void carRenamedBeforeItsInsertWasFlushedShouldGetItsId() {
+        var database = new FakeDatabase();
+        when(this.hotCarStoreWriter.write(anyList())).thenAnswer(invocation -> database.write(invocation.getArgument(0)));
+        var flusher = this.flusher(1);
+
+        this.store.create("ABC123", car("ABC123"));
+        this.store.update("ABC123", "DEF456", CarDTO.builder().build());
+        flusher.flush();
+
+        var renamed = this.store.get("DEF456");
+        assertEquals(database.rows.get("DEF456").getId(), renamed.getId());
+        assertEquals(List.of(renamed), this.store.after(0, 10));
+        assertEquals(renamed.getId(), this.store.state().getMaxId());
+    }
+
+    @Test
+    void failedBatchShouldBeRetriedWithoutLosingWrites() {
+        var database = new FakeDatabase();
+        when(this.hotCarStoreWriter.write(anyList()))
+                .thenThrow(new IllegalStateException("constraint violation"))
+                .thenAnswer(invocation -> database.write(invocation.getArgument(0)));
+        var flusher = this.flusher(10);
+
+        this.store.create("ABC123", car("ABC123"));
+        flusher.flush();
+        assertTrue(database.rows.isEmpty());
+
+        this.store.create("XYZ789", car("XYZ789"));
+        flusher.flush();
+
+        assertEquals(List.of("ABC123", "XYZ789"), new ArrayList<>(database.rows.keySet()));
+        assertEquals(0, flusher.droppedCount());
+    }
+
+    @Test
+    void writeThatKeepsFailingShouldBeDroppedAfterMaxAttempts() {
+        var database = new FakeDatabase();
+        when(this.hotCarStoreWriter.write(anyList())).thenAnswer(invocation -> {
+            List<PendingWrite> writes = invocation.getArgument(0);
+            if (writes.stream().anyMatch(write -> write.chassis().equals("BAD000"))) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return database.write(writes);
+        });
+        var flusher = this.flusher(10);
+
+        this.store.create("ABC123", car("ABC123"));
+        this.store.create("BAD000", car("BAD000"));
+        flusher.flush();
+        flusher.flush();
+
+        assertTrue(database.rows.containsKey("ABC123"));
+        assertFalse(database.rows.containsKey("BAD000"));
+        assertEquals(1, flusher.droppedCount());
+    }
+
+    @Test
+    void lonePoisonWriteShouldBeDroppedWithoutBlockingTheQueue() {
+        var database = new FakeDatabase();
+        when(this.hotCarStoreWriter.write(anyList())).thenAnswer(invocation -> {
+            List<PendingWrite> writes = invocation.getArgument(0);
+            if (writes.stream().anyMatch(write -> write.chassis().equals("BAD000"))) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return database.write(writes);
+        });
+        var flusher = this.flusher(10);
+
+        this.store.create("BAD000", car("BAD000"));
+        flusher.flush();
+        flusher.flush();
+        this.store.create("ABC123", car("ABC123"));
+        flusher.flush();
+
+        assertEquals(List.of("ABC123"), new ArrayList<>(database.rows.keySet()));
+        assertEquals(1, flusher.droppedCount());
+        assertEquals(0, this.store.pendingCount());
+    }
+
+    @Test
+    void connectionFailuresShouldNeverDropWrites() {
+        var database = new FakeDatabase();
+        var unavailable = new IllegalStateException(new SQLTransientConnectionException("Connection is not available, request timed out"));
+        when(this.hotCarStoreWriter.write(anyList()))
+                .thenThrow(unavailable, unavailable, unavailable, unavailable)
+                .thenAnswer(invocation -> database.write(invocation.getArgument(0)));
+        var flusher = this.flusher(10);
+
+        this.store.create("ABC123", car("ABC123"));
+        for (int i = 0; i < 5; i++) {
+            flusher.flush();
+        }
+
+        assertTrue(database.rows.containsKey("ABC123"));
+        assertEquals(0, flusher.droppedCount());
+    }
+
+    @Test
+    void isTransientShouldTellConnectionFailuresFromDataFailures() {
+        assertTrue(HotCarStoreFlusher.isTransient(new IllegalStateException(new SQLTransientConnectionException("timeout"))));
+        assertTrue(HotCarStoreFlusher.isTransient(new SQLException("connection refused", "08001")));
+        assertFalse(HotCarStoreFlusher.isTransient(new SQLException("unique index violation", "23505")));
+        assertFalse(HotCarStoreFlusher.isTransient(new IllegalStateException("constraint violation")));
+    }
+
+    @Test
+    void closeShouldFlushEverythingAndRejectLaterWrites() throws InterruptedException {
+        var database = new FakeDatabase();
+        when(this.hotCarStoreWriter.write(anyList())).thenAnswer(invocation -> database.write(invocation.getArgument(0)));
+        var flusher = this.flusher(1);
+
+        this.store.create("ABC123", car("ABC123"));
+        this.store.create("XYZ789", car("XYZ789"));
+        this.store.delete("ABC123");
+        flusher.close();
+
+        assertEquals(List.of("XYZ789"), new ArrayList<>(database.rows.keySet()));
+        assertThrows(ConcurrencyLimitException.class, () -> this.store.create("DEF456", car("DEF456")));
+    }
+
+    @Test
+    void storeRebuiltAfterCrashShouldMatchLastFlushedState() {
+        var database = new FakeDatabase();
+        when(this.hotCarStoreWriter.write(anyList())).thenAnswer(invocation -> database.write(invocation.getArgument(0)));
+        var flusher = this.flusher(10);
+
+        this.store.create("ABC123", car("ABC123"));
+        this.store.create("XYZ789", car("XYZ789"));
+        flusher.flush();
+        this.store.update("ABC123", null, CarDTO.builder().color("RED").build());
+        this.store.delete("XYZ789");
+        // process dies here, before the next flush
+
+        var rebuilt = new HotCarStore(100, Duration.ofMillis(10));
+        rebuilt.load(database.rows.values());
+
+        assertEquals("BLACK", rebuilt.get("ABC123").getColor());
+        assertNotNull(rebuilt.get("XYZ789"));
+        assertEquals(0, rebuilt.pendingCount());
+        assertEquals(database.rows.get("ABC123").getId(), rebuilt.get("ABC123").getId());
+    }
+
+    private HotCarStoreFlusher flusher(int batchSize) {
+        return new HotCarStoreFlusher(this.store, this.hotCarStoreWriter, batchSize, 2,
+                Duration.ofMillis(1), Duration.ofSeconds(1));
+    }
+
+    private static CarDTO car(String chassis) {
+        return CarDTO.builder()
+                .chassis(chassis)
+                .model("COROLLA")
+                .manufacturer("TOYOTA")
+                .color("BLACK")
+                .engine("2.0")
+                .build();
+    }
+
+    /**
+     * Applies writes the way {@link HotCarStoreWriter} does: upsert by chassis, ids on insert.
+     */
+    private static final class FakeDatabase {
+
+        private final Map<String, CarDTO> rows = new LinkedHashMap<>();
+        private long nextId = 1;
+
+        Map<Long, Long> write(List<PendingWrite> writes) {
+            var ids = new LinkedHashMap<Long, Long>();
+            for (var write : writes) {
+                var existing = this.rows.remove(write.previousChassis() != null ? write.previousChassis() : write.chassis());
+                if (write.car() == null) {
+                    continue;
+                }
+                var id = existing != null ? existing.getId() : this.nextId++;
+                if (existing == null && write.pendingKey() != null) {
+                    ids.put(write.pendingKey(), id);
+                }
+                this.rows.put(write.chassis(), write.car().toBuilder().id(id).build());
+            }
+            return ids;
+        }
+    }
+}
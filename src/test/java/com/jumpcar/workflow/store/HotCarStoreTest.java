@@ -0,0 +1,161 @@
+package com.jumpcar.workflow.store;
+
+import com.jumpcar.domain.event.CarChangedEvent;
+import com.jumpcar.domain.exception.BusinessException;
+import com.jumpcar.domain.exception.ConcurrencyLimitException;
+import com.jumpcar.domain.exception.ConflictException;
+import com.jumpcar.domain.exception.NotFoundException;
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.model.enums.ChangeType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotCarStoreTest {
+
+    private final HotCarStore store = new HotCarStore(100, Duration.ofMillis(10));
+
+    @Test
+    void createShouldServeCarAndQueueWrite() {
+        var created = this.store.create("ABC123", car("ABC123", "COROLLA"));
+
+        assertSame(created, this.store.get("ABC123"));
+        assertEquals(0L, created.getVersion());
+        assertNull(created.getId());
+        assertEquals(List.of(created), this.store.list());
+        assertTrue(this.store.after(0, 10).isEmpty());
+        assertEquals(List.of(new PendingWrite("ABC123", null, created, 1L)), this.drain());
+        assertThrows(BusinessException.class, () -> this.store.create("ABC123", car("ABC123", "YARIS")));
+    }
+
+    @Test
+    void assignIdShouldMoveCarIntoIdOrder() {
+        this.store.create("ABC123", car("ABC123", "COROLLA"));
+
+        this.store.assignId(this.drain().get(0).pendingKey(), 7L);
+
+        assertEquals(7L, this.store.get("ABC123").getId());
+        assertEquals(1, this.store.after(0, 10).size());
+        assertEquals(7L, this.store.state().getMaxId());
+    }
+
+    @Test
+    void assignIdShouldFindCarRenamedBeforeItsInsertWasFlushed() {
+        this.store.create("ABC123", car("ABC123", "COROLLA"));
+        this.store.update("ABC123", "DEF456", CarDTO.builder().build());
+        this.store.create("ABC123", car("ABC123", "YARIS"));
+        var writes = this.drain();
+
+        assertEquals(writes.get(0).pendingKey(), writes.get(1).pendingKey());
+        assertNotEquals(writes.get(0).pendingKey(), writes.get(2).pendingKey());
+        this.store.assignId(writes.get(0).pendingKey(), 7L);
+
+        assertEquals(7L, this.store.get("DEF456").getId());
+        assertNull(this.store.get("ABC123").getId());
+        assertEquals(List.of(this.store.get("DEF456")), this.store.after(0, 10));
+    }
+
+    @Test
+    void updateShouldPatchFieldsAndCheckVersion() {
+        this.store.load(List.of(car("ABC123", "COROLLA").toBuilder().id(1L).version(3L).build()));
+
+        var updated = this.store.update("ABC123", null, CarDTO.builder().color("RED").version(3L).build());
+
+        assertEquals("COROLLA", updated.getModel());
+        assertEquals("RED", updated.getColor());
+        assertEquals(4L, updated.getVersion());
+        assertEquals(4L, this.store.state().getVersionSum());
+        assertThrows(ConflictException.class, () -> this.store.update("ABC123", null, CarDTO.builder().version(3L).build()));
+        assertThrows(NotFoundException.class, () -> this.store.update("XYZ789", null, CarDTO.builder().build()));
+    }
+
+    @Test
+    void renameShouldMoveCarAndRecordPreviousChassis() {
+        this.store.load(List.of(car("ABC123", "COROLLA").toBuilder().id(1L).version(0L).build(),
+                car("XYZ789", "YARIS").toBuilder().id(2L).version(0L).build()));
+
+        assertThrows(BusinessException.class, () -> this.store.update("ABC123", "XYZ789", CarDTO.builder().build()));
+        this.store.update("ABC123", "DEF456", CarDTO.builder().build());
+
+        assertNull(this.store.get("ABC123"));
+        assertEquals(1L, this.store.get("DEF456").getId());
+        var writes = this.drain();
+        assertEquals(1, writes.size());
+        assertEquals("ABC123", writes.get(0).previousChassis());
+    }
+
+    @Test
+    void upsertShouldCreateOrPatchWithoutVersionCheck() {
+        this.store.load(List.of(car("ABC123", "COROLLA").toBuilder().id(1L).version(3L).build()));
+
+        assertTrue(this.store.upsert("ABC123", CarDTO.builder().color("RED").version(0L).build()));
+        assertFalse(this.store.upsert("XYZ789", car("XYZ789", "UNO")));
+
+        assertEquals("COROLLA", this.store.get("ABC123").getModel());
+        assertEquals("RED", this.store.get("ABC123").getColor());
+        assertEquals(4L, this.store.get("ABC123").getVersion());
+        assertEquals(0L, this.store.get("XYZ789").getVersion());
+        assertEquals(2, this.drain().size());
+    }
+
+    @Test
+    void deleteShouldQueueTombstone() {
+        this.store.load(List.of(car("ABC123", "COROLLA").toBuilder().id(1L).version(0L).build()));
+
+        assertTrue(this.store.delete("ABC123"));
+        assertFalse(this.store.delete("ABC123"));
+
+        assertNull(this.store.get("ABC123"));
+        assertEquals(0, this.store.size());
+        assertEquals(List.of(new PendingWrite("ABC123", null, null, null)), this.drain());
+    }
+
+    @Test
+    void fullQueueShouldRejectWritesWithoutApplyingThem() {
+        var small = new HotCarStore(1, Duration.ofMillis(10));
+        small.create("ABC123", car("ABC123", "COROLLA"));
+
+        assertThrows(ConcurrencyLimitException.class, () -> small.create("XYZ789", car("XYZ789", "YARIS")));
+        assertNull(small.get("XYZ789"));
+    }
+
+    @Test
+    void closedStoreShouldRejectWrites() {
+        this.store.close();
+
+        assertThrows(ConcurrencyLimitException.class, () -> this.store.create("ABC123", car("ABC123", "COROLLA")));
+    }
+
+    @Test
+    void externalChangesShouldApplyButWriteBehindChangesShouldNot() {
+        var external = car("ABC123", "COROLLA").toBuilder().id(1L).version(0L).build();
+        this.store.onCarChanged(CarChangedEvent.builder().type(ChangeType.CREATED).chassis("ABC123").car(external).build());
+        this.store.onCarChanged(CarChangedEvent.builder().type(ChangeType.DELETED).chassis("ABC123").writeBehind(true).build());
+
+        assertSame(external, this.store.get("ABC123"));
+        assertTrue(this.drain().isEmpty());
+
+        this.store.onCarChanged(CarChangedEvent.builder().type(ChangeType.DELETED).chassis("ABC123").build());
+        assertNull(this.store.get("ABC123"));
+    }
+
+    private List<PendingWrite> drain() {
+        var writes = new ArrayList<PendingWrite>();
+        this.store.drainTo(writes, 100);
+        return writes;
+    }
+
+    private static CarDTO car(String chassis, String model) {
+        return CarDTO.builder()
+                .chassis(chassis)
+                .model(model)
+                .manufacturer("TOYOTA")
+                .color("BLACK")
+                .engine("2.0")
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.jumpcar.workflow.store;
+
+import com.jumpcar.domain.model.dto.CarDTO;
+import com.jumpcar.domain.repository.CarRepository;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest(transactional = false)
+@Property(name = "datasources.default.url", value = "jdbc:h2:mem:hot-car-store-writer;DB_CLOSE_DELAY=-1")
+@Property(name = "car.store.mode", value = "memory")
+@Property(name = "car.store.flush-interval", value = "1h")
+class HotCarStoreWriterTest {
+
+    @Inject
+    private HotCarStore store;
+
+    @Inject
+    private HotCarStoreFlusher flusher;
+
+    @Inject
+    private CarRepository carRepository;
+
+    @AfterEach
+    void tearDown() {
+        this.carRepository.deleteAll();
+    }
+
+    @Test
+    void storeRebuiltFromDatabaseShouldMatchLastFlushedState() {
+        this.store.create("ABC123", car("ABC123"));
+        this.store.create("XYZ789", car("XYZ789"));
+        this.flusher.flush();
+
+        this.store.update("ABC123", null, CarDTO.builder().color("RED").build());
+        this.store.update("XYZ789", "DEF456", CarDTO.builder().chassis("DEF456").build());
+        this.store.create("GHI111", car("GHI111"));
+        this.store.delete("GHI111");
+        this.flusher.flush();
+        var flushed = this.store.get("ABC123");
+
+        this.store.update("ABC123", null, CarDTO.builder().color("BLUE").build());
+        // process dies here, before the next flush
+
+        var rebuilt = new HotCarStore(100, Duration.ofMillis(10));
+        new HotCarStoreLoader(this.carRepository, rebuilt, 1).load();
+
+        assertEquals(2, rebuilt.size());
+        assertEquals("RED", rebuilt.get("ABC123").getColor());
+        assertEquals(flushed.getId(), rebuilt.get("ABC123").getId());
+        assertEquals(flushed.getVersion(), rebuilt.get("ABC123").getVersion());
+        assertEquals(this.store.get("DEF456").getId(), rebuilt.get("DEF456").getId());
+        assertNull(rebuilt.get("XYZ789"));
+        assertNull(rebuilt.get("GHI111"));
+        assertEquals(0, rebuilt.pendingCount());
+    }
+
+    @Test
+    void carRenamedBeforeItsInsertWasFlushedShouldGetTheRowId() {
+        this.store.create("ABC123", car("ABC123"));
+        this.store.update("ABC123", "DEF456", CarDTO.builder().chassis("DEF456").build());
+        this.flusher.flush();
+
+        var row = this.carRepository.findByChassis("DEF456").orElseThrow();
+        assertEquals(row.getId(), this.store.get("DEF456").getId());
+        assertEquals(row.getId(), this.store.state().getMaxId());
+        assertFalse(this.carRepository.existsByChassis("ABC123"));
+    }
+
+    private static CarDTO car(String chassis) {
+        return CarDTO.builder()
+                .chassis(chassis)
+                .model("COROLLA")
+                .manufacturer("TOYOTA")
+                .color("BLACK")
+                .engine("2.0")
+                .build();
+    }
+}